@@ -1,6 +1,8 @@
 package org.acme.bedallocation.domain;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
 import ai.timefold.solver.core.api.domain.solution.PlanningScore;
@@ -109,4 +111,66 @@ public class BedPlan {
         this.solverStatus = solverStatus;
     }
 
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    /**
+     * Numbers the equipments and specialties, so the equipments of the rooms and stays become bitmasks
+     * and the specialty priorities of every department an array by specialty.
+     * Then the equipment and specialty constraints no longer search lists or hash maps.
+     * Call it after setting all the problem facts, before solving.
+     */
+    public void indexEquipmentsAndSpecialties() {
+        Map<String, Integer> equipmentToIndex = new HashMap<>();
+        Map<String, Integer> specialtyToIndex = new HashMap<>();
+        for (Department department : departments) {
+            department.getSpecialtyToPriority().keySet()
+                    .forEach(specialty -> specialtyToIndex.putIfAbsent(specialty, specialtyToIndex.size()));
+            if (department.getRooms() != null) {
+                for (Room room : department.getRooms()) {
+                    room.getEquipments()
+                            .forEach(equipment -> equipmentToIndex.putIfAbsent(equipment, equipmentToIndex.size()));
+                }
+            }
+        }
+        for (Stay stay : stays) {
+            stay.getPatientRequiredEquipments()
+                    .forEach(equipment -> equipmentToIndex.putIfAbsent(equipment, equipmentToIndex.size()));
+            stay.getPatientPreferredEquipments()
+                    .forEach(equipment -> equipmentToIndex.putIfAbsent(equipment, equipmentToIndex.size()));
+            if (stay.getSpecialty() != null) {
+                specialtyToIndex.putIfAbsent(stay.getSpecialty(), specialtyToIndex.size());
+            }
+        }
+        int equipmentMaskLength = Math.max(1, (equipmentToIndex.size() + Long.SIZE - 1) / Long.SIZE);
+        for (Department department : departments) {
+            int[] specialtyPriorities = new int[specialtyToIndex.size()];
+            department.getSpecialtyToPriority()
+                    .forEach((specialty, priority) -> specialtyPriorities[specialtyToIndex.get(specialty)] = priority);
+            department.setSpecialtyPriorities(specialtyPriorities);
+            if (department.getRooms() != null) {
+                for (Room room : department.getRooms()) {
+                    room.setEquipmentMask(toEquipmentMask(room.getEquipments(), equipmentToIndex, equipmentMaskLength));
+                }
+            }
+        }
+        for (Stay stay : stays) {
+            stay.setRequiredEquipmentMask(
+                    toEquipmentMask(stay.getPatientRequiredEquipments(), equipmentToIndex, equipmentMaskLength));
+            stay.setPreferredEquipmentMask(
+                    toEquipmentMask(stay.getPatientPreferredEquipments(), equipmentToIndex, equipmentMaskLength));
+            stay.setSpecialtyIndex(stay.getSpecialty() == null ? -1 : specialtyToIndex.get(stay.getSpecialty()));
+        }
+    }
+
+    private static long[] toEquipmentMask(List<String> equipments, Map<String, Integer> equipmentToIndex,
+            int equipmentMaskLength) {
+        long[] equipmentMask = new long[equipmentMaskLength];
+        for (String equipment : equipments) {
+            int index = equipmentToIndex.get(equipment);
+            equipmentMask[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+        }
+        return equipmentMask;
+    }
 }
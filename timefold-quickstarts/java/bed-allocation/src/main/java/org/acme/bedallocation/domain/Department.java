@@ -9,6 +9,7 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 @JsonIdentityInfo(scope = Department.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
@@ -17,6 +18,14 @@ public class Department {
     @PlanningId
     private String id;
     private Map<String, Integer> specialtyToPriority;
+    /**
+     * The priority of every specialty by {@link Stay#getSpecialtyIndex()},
+     * 0 for the specialties that aren't in {@link #specialtyToPriority}, null until they're indexed.
+     *
+     * @see BedPlan#indexEquipmentsAndSpecialties()
+     */
+    @JsonIgnore
+    private int[] specialtyPriorities;
     private String name;
     private Integer minimumAge = null;
     private Integer maximumAge = null;
@@ -71,6 +80,15 @@ public class Department {
 
     public void setSpecialtyToPriority(Map<String, Integer> specialtyToPriority) {
         this.specialtyToPriority = specialtyToPriority;
+        this.specialtyPriorities = null;
+    }
+
+    public int[] getSpecialtyPriorities() {
+        return specialtyPriorities;
+    }
+
+    public void setSpecialtyPriorities(int[] specialtyPriorities) {
+        this.specialtyPriorities = specialtyPriorities;
     }
 
     public String getId() {
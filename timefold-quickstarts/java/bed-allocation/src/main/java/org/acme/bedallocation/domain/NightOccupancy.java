@@ -0,0 +1,158 @@
+package org.acme.bedallocation.domain;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The number of stays per night in a bed or a room, by {@link Stay#getArrivalNight() night index}.
+ * <p>
+ * Keeps the counts in arrays that grow to cover the nights of the stays added so far,
+ * and updates the number of pairs of stays that share a night as stays are added or removed,
+ * so it never compares two stays.
+ * Only {@link #getSameNightStays()} and {@link #getDifferentGenderSameNightStays()},
+ * which justify the pair counts, look at the stays.
+ */
+public class NightOccupancy {
+
+    private static final int GENDER_INDEX_COUNT = Gender.values().length + 1;
+
+    /**
+     * The night of index 0 in the arrays.
+     */
+    private int firstNight = 0;
+    private int[] stayCounts = new int[0];
+    /**
+     * The stay counts by {@link #genderIndex(Gender)}, then by night.
+     */
+    private final int[][] genderStayCounts = new int[GENDER_INDEX_COUNT][0];
+    private int sameNightPairCount = 0;
+    private int differentGenderSameNightPairCount = 0;
+    private final Set<Stay> stays = new LinkedHashSet<>();
+
+    public void add(Stay stay) {
+        stays.add(stay);
+        int startNight = stay.getArrivalNight();
+        int endNight = stay.getEndNight();
+        ensureNights(startNight, endNight);
+        int[] sameGenderStayCounts = genderStayCounts[genderIndex(stay.getPatientGender())];
+        for (int i = startNight - firstNight; i < endNight - firstNight; i++) {
+            sameNightPairCount += stayCounts[i];
+            differentGenderSameNightPairCount += stayCounts[i] - sameGenderStayCounts[i];
+            stayCounts[i]++;
+            sameGenderStayCounts[i]++;
+        }
+    }
+
+    /**
+     * @param stay previously {@link #add(Stay) added}, with the same nights and gender
+     */
+    public void remove(Stay stay) {
+        stays.remove(stay);
+        int[] sameGenderStayCounts = genderStayCounts[genderIndex(stay.getPatientGender())];
+        for (int i = stay.getArrivalNight() - firstNight; i < stay.getEndNight() - firstNight; i++) {
+            stayCounts[i]--;
+            sameGenderStayCounts[i]--;
+            sameNightPairCount -= stayCounts[i];
+            differentGenderSameNightPairCount -= stayCounts[i] - sameGenderStayCounts[i];
+        }
+    }
+
+    /**
+     * @return the stays that share a night with another stay, in the order they were added
+     */
+    public List<Stay> getSameNightStays() {
+        List<Stay> sameNightStays = new ArrayList<>();
+        for (Stay stay : stays) {
+            for (int i = stay.getArrivalNight() - firstNight; i < stay.getEndNight() - firstNight; i++) {
+                if (stayCounts[i] > 1) {
+                    sameNightStays.add(stay);
+                    break;
+                }
+            }
+        }
+        return sameNightStays;
+    }
+
+    /**
+     * @return the stays that share a night with a stay whose patient has a different gender,
+     *         in the order they were added
+     */
+    public List<Stay> getDifferentGenderSameNightStays() {
+        List<Stay> differentGenderStays = new ArrayList<>();
+        for (Stay stay : stays) {
+            int[] sameGenderStayCounts = genderStayCounts[genderIndex(stay.getPatientGender())];
+            for (int i = stay.getArrivalNight() - firstNight; i < stay.getEndNight() - firstNight; i++) {
+                if (stayCounts[i] > sameGenderStayCounts[i]) {
+                    differentGenderStays.add(stay);
+                    break;
+                }
+            }
+        }
+        return differentGenderStays;
+    }
+
+    private static int genderIndex(Gender gender) {
+        return gender == null ? GENDER_INDEX_COUNT - 1 : gender.ordinal();
+    }
+
+    /**
+     * Grows the arrays to cover the nights [startNight, endNight), with slack in the direction they grow.
+     */
+    private void ensureNights(int startNight, int endNight) {
+        if (stayCounts.length == 0) {
+            firstNight = startNight;
+            resize(startNight, endNight);
+            return;
+        }
+        int lastNightEnd = firstNight + stayCounts.length;
+        if (startNight >= firstNight && endNight <= lastNightEnd) {
+            return;
+        }
+        int slack = stayCounts.length / 2;
+        int newFirstNight = startNight < firstNight ? startNight - slack : firstNight;
+        int newLastNightEnd = endNight > lastNightEnd ? endNight + slack : lastNightEnd;
+        resize(newFirstNight, newLastNightEnd);
+    }
+
+    private void resize(int newFirstNight, int newLastNightEnd) {
+        int newLength = newLastNightEnd - newFirstNight;
+        int shift = firstNight - newFirstNight;
+        stayCounts = copy(stayCounts, newLength, shift);
+        for (int i = 0; i < genderStayCounts.length; i++) {
+            genderStayCounts[i] = copy(genderStayCounts[i], newLength, shift);
+        }
+        firstNight = newFirstNight;
+    }
+
+    private static int[] copy(int[] counts, int newLength, int shift) {
+        int[] newCounts = new int[newLength];
+        System.arraycopy(counts, 0, newCounts, shift, counts.length);
+        return newCounts;
+    }
+
+    /**
+     * @param night a night index, such as {@link Stay#getArrivalNight()}
+     * @return the number of stays that include the night
+     */
+    public int getStayCount(int night) {
+        int i = night - firstNight;
+        return i < 0 || i >= stayCounts.length ? 0 : stayCounts[i];
+    }
+
+    /**
+     * @return the sum over all nights of the number of pairs of stays that include the night
+     */
+    public int getSameNightPairCount() {
+        return sameNightPairCount;
+    }
+
+    /**
+     * @return the sum over all nights of the number of pairs of stays that include the night
+     *         and whose patients have a different gender
+     */
+    public int getDifferentGenderSameNightPairCount() {
+        return differentGenderSameNightPairCount;
+    }
+}
@@ -0,0 +1,59 @@
+package org.acme.bedallocation.domain;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The number of assigned stays per room and per night of a plan,
+ * from the first arrival night up to the last departure night.
+ *
+ * @param firstNight null if the plan has no stays
+ * @param nightCount the number of nights in the grid
+ * @param rooms in the order of the rooms of the plan
+ */
+public record OccupancyGrid(LocalDate firstNight, int nightCount, List<RoomOccupancy> rooms) {
+
+    /**
+     * @param stayCounts the number of stays per night, starting at {@link #firstNight()}
+     */
+    public record RoomOccupancy(String roomId, int capacity, int[] stayCounts) {
+    }
+
+    public static OccupancyGrid of(BedPlan plan) {
+        List<Stay> stays = plan.getStays() == null ? List.of()
+                : plan.getStays().stream()
+                        .filter(stay -> stay.getArrivalDate() != null && stay.getDepartureDate() != null)
+                        .toList();
+        if (stays.isEmpty()) {
+            return new OccupancyGrid(null, 0, List.of());
+        }
+        int firstNight = Integer.MAX_VALUE;
+        int endNight = Integer.MIN_VALUE;
+        for (Stay stay : stays) {
+            firstNight = Math.min(firstNight, stay.getArrivalNight());
+            endNight = Math.max(endNight, stay.getEndNight());
+        }
+        Map<Room, NightOccupancy> roomToOccupancy = new HashMap<>();
+        for (Stay stay : stays) {
+            if (stay.getRoom() != null) {
+                roomToOccupancy.computeIfAbsent(stay.getRoom(), room -> new NightOccupancy()).add(stay);
+            }
+        }
+        int nightCount = endNight - firstNight;
+        List<RoomOccupancy> rooms = new ArrayList<>(plan.getRooms().size());
+        for (Room room : plan.getRooms()) {
+            NightOccupancy occupancy = roomToOccupancy.get(room);
+            int[] stayCounts = new int[nightCount];
+            if (occupancy != null) {
+                for (int i = 0; i < nightCount; i++) {
+                    stayCounts[i] = occupancy.getStayCount(firstNight + i);
+                }
+            }
+            rooms.add(new RoomOccupancy(room.getId(), room.getCapacity(), stayCounts));
+        }
+        return new OccupancyGrid(LocalDate.ofEpochDay(firstNight), nightCount, rooms);
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 @JsonIdentityInfo(scope = Room.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
@@ -19,6 +20,13 @@ public class Room {
     private int capacity;
     private GenderLimitation genderLimitation;
     private List<String> equipments;
+    /**
+     * The {@link #equipments} as a bitmask, null until they're indexed.
+     *
+     * @see BedPlan#indexEquipmentsAndSpecialties()
+     */
+    @JsonIgnore
+    private long[] equipmentMask;
     private List<Bed> beds;
 
     public Room() {
@@ -99,6 +107,15 @@ public class Room {
 
     public void setEquipments(List<String> equipments) {
         this.equipments = equipments;
+        this.equipmentMask = null;
+    }
+
+    public long[] getEquipmentMask() {
+        return equipmentMask;
+    }
+
+    public void setEquipmentMask(long[] equipmentMask) {
+        this.equipmentMask = equipmentMask;
     }
 
     public List<Bed> getBeds() {
@@ -1,7 +1,5 @@
 package org.acme.bedallocation.domain;
 
-import static java.time.temporal.ChronoUnit.DAYS;
-
 import java.time.LocalDate;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,9 +21,30 @@ public class Stay {
     private Integer patientPreferredMaximumRoomCapacity;
     private List<String> patientRequiredEquipments;
     private List<String> patientPreferredEquipments;
+    /**
+     * The {@link #patientRequiredEquipments} and {@link #patientPreferredEquipments} as bitmasks,
+     * null until they're indexed.
+     *
+     * @see BedPlan#indexEquipmentsAndSpecialties()
+     */
+    @JsonIgnore
+    private long[] requiredEquipmentMask;
+    @JsonIgnore
+    private long[] preferredEquipmentMask;
     private LocalDate arrivalDate;
     private LocalDate departureDate;
+    // The nights of the stay as days since 1970-01-01, from the arrival night up to the departure night, inclusive.
+    // Kept in sync with the dates, so the constraints compare ints instead of dates.
+    @JsonIgnore
+    private int arrivalNight;
+    @JsonIgnore
+    private int departureNight;
     private String specialty;
+    /**
+     * The index of the {@link #specialty} in {@link Department#getSpecialtyPriorities()}, -1 until it's indexed.
+     */
+    @JsonIgnore
+    private int specialtyIndex = -1;
     @PlanningVariable(allowsUnassigned = true)
     private Bed bed;
 
@@ -41,8 +60,8 @@ public class Stay {
 
     public Stay(String id, LocalDate arrivalDate, LocalDate departureDate, String specialty, Bed bed) {
         this.id = id;
-        this.arrivalDate = arrivalDate;
-        this.departureDate = departureDate;
+        setArrivalDate(arrivalDate);
+        setDepartureDate(departureDate);
         this.specialty = specialty;
         this.bed = bed;
         this.patientRequiredEquipments = new LinkedList<>();
@@ -51,23 +70,92 @@ public class Stay {
 
     @JsonIgnore
     public int getNightCount() {
-        return (int) DAYS.between(arrivalDate, departureDate) + 1; // TODO is + 1 still desired?
+        return departureNight - arrivalNight + 1; // TODO is + 1 still desired?
     }
 
     public int calculateSameNightCount(Stay other) {
-        LocalDate maxArrivalDate = arrivalDate.compareTo(other.arrivalDate) < 0 ? other.arrivalDate : arrivalDate;
-        LocalDate minDepartureDate = departureDate.compareTo(other.departureDate) < 0 ? departureDate : other.departureDate;
-        return Math.max(0, (int) DAYS.between(maxArrivalDate, minDepartureDate) + 1); // TODO is + 1 still desired?
+        int maxArrivalNight = Math.max(arrivalNight, other.arrivalNight);
+        int minDepartureNight = Math.min(departureNight, other.departureNight);
+        return Math.max(0, minDepartureNight - maxArrivalNight + 1); // TODO is + 1 still desired?
     }
 
     @JsonIgnore
     public boolean hasDepartmentSpecialty() {
-        return getDepartment().getSpecialtyToPriority().containsKey(specialty);
+        return findSpecialtyPriority() != 0;
     }
 
+    /**
+     * @return the priority of the specialty in the department of the bed
+     * @throws IllegalStateException if the department doesn't have the specialty
+     */
     @JsonIgnore
     public int getSpecialtyPriority() {
-        return getDepartment().getSpecialtyToPriority().get(specialty);
+        int specialtyPriority = findSpecialtyPriority();
+        if (specialtyPriority == 0) {
+            throw new IllegalStateException("The department (" + getDepartment().getId()
+                    + ") has no priority for the specialty (" + specialty + ") of stay (" + id + ").");
+        }
+        return specialtyPriority;
+    }
+
+    private int findSpecialtyPriority() {
+        Department department = getDepartment();
+        int[] specialtyPriorities = department.getSpecialtyPriorities();
+        if (specialtyPriorities != null && specialtyIndex >= 0) {
+            return specialtyIndex < specialtyPriorities.length ? specialtyPriorities[specialtyIndex] : 0;
+        }
+        return department.getSpecialtyToPriority().getOrDefault(specialty, 0);
+    }
+
+    /**
+     * @return the number of required equipments that the room of the bed lacks
+     */
+    @JsonIgnore
+    public int getMissingRequiredEquipmentCount() {
+        return countEquipments(patientRequiredEquipments, requiredEquipmentMask, false);
+    }
+
+    /**
+     * @return the number of required equipments that the room of the bed has
+     */
+    @JsonIgnore
+    public int getMatchingRequiredEquipmentCount() {
+        return countEquipments(patientRequiredEquipments, requiredEquipmentMask, true);
+    }
+
+    /**
+     * @return the number of preferred equipments that the room of the bed lacks
+     */
+    @JsonIgnore
+    public int getMissingPreferredEquipmentCount() {
+        return countEquipments(patientPreferredEquipments, preferredEquipmentMask, false);
+    }
+
+    /**
+     * @return the number of preferred equipments that the room of the bed has
+     */
+    @JsonIgnore
+    public int getMatchingPreferredEquipmentCount() {
+        return countEquipments(patientPreferredEquipments, preferredEquipmentMask, true);
+    }
+
+    private int countEquipments(List<String> equipments, long[] equipmentMask, boolean inRoom) {
+        Room room = getRoom();
+        long[] roomEquipmentMask = room.getEquipmentMask();
+        if (equipmentMask != null && roomEquipmentMask != null && equipmentMask.length == roomEquipmentMask.length) {
+            int count = 0;
+            for (int i = 0; i < equipmentMask.length; i++) {
+                count += Long.bitCount(equipmentMask[i] & (inRoom ? roomEquipmentMask[i] : ~roomEquipmentMask[i]));
+            }
+            return count;
+        }
+        int count = 0;
+        for (String equipment : equipments) {
+            if (room.getEquipments().contains(equipment) == inRoom) {
+                count++;
+            }
+        }
+        return count;
     }
 
     @JsonIgnore
@@ -105,12 +193,14 @@ public class Stay {
     public void addRequiredEquipment(String equipment) {
         if (!patientRequiredEquipments.contains(equipment)) {
             this.patientRequiredEquipments.add(equipment);
+            this.requiredEquipmentMask = null;
         }
     }
 
     public void addPreferredEquipment(String equipment) {
         if (!patientPreferredEquipments.contains(equipment)) {
             this.patientPreferredEquipments.add(equipment);
+            this.preferredEquipmentMask = null;
         }
     }
 
@@ -165,6 +255,7 @@ public class Stay {
 
     public void setPatientRequiredEquipments(List<String> patientRequiredEquipments) {
         this.patientRequiredEquipments = patientRequiredEquipments;
+        this.requiredEquipmentMask = null;
     }
 
     public List<String> getPatientPreferredEquipments() {
@@ -173,6 +264,23 @@ public class Stay {
 
     public void setPatientPreferredEquipments(List<String> patientPreferredEquipments) {
         this.patientPreferredEquipments = patientPreferredEquipments;
+        this.preferredEquipmentMask = null;
+    }
+
+    public long[] getRequiredEquipmentMask() {
+        return requiredEquipmentMask;
+    }
+
+    public void setRequiredEquipmentMask(long[] requiredEquipmentMask) {
+        this.requiredEquipmentMask = requiredEquipmentMask;
+    }
+
+    public long[] getPreferredEquipmentMask() {
+        return preferredEquipmentMask;
+    }
+
+    public void setPreferredEquipmentMask(long[] preferredEquipmentMask) {
+        this.preferredEquipmentMask = preferredEquipmentMask;
     }
 
     public LocalDate getArrivalDate() {
@@ -181,6 +289,7 @@ public class Stay {
 
     public void setArrivalDate(LocalDate arrivalDate) {
         this.arrivalDate = arrivalDate;
+        this.arrivalNight = arrivalDate == null ? 0 : Math.toIntExact(arrivalDate.toEpochDay());
     }
 
     public LocalDate getDepartureDate() {
@@ -189,6 +298,24 @@ public class Stay {
 
     public void setDepartureDate(LocalDate departureDate) {
         this.departureDate = departureDate;
+        this.departureNight = departureDate == null ? 0 : Math.toIntExact(departureDate.toEpochDay());
+    }
+
+    /**
+     * @return the first night of the stay, in days since 1970-01-01
+     */
+    @JsonIgnore
+    public int getArrivalNight() {
+        return arrivalNight;
+    }
+
+    /**
+     * @return the night after the last night of the stay, in days since 1970-01-01,
+     *         so the nights of the stay are the interval [{@link #getArrivalNight()}, this)
+     */
+    @JsonIgnore
+    public int getEndNight() {
+        return departureNight + 1;
     }
 
     public String getSpecialty() {
@@ -197,6 +324,15 @@ public class Stay {
 
     public void setSpecialty(String specialty) {
         this.specialty = specialty;
+        this.specialtyIndex = -1;
+    }
+
+    public int getSpecialtyIndex() {
+        return specialtyIndex;
+    }
+
+    public void setSpecialtyIndex(int specialtyIndex) {
+        this.specialtyIndex = specialtyIndex;
     }
 
     public Bed getBed() {
@@ -19,6 +19,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.acme.bedallocation.domain.BedPlan;
+import org.acme.bedallocation.domain.OccupancyGrid;
 import org.acme.bedallocation.rest.exception.ErrorInfo;
 import org.acme.bedallocation.rest.exception.ScheduleSolverException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -86,6 +87,7 @@ public class BedSchedulingResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String solve(BedPlan problem) {
         String jobId = UUID.randomUUID().toString();
+        problem.indexEquipmentsAndSpecialties();
         jobIdToJob.put(jobId, Job.ofSchedule(problem));
         solverManager.solveBuilder()
                 .withProblemId(jobId)
@@ -112,6 +114,7 @@ public class BedSchedulingResource {
     @Path("analyze")
     public ScoreAnalysis<HardSoftScore> analyze(BedPlan problem,
                                                 @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
+        problem.indexEquipmentsAndSpecialties();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
@@ -139,6 +142,27 @@ public class BedSchedulingResource {
         return schedule;
     }
 
+    @Operation(
+            summary = "Get the number of assigned stays per room and per night of the best solution so far for a given job ID.")
+    @APIResponses(value = {
+            @APIResponse(responseCode = "200", description = "The occupancy grid of the best solution so far.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = OccupancyGrid.class))),
+            @APIResponse(responseCode = "404", description = "No schedule found.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class))),
+            @APIResponse(responseCode = "500", description = "Exception during solving a schedule.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorInfo.class)))
+    })
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/occupancy")
+    public OccupancyGrid getOccupancy(
+            @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
+        return OccupancyGrid.of(getScheduleAndCheckForExceptions(jobId));
+    }
+
     @Operation(
             summary = "Get the schedule status and score for a given job ID.")
     @APIResponses(value = {
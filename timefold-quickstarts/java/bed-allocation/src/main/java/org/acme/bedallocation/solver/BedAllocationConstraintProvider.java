@@ -1,7 +1,6 @@
 package org.acme.bedallocation.solver;
 
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
-import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
 import static ai.timefold.solver.core.api.score.stream.Joiners.greaterThan;
 import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
 
@@ -11,6 +10,7 @@ import ai.timefold.solver.core.api.score.buildin.hardmediumsoft.HardMediumSoftSc
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
 
 import org.acme.bedallocation.domain.Department;
 import org.acme.bedallocation.domain.Gender;
@@ -41,11 +41,16 @@ public class BedAllocationConstraintProvider implements ConstraintProvider {
     }
 
     public Constraint sameBedInSameNight(ConstraintFactory constraintFactory) {
-        return constraintFactory.forEachUniquePair(Stay.class,
-                equal(Stay::getBed))
-                .filter((left, right) -> left.calculateSameNightCount(right) > 0)
+        // Counts the stays per night of every bed, so pairs of stays in the same bed are never joined.
+        // One match per bed, justified by the stays that share a night in it.
+        return constraintFactory.forEach(Stay.class)
+                .groupBy(Stay::getBed, NightOccupancyCollector.sameNightPairs())
+                .filter((bed, sameNightPairs) -> sameNightPairs.count() > 0)
                 .penalize(HardMediumSoftScore.ofHard(1000),
-                        Stay::calculateSameNightCount)
+                        (bed, sameNightPairs) -> sameNightPairs.count())
+                .justifyWith((bed, sameNightPairs, score) ->
+                        DefaultConstraintJustification.of(score, sameNightPairs.stays()))
+                .indictWith((bed, sameNightPairs) -> sameNightPairs.stays())
                 .asConstraint("sameBedInSameNight");
     }
 
@@ -67,15 +72,14 @@ public class BedAllocationConstraintProvider implements ConstraintProvider {
 
     public Constraint differentGenderInSameGenderRoomInSameNight(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Stay.class)
-                .filter(bd -> bd.getRoomGenderLimitation() == GenderLimitation.SAME_GENDER)
-                .join(constraintFactory.forEach(Stay.class)
-                        .filter(st -> st.getRoomGenderLimitation() == GenderLimitation.SAME_GENDER),
-                        equal(Stay::getRoom),
-                        lessThan(Stay::getId),
-                        filtering((left, right) -> left.getPatientGender() != right.getPatientGender()
-                                && left.calculateSameNightCount(right) > 0))
+                .filter(st -> st.getRoomGenderLimitation() == GenderLimitation.SAME_GENDER)
+                .groupBy(Stay::getRoom, NightOccupancyCollector.differentGenderSameNightPairs())
+                .filter((room, differentGenderPairs) -> differentGenderPairs.count() > 0)
                 .penalize(HardMediumSoftScore.ofHard(1000),
-                        Stay::calculateSameNightCount)
+                        (room, differentGenderPairs) -> differentGenderPairs.count())
+                .justifyWith((room, differentGenderPairs, score) ->
+                        DefaultConstraintJustification.of(score, differentGenderPairs.stays()))
+                .indictWith((room, differentGenderPairs) -> differentGenderPairs.stays())
                 .asConstraint("differentGenderInSameGenderRoomInSameNight");
     }
 
@@ -103,10 +107,9 @@ public class BedAllocationConstraintProvider implements ConstraintProvider {
 
     public Constraint requiredPatientEquipment(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Stay.class)
-                .filter(st -> !st.getRoom().getEquipments().containsAll(st.getPatientRequiredEquipments()))
+                .filter(st -> st.getMissingRequiredEquipmentCount() > 0)
                 .penalize(HardMediumSoftScore.ofHard(50),
-                        st -> st.getNightCount() * (int) st.getPatientRequiredEquipments().stream()
-                                .filter(equipment -> st.getRoom().getEquipments().contains(equipment)).count())
+                        st -> st.getNightCount() * st.getMatchingRequiredEquipmentCount())
                 .asConstraint("requiredPatientEquipment");
     }
 
@@ -143,11 +146,9 @@ public class BedAllocationConstraintProvider implements ConstraintProvider {
 
     public Constraint preferredPatientEquipment(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Stay.class)
-                .filter(bedDesignation -> !bedDesignation.getRoom().getEquipments().containsAll(
-                        bedDesignation.getPatientPreferredEquipments()))
+                .filter(st -> st.getMissingPreferredEquipmentCount() > 0)
                 .penalize(HardMediumSoftScore.ofHard(50),
-                        st -> st.getNightCount() * (int) st.getPatientPreferredEquipments().stream()
-                                .filter(equipment -> st.getRoom().getEquipments().contains(equipment)).count())
+                        st -> st.getNightCount() * st.getMatchingPreferredEquipmentCount())
                 .asConstraint("preferredPatientEquipment");
     }
 }
@@ -0,0 +1,58 @@
+package org.acme.bedallocation.solver;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+
+import org.acme.bedallocation.domain.NightOccupancy;
+import org.acme.bedallocation.domain.Stay;
+
+/**
+ * Collects the stays of a bed or a room into a {@link NightOccupancy}
+ * and finishes it into one of its pair counts, with the stays of those pairs for justification.
+ * Adding or removing a stay only updates the counts of its own nights,
+ * instead of joining it with every other stay of the same bed or room.
+ */
+final class NightOccupancyCollector implements UniConstraintCollector<Stay, NightOccupancy, SameNightPairs> {
+
+    static NightOccupancyCollector sameNightPairs() {
+        return new NightOccupancyCollector(NightOccupancy::getSameNightPairCount, NightOccupancy::getSameNightStays);
+    }
+
+    static NightOccupancyCollector differentGenderSameNightPairs() {
+        return new NightOccupancyCollector(NightOccupancy::getDifferentGenderSameNightPairCount,
+                NightOccupancy::getDifferentGenderSameNightStays);
+    }
+
+    private final ToIntFunction<NightOccupancy> pairCountFunction;
+    private final Function<NightOccupancy, List<Stay>> staysFunction;
+
+    private NightOccupancyCollector(ToIntFunction<NightOccupancy> pairCountFunction,
+            Function<NightOccupancy, List<Stay>> staysFunction) {
+        this.pairCountFunction = pairCountFunction;
+        this.staysFunction = staysFunction;
+    }
+
+    @Override
+    public Supplier<NightOccupancy> supplier() {
+        return NightOccupancy::new;
+    }
+
+    @Override
+    public BiFunction<NightOccupancy, Stay, Runnable> accumulator() {
+        return (occupancy, stay) -> {
+            occupancy.add(stay);
+            return () -> occupancy.remove(stay);
+        };
+    }
+
+    @Override
+    public Function<NightOccupancy, SameNightPairs> finisher() {
+        // Equal as long as the count is, so an unchanged count doesn't update the match.
+        return occupancy -> new SameNightPairs(pairCountFunction.applyAsInt(occupancy), occupancy, staysFunction);
+    }
+}
@@ -0,0 +1,26 @@
+package org.acme.bedallocation.solver;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.acme.bedallocation.domain.NightOccupancy;
+import org.acme.bedallocation.domain.Stay;
+
+/**
+ * The number of pairs of stays that share a night in a bed or a room.
+ * The stays of those pairs are only looked up in the occupancy to justify a constraint match,
+ * so solving never builds them.
+ *
+ * @param count the number of pairs
+ * @param occupancy the occupancy of the bed or room, which keeps changing while solving
+ * @param staysFunction finds the stays of the pairs in the occupancy
+ */
+record SameNightPairs(int count, NightOccupancy occupancy, Function<NightOccupancy, List<Stay>> staysFunction) {
+
+    /**
+     * @return the stays of the pairs, as constraint justification facts
+     */
+    List<Object> stays() {
+        return List.copyOf(staysFunction.apply(occupancy));
+    }
+}
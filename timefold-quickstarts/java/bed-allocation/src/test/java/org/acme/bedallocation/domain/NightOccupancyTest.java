@@ -0,0 +1,60 @@
+package org.acme.bedallocation.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class NightOccupancyTest {
+
+    private static final LocalDate ZERO_NIGHT = LocalDate.of(2021, 2, 1);
+
+    @Test
+    void addAndRemove() {
+        Stay female = stay("0", 0, 5, Gender.FEMALE);
+        // Grows the counts to the left and to the right.
+        Stay earlierMale = stay("1", -3, 1, Gender.MALE);
+        Stay laterMale = stay("2", 4, 40, Gender.MALE);
+        Stay laterFemale = stay("3", 40, 41, Gender.FEMALE);
+        NightOccupancy occupancy = new NightOccupancy();
+        occupancy.add(female);
+        occupancy.add(earlierMale);
+        occupancy.add(laterMale);
+        occupancy.add(laterFemale);
+
+        assertThat(occupancy.getStayCount(nightIndex(-4))).isZero();
+        assertThat(occupancy.getStayCount(nightIndex(-3))).isEqualTo(1);
+        assertThat(occupancy.getStayCount(nightIndex(0))).isEqualTo(2);
+        assertThat(occupancy.getStayCount(nightIndex(40))).isEqualTo(2);
+        assertThat(occupancy.getStayCount(nightIndex(42))).isZero();
+        // Nights 0 and 1 with the earlier male, 4 and 5 with the later male, 40 of the later stays.
+        assertThat(occupancy.getSameNightPairCount()).isEqualTo(5);
+        assertThat(occupancy.getDifferentGenderSameNightPairCount()).isEqualTo(5);
+        assertThat(occupancy.getSameNightStays()).containsExactly(female, earlierMale, laterMale, laterFemale);
+
+        occupancy.remove(laterMale);
+        assertThat(occupancy.getStayCount(nightIndex(40))).isEqualTo(1);
+        assertThat(occupancy.getSameNightPairCount()).isEqualTo(2);
+        assertThat(occupancy.getDifferentGenderSameNightPairCount()).isEqualTo(2);
+        // The later female no longer shares night 40.
+        assertThat(occupancy.getSameNightStays()).containsExactly(female, earlierMale);
+
+        occupancy.add(stay("4", 1, 2, Gender.FEMALE));
+        // Nights 0, 1 and 2 have 1, 3 and 1 pairs, of which 1, 2 and 0 of different genders.
+        assertThat(occupancy.getSameNightPairCount()).isEqualTo(5);
+        assertThat(occupancy.getDifferentGenderSameNightPairCount()).isEqualTo(3);
+        // Only the later female shares no night with a male.
+        assertThat(occupancy.getDifferentGenderSameNightStays()).hasSize(3).doesNotContain(laterFemale);
+    }
+
+    private static Stay stay(String id, int arrivalNight, int departureNight, Gender gender) {
+        Stay stay = new Stay(id, ZERO_NIGHT.plusDays(arrivalNight), ZERO_NIGHT.plusDays(departureNight), null, null);
+        stay.setPatientGender(gender);
+        return stay;
+    }
+
+    private static int nightIndex(int night) {
+        return Math.toIntExact(ZERO_NIGHT.toEpochDay() + night);
+    }
+}
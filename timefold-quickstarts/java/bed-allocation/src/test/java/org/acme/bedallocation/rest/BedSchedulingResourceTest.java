@@ -6,10 +6,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.stream.IntStream;
 
 import ai.timefold.solver.core.api.solver.SolverStatus;
 
 import org.acme.bedallocation.domain.BedPlan;
+import org.acme.bedallocation.domain.OccupancyGrid;
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.test.junit.QuarkusTest;
@@ -48,6 +50,17 @@ class BedSchedulingResourceTest {
         assertThat(solution.getSolverStatus()).isEqualTo(SolverStatus.NOT_SOLVING);
         assertThat(solution.getStays().stream().allMatch(bedDesignation -> bedDesignation.getBed() != null)).isTrue();
         assertThat(solution.getScore().isFeasible()).isTrue();
+
+        OccupancyGrid occupancyGrid = get("/schedules/" + jobId + "/occupancy").then()
+                .statusCode(200)
+                .extract()
+                .as(OccupancyGrid.class);
+        assertThat(occupancyGrid.rooms()).hasSize(solution.getRooms().size());
+        // A feasible solution never has more stays in a room than beds.
+        assertThat(occupancyGrid.rooms()).allSatisfy(room -> {
+            assertThat(room.stayCounts()).hasSize(occupancyGrid.nightCount());
+            assertThat(IntStream.of(room.stayCounts()).max().orElse(0)).isLessThanOrEqualTo(room.capacity());
+        });
     }
 
     @Test
@@ -76,6 +76,36 @@ class BedAllocationConstraintProviderTest {
                 .penalizesBy(6);
     }
 
+    @Test
+    void sameBedInPartlySameNights() {
+        Bed bed = new Bed("1");
+
+        Stay stay = new Stay("0", ZERO_NIGHT, FIVE_NIGHT, DEFAULT_SPECIALTY, bed);
+        // The departure night is a night of the stay, so the stays share 1 night.
+        Stay lastNightStay = new Stay("1", FIVE_NIGHT, FIVE_NIGHT.plusDays(2), DEFAULT_SPECIALTY, bed);
+        Stay laterStay = new Stay("2", FIVE_NIGHT.plusDays(1), FIVE_NIGHT.plusDays(3), DEFAULT_SPECIALTY, bed);
+        Stay otherBedStay = new Stay("3", ZERO_NIGHT, FIVE_NIGHT, DEFAULT_SPECIALTY, new Bed("2"));
+
+        // The last night stay shares 1 night with the stay and 2 nights with the later stay.
+        constraintVerifier.verifyThat(BedAllocationConstraintProvider::sameBedInSameNight)
+                .given(stay, lastNightStay, laterStay, otherBedStay)
+                .penalizesBy(3);
+    }
+
+    @Test
+    void sameBedInSameNightIndictsStays() {
+        Bed bed = new Bed("1");
+
+        Stay stay = new Stay("0", ZERO_NIGHT, FIVE_NIGHT, DEFAULT_SPECIALTY, bed);
+        Stay lastNightStay = new Stay("1", FIVE_NIGHT, FIVE_NIGHT.plusDays(2), DEFAULT_SPECIALTY, bed);
+        Stay laterStay = new Stay("2", FIVE_NIGHT.plusDays(10), FIVE_NIGHT.plusDays(12), DEFAULT_SPECIALTY, bed);
+
+        // One match for the bed, justified by the stays that share a night instead of by the bed.
+        constraintVerifier.verifyThat(BedAllocationConstraintProvider::sameBedInSameNight)
+                .given(stay, lastNightStay, laterStay)
+                .indictsWithExactly(stay, lastNightStay);
+    }
+
     @Test
     void departmentMinimumAge() {
         Department department = new Department("1", "Adult department");
@@ -130,6 +160,27 @@ class BedAllocationConstraintProviderTest {
                 .penalizesBy(6);
     }
 
+    @Test
+    void requiredPatientEquipmentIndexed() {
+        Department department = new Department("1", "Department");
+        Room room = new Room("1", "1", department);
+        room.setEquipments(List.of("TELEMETRY"));
+
+        Bed bed = new Bed("1", room, 0);
+        room.addBed(bed);
+
+        Stay admission = new Stay("0", ZERO_NIGHT, FIVE_NIGHT, DEFAULT_SPECIALTY, bed);
+        admission.setPatientRequiredEquipments(List.of("TELEVISION", "TELEMETRY", "OXYGEN"));
+        Stay equippedAdmission = new Stay("1", ZERO_NIGHT, FIVE_NIGHT, DEFAULT_SPECIALTY, bed);
+        equippedAdmission.setPatientRequiredEquipments(List.of("TELEMETRY"));
+        new BedPlan(List.of(department), List.of(admission, equippedAdmission)).indexEquipmentsAndSpecialties();
+
+        // The room has 1 of the 3 required equipments for 6 nights.
+        constraintVerifier.verifyThat(BedAllocationConstraintProvider::requiredPatientEquipment)
+                .given(admission, equippedAdmission)
+                .penalizesBy(6);
+    }
+
     @Test
     void differentGenderInSameGenderRoomInSameNight() {
 
@@ -154,6 +205,10 @@ class BedAllocationConstraintProviderTest {
                 .verifyThat(BedAllocationConstraintProvider::differentGenderInSameGenderRoomInSameNight)
                 .given(stayFemale, stayMale)
                 .penalizesBy(6);
+        constraintVerifier
+                .verifyThat(BedAllocationConstraintProvider::differentGenderInSameGenderRoomInSameNight)
+                .given(stayFemale, stayMale)
+                .indictsWithExactly(stayFemale, stayMale);
     }
 
     @Test
@@ -255,4 +310,27 @@ class BedAllocationConstraintProviderTest {
                 .penalizesBy(6);
     }
 
+    @Test
+    void departmentSpecialtyIndexed() {
+        Department department = new Department("0", "0");
+        department.setSpecialtyToPriority(Map.of("spec1", 3, "spec2", 1));
+
+        Room roomInDep = new Room("1", "1", department);
+
+        Bed bedInDep = new Bed("1", roomInDep, 0);
+        roomInDep.addBed(bedInDep);
+
+        Stay stay1 = new Stay("0", ZERO_NIGHT, FIVE_NIGHT, "spec1", bedInDep);
+        Stay stay2 = new Stay("1", ZERO_NIGHT, FIVE_NIGHT, "spec2", bedInDep);
+        Stay stay3 = new Stay("2", ZERO_NIGHT, FIVE_NIGHT, "spec3", bedInDep);
+        new BedPlan(List.of(department), List.of(stay1, stay2, stay3)).indexEquipmentsAndSpecialties();
+
+        constraintVerifier.verifyThat(BedAllocationConstraintProvider::departmentSpecialty)
+                .given(stay1, stay2, stay3)
+                .penalizesBy(6);
+        constraintVerifier.verifyThat(BedAllocationConstraintProvider::departmentSpecialtyNotFirstPriority)
+                .given(stay1, stay2)
+                .penalizesBy(12);
+    }
+
 }
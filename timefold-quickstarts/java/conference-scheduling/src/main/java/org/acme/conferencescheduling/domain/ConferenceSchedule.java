@@ -56,6 +56,28 @@ public class ConferenceSchedule {
         this.rooms = rooms;
         this.speakers = speakers;
         this.talks = talks;
+        internTags();
+    }
+
+    /**
+     * Interns the tags of all timeslots, rooms, speakers and talks into a single {@link TagDictionary},
+     * so the tag constraints compare bitsets instead of sets.
+     * Called once when the problem is loaded, and again after any tag set is replaced.
+     */
+    public void internTags() {
+        TagDictionary tagDictionary = new TagDictionary();
+        if (timeslots != null) {
+            timeslots.forEach(timeslot -> timeslot.internTags(tagDictionary));
+        }
+        if (rooms != null) {
+            rooms.forEach(room -> room.internTags(tagDictionary));
+        }
+        if (speakers != null) {
+            speakers.forEach(speaker -> speaker.internTags(tagDictionary));
+        }
+        if (talks != null) {
+            talks.forEach(talk -> talk.internTags(tagDictionary));
+        }
     }
 
     // ************************************************************************
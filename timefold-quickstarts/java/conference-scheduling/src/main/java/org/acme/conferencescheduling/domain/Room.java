@@ -17,6 +17,8 @@ public class Room {
     private Set<TalkType> talkTypes;
     private Set<Timeslot> unavailableTimeslots;
     private Set<String> tags;
+    // See internTags(). Null until interned and after the tags are replaced.
+    private long[] tagBits;
 
     public Room() {
     }
@@ -49,6 +51,14 @@ public class Room {
         talkTypes.forEach(t -> t.addCompatibleRoom(this));
     }
 
+    void internTags(TagDictionary tagDictionary) {
+        tagBits = tagDictionary.intern(tags);
+    }
+
+    long[] getTagBits() {
+        return tagBits;
+    }
+
     public String getId() {
         return id;
     }
@@ -95,6 +105,7 @@ public class Room {
 
     public void setTags(Set<String> tags) {
         this.tags = tags;
+        this.tagBits = null;
     }
 
     @Override
@@ -22,6 +22,16 @@ public class Speaker {
     private Set<String> prohibitedRoomTags;
     private Set<String> undesiredRoomTags;
 
+    // Bitsets of the tag sets above, see internTags(). Null until interned and after a tag set is replaced.
+    private long[] requiredTimeslotTagBits;
+    private long[] preferredTimeslotTagBits;
+    private long[] prohibitedTimeslotTagBits;
+    private long[] undesiredTimeslotTagBits;
+    private long[] requiredRoomTagBits;
+    private long[] preferredRoomTagBits;
+    private long[] prohibitedRoomTagBits;
+    private long[] undesiredRoomTagBits;
+
     public Speaker() {
     }
 
@@ -88,6 +98,7 @@ public class Speaker {
 
     public void setRequiredTimeslotTags(Set<String> requiredTimeslotTags) {
         this.requiredTimeslotTags = requiredTimeslotTags;
+        this.requiredTimeslotTagBits = null;
     }
 
     public Set<String> getPreferredTimeslotTags() {
@@ -96,6 +107,7 @@ public class Speaker {
 
     public void setPreferredTimeslotTags(Set<String> preferredTimeslotTags) {
         this.preferredTimeslotTags = preferredTimeslotTags;
+        this.preferredTimeslotTagBits = null;
     }
 
     public Set<String> getProhibitedTimeslotTags() {
@@ -104,6 +116,7 @@ public class Speaker {
 
     public void setProhibitedTimeslotTags(Set<String> prohibitedTimeslotTags) {
         this.prohibitedTimeslotTags = prohibitedTimeslotTags;
+        this.prohibitedTimeslotTagBits = null;
     }
 
     public Set<String> getUndesiredTimeslotTags() {
@@ -112,6 +125,7 @@ public class Speaker {
 
     public void setUndesiredTimeslotTags(Set<String> undesiredTimeslotTags) {
         this.undesiredTimeslotTags = undesiredTimeslotTags;
+        this.undesiredTimeslotTagBits = null;
     }
 
     public Set<String> getRequiredRoomTags() {
@@ -120,6 +134,7 @@ public class Speaker {
 
     public void setRequiredRoomTags(Set<String> requiredRoomTags) {
         this.requiredRoomTags = requiredRoomTags;
+        this.requiredRoomTagBits = null;
     }
 
     public Set<String> getPreferredRoomTags() {
@@ -128,6 +143,7 @@ public class Speaker {
 
     public void setPreferredRoomTags(Set<String> preferredRoomTags) {
         this.preferredRoomTags = preferredRoomTags;
+        this.preferredRoomTagBits = null;
     }
 
     public Set<String> getProhibitedRoomTags() {
@@ -136,6 +152,7 @@ public class Speaker {
 
     public void setProhibitedRoomTags(Set<String> prohibitedRoomTags) {
         this.prohibitedRoomTags = prohibitedRoomTags;
+        this.prohibitedRoomTagBits = null;
     }
 
     public Set<String> getUndesiredRoomTags() {
@@ -144,6 +161,53 @@ public class Speaker {
 
     public void setUndesiredRoomTags(Set<String> undesiredRoomTags) {
         this.undesiredRoomTags = undesiredRoomTags;
+        this.undesiredRoomTagBits = null;
+    }
+
+    /**
+     * Caches every tag set as a bitset of the given dictionary.
+     */
+    void internTags(TagDictionary tagDictionary) {
+        requiredTimeslotTagBits = tagDictionary.intern(requiredTimeslotTags);
+        preferredTimeslotTagBits = tagDictionary.intern(preferredTimeslotTags);
+        prohibitedTimeslotTagBits = tagDictionary.intern(prohibitedTimeslotTags);
+        undesiredTimeslotTagBits = tagDictionary.intern(undesiredTimeslotTags);
+        requiredRoomTagBits = tagDictionary.intern(requiredRoomTags);
+        preferredRoomTagBits = tagDictionary.intern(preferredRoomTags);
+        prohibitedRoomTagBits = tagDictionary.intern(prohibitedRoomTags);
+        undesiredRoomTagBits = tagDictionary.intern(undesiredRoomTags);
+    }
+
+    long[] getRequiredTimeslotTagBits() {
+        return requiredTimeslotTagBits;
+    }
+
+    long[] getPreferredTimeslotTagBits() {
+        return preferredTimeslotTagBits;
+    }
+
+    long[] getProhibitedTimeslotTagBits() {
+        return prohibitedTimeslotTagBits;
+    }
+
+    long[] getUndesiredTimeslotTagBits() {
+        return undesiredTimeslotTagBits;
+    }
+
+    long[] getRequiredRoomTagBits() {
+        return requiredRoomTagBits;
+    }
+
+    long[] getPreferredRoomTagBits() {
+        return preferredRoomTagBits;
+    }
+
+    long[] getProhibitedRoomTagBits() {
+        return prohibitedRoomTagBits;
+    }
+
+    long[] getUndesiredRoomTagBits() {
+        return undesiredRoomTagBits;
     }
 
     @Override
@@ -0,0 +1,67 @@
+package org.acme.conferencescheduling.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns every distinct tag of a schedule a bit index,
+ * so tag sets can be compared with popcounts instead of hash lookups.
+ * <p>
+ * A bitset is only as long as its highest set bit requires,
+ * so bitsets interned by the same dictionary may differ in length.
+ */
+public final class TagDictionary {
+
+    private static final long[] EMPTY_BITSET = new long[0];
+
+    private final Map<String, Integer> tagToIndex = new HashMap<>();
+
+    public int size() {
+        return tagToIndex.size();
+    }
+
+    public long[] intern(Set<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return EMPTY_BITSET;
+        }
+        int[] indexes = new int[tags.size()];
+        int maxIndex = 0;
+        int i = 0;
+        for (String tag : tags) {
+            int index = tagToIndex.computeIfAbsent(tag, t -> tagToIndex.size());
+            indexes[i++] = index;
+            maxIndex = Math.max(maxIndex, index);
+        }
+        long[] bitset = new long[(maxIndex >> 6) + 1];
+        for (int index : indexes) {
+            bitset[index >> 6] |= 1L << index;
+        }
+        return bitset;
+    }
+
+    /**
+     * @return the number of tags in both bitsets
+     */
+    public static int overlappingCount(long[] left, long[] right) {
+        int length = Math.min(left.length, right.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            count += Long.bitCount(left[i] & right[i]);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of tags in the required bitset that are not in the available bitset
+     */
+    public static int missingCount(long[] required, long[] available) {
+        int count = 0;
+        for (int i = 0; i < required.length; i++) {
+            long availableWord = i < available.length ? available[i] : 0L;
+            count += Long.bitCount(required[i] & ~availableWord);
+        }
+        return count;
+    }
+
+}
@@ -41,6 +41,21 @@ public class Talk {
     private int favoriteCount;
     private int crowdControlRisk;
 
+    // Bitsets of the tag sets above, see internTags(). Null until interned and after a tag set is replaced.
+    private long[] themeTrackTagBits;
+    private long[] sectorTagBits;
+    private long[] audienceTypeBits;
+    private long[] contentTagBits;
+    private long[] requiredTimeslotTagBits;
+    private long[] preferredTimeslotTagBits;
+    private long[] prohibitedTimeslotTagBits;
+    private long[] undesiredTimeslotTagBits;
+    private long[] requiredRoomTagBits;
+    private long[] preferredRoomTagBits;
+    private long[] prohibitedRoomTagBits;
+    private long[] undesiredRoomTagBits;
+    private long[] mutuallyExclusiveTalksTagBits;
+
     @PlanningVariable
     private Timeslot timeslot;
 
@@ -98,6 +113,26 @@ public class Talk {
         this.crowdControlRisk = crowdControlRisk;
     }
 
+    /**
+     * Caches every tag set as a bitset of the given dictionary.
+     * Until then, the tag counts below fall back to comparing the sets.
+     */
+    void internTags(TagDictionary tagDictionary) {
+        themeTrackTagBits = tagDictionary.intern(themeTrackTags);
+        sectorTagBits = tagDictionary.intern(sectorTags);
+        audienceTypeBits = tagDictionary.intern(audienceTypes);
+        contentTagBits = tagDictionary.intern(contentTags);
+        requiredTimeslotTagBits = tagDictionary.intern(requiredTimeslotTags);
+        preferredTimeslotTagBits = tagDictionary.intern(preferredTimeslotTags);
+        prohibitedTimeslotTagBits = tagDictionary.intern(prohibitedTimeslotTags);
+        undesiredTimeslotTagBits = tagDictionary.intern(undesiredTimeslotTags);
+        requiredRoomTagBits = tagDictionary.intern(requiredRoomTags);
+        preferredRoomTagBits = tagDictionary.intern(preferredRoomTags);
+        prohibitedRoomTagBits = tagDictionary.intern(prohibitedRoomTags);
+        undesiredRoomTagBits = tagDictionary.intern(undesiredRoomTags);
+        mutuallyExclusiveTalksTagBits = tagDictionary.intern(mutuallyExclusiveTalksTags);
+    }
+
     @ValueRangeProvider
     public Set<Timeslot> getTimeslotRange() {
         return talkType.getCompatibleTimeslots();
@@ -113,7 +148,14 @@ public class Talk {
     }
 
     public int overlappingThemeTrackCount(Talk other) {
-        return overlappingCount(themeTrackTags, other.themeTrackTags);
+        return overlappingCount(themeTrackTagBits, other.themeTrackTagBits, themeTrackTags, other.themeTrackTags);
+    }
+
+    private static int overlappingCount(long[] leftBits, long[] rightBits, Set<String> left, Set<String> right) {
+        if (leftBits != null && rightBits != null) {
+            return TagDictionary.overlappingCount(leftBits, rightBits);
+        }
+        return overlappingCount(left, right);
     }
 
     private static <T> int overlappingCount(Set<T> left, Set<T> right) {
@@ -130,16 +172,16 @@ public class Talk {
     }
 
     public int overlappingSectorCount(Talk other) {
-        return overlappingCount(sectorTags, other.sectorTags);
+        return overlappingCount(sectorTagBits, other.sectorTagBits, sectorTags, other.sectorTags);
     }
 
     public int overlappingAudienceTypeCount(Talk other) {
-        return overlappingCount(audienceTypes, other.audienceTypes);
+        return overlappingCount(audienceTypeBits, other.audienceTypeBits, audienceTypes, other.audienceTypes);
 
     }
 
     public int overlappingContentCount(Talk other) {
-        return overlappingCount(contentTags, other.contentTags);
+        return overlappingCount(contentTagBits, other.contentTagBits, contentTags, other.contentTags);
 
     }
 
@@ -147,8 +189,16 @@ public class Talk {
         if (timeslot == null) {
             return 0;
         }
-        return missingCount(requiredTimeslotTags, timeslot.getTags());
+        return missingCount(requiredTimeslotTagBits, timeslot.getTagBits(), requiredTimeslotTags, timeslot.getTags());
+
+    }
 
+    private static int missingCount(long[] requiredBits, long[] availableBits, Set<String> required,
+            Set<String> available) {
+        if (requiredBits != null && availableBits != null) {
+            return TagDictionary.missingCount(requiredBits, availableBits);
+        }
+        return missingCount(required, available);
     }
 
     private static <T> int missingCount(Set<T> required, Set<T> available) {
@@ -171,28 +221,30 @@ public class Talk {
         if (timeslot == null) {
             return 0;
         }
-        return missingCount(preferredTimeslotTags, timeslot.getTags());
+        return missingCount(preferredTimeslotTagBits, timeslot.getTagBits(), preferredTimeslotTags, timeslot.getTags());
     }
 
     public int prevailingProhibitedTimeslotTagCount() {
         if (timeslot == null) {
             return 0;
         }
-        return overlappingCount(prohibitedTimeslotTags, timeslot.getTags());
+        return overlappingCount(prohibitedTimeslotTagBits, timeslot.getTagBits(), prohibitedTimeslotTags,
+                timeslot.getTags());
     }
 
     public int prevailingUndesiredTimeslotTagCount() {
         if (timeslot == null) {
             return 0;
         }
-        return overlappingCount(undesiredTimeslotTags, timeslot.getTags());
+        return overlappingCount(undesiredTimeslotTagBits, timeslot.getTagBits(), undesiredTimeslotTags,
+                timeslot.getTags());
     }
 
     public int missingRequiredRoomTagCount() {
         if (room == null) {
             return 0;
         }
-        return missingCount(requiredRoomTags, room.getTags());
+        return missingCount(requiredRoomTagBits, room.getTagBits(), requiredRoomTags, room.getTags());
 
     }
 
@@ -200,14 +252,14 @@ public class Talk {
         if (room == null) {
             return 0;
         }
-        return missingCount(preferredRoomTags, room.getTags());
+        return missingCount(preferredRoomTagBits, room.getTagBits(), preferredRoomTags, room.getTags());
     }
 
     public int prevailingProhibitedRoomTagCount() {
         if (room == null) {
             return 0;
         }
-        return overlappingCount(prohibitedRoomTags, room.getTags());
+        return overlappingCount(prohibitedRoomTagBits, room.getTagBits(), prohibitedRoomTags, room.getTags());
 
     }
 
@@ -215,7 +267,7 @@ public class Talk {
         if (room == null) {
             return 0;
         }
-        return overlappingCount(undesiredRoomTags, room.getTags());
+        return overlappingCount(undesiredRoomTagBits, room.getTagBits(), undesiredRoomTags, room.getTags());
     }
 
     public int missingSpeakerRequiredTimeslotTagCount() {
@@ -224,7 +276,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += missingCount(speaker.getRequiredTimeslotTags(), timeslot.getTags());
+            count += missingCount(speaker.getRequiredTimeslotTagBits(), timeslot.getTagBits(),
+                    speaker.getRequiredTimeslotTags(), timeslot.getTags());
         }
         return count;
     }
@@ -235,7 +288,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += missingCount(speaker.getPreferredTimeslotTags(), timeslot.getTags());
+            count += missingCount(speaker.getPreferredTimeslotTagBits(), timeslot.getTagBits(),
+                    speaker.getPreferredTimeslotTags(), timeslot.getTags());
         }
         return count;
     }
@@ -246,7 +300,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += overlappingCount(speaker.getProhibitedTimeslotTags(), timeslot.getTags());
+            count += overlappingCount(speaker.getProhibitedTimeslotTagBits(), timeslot.getTagBits(),
+                    speaker.getProhibitedTimeslotTags(), timeslot.getTags());
         }
         return count;
     }
@@ -257,7 +312,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += overlappingCount(speaker.getUndesiredTimeslotTags(), timeslot.getTags());
+            count += overlappingCount(speaker.getUndesiredTimeslotTagBits(), timeslot.getTagBits(),
+                    speaker.getUndesiredTimeslotTags(), timeslot.getTags());
         }
         return count;
     }
@@ -268,7 +324,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += missingCount(speaker.getRequiredRoomTags(), room.getTags());
+            count += missingCount(speaker.getRequiredRoomTagBits(), room.getTagBits(),
+                    speaker.getRequiredRoomTags(), room.getTags());
         }
         return count;
     }
@@ -279,7 +336,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += missingCount(speaker.getPreferredRoomTags(), room.getTags());
+            count += missingCount(speaker.getPreferredRoomTagBits(), room.getTagBits(),
+                    speaker.getPreferredRoomTags(), room.getTags());
         }
         return count;
     }
@@ -290,7 +348,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += overlappingCount(speaker.getProhibitedRoomTags(), room.getTags());
+            count += overlappingCount(speaker.getProhibitedRoomTagBits(), room.getTagBits(),
+                    speaker.getProhibitedRoomTags(), room.getTags());
         }
         return count;
     }
@@ -301,7 +360,8 @@ public class Talk {
         }
         int count = 0;
         for (Speaker speaker : speakers) {
-            count += overlappingCount(speaker.getUndesiredRoomTags(), room.getTags());
+            count += overlappingCount(speaker.getUndesiredRoomTagBits(), room.getTagBits(),
+                    speaker.getUndesiredRoomTags(), room.getTags());
         }
         return count;
     }
@@ -314,7 +374,8 @@ public class Talk {
     }
 
     public int overlappingMutuallyExclusiveTalksTagCount(Talk other) {
-        return overlappingCount(mutuallyExclusiveTalksTags, other.mutuallyExclusiveTalksTags);
+        return overlappingCount(mutuallyExclusiveTalksTagBits, other.mutuallyExclusiveTalksTagBits,
+                mutuallyExclusiveTalksTags, other.mutuallyExclusiveTalksTags);
     }
 
     public boolean hasMutualSpeaker(Talk other) {
@@ -393,6 +454,7 @@ public class Talk {
 
     public void setThemeTrackTags(Set<String> themeTrackTags) {
         this.themeTrackTags = themeTrackTags;
+        this.themeTrackTagBits = null;
     }
 
     public Set<String> getSectorTags() {
@@ -401,6 +463,7 @@ public class Talk {
 
     public void setSectorTags(Set<String> sectorTags) {
         this.sectorTags = sectorTags;
+        this.sectorTagBits = null;
     }
 
     public Set<String> getAudienceTypes() {
@@ -409,6 +472,7 @@ public class Talk {
 
     public void setAudienceTypes(Set<String> audienceTypes) {
         this.audienceTypes = audienceTypes;
+        this.audienceTypeBits = null;
     }
 
     public int getAudienceLevel() {
@@ -425,6 +489,7 @@ public class Talk {
 
     public void setContentTags(Set<String> contentTags) {
         this.contentTags = contentTags;
+        this.contentTagBits = null;
     }
 
     public String getLanguage() {
@@ -441,6 +506,7 @@ public class Talk {
 
     public void setRequiredTimeslotTags(Set<String> requiredTimeslotTags) {
         this.requiredTimeslotTags = requiredTimeslotTags;
+        this.requiredTimeslotTagBits = null;
     }
 
     public Set<String> getPreferredTimeslotTags() {
@@ -449,6 +515,7 @@ public class Talk {
 
     public void setPreferredTimeslotTags(Set<String> preferredTimeslotTags) {
         this.preferredTimeslotTags = preferredTimeslotTags;
+        this.preferredTimeslotTagBits = null;
     }
 
     public Set<String> getProhibitedTimeslotTags() {
@@ -457,6 +524,7 @@ public class Talk {
 
     public void setProhibitedTimeslotTags(Set<String> prohibitedTimeslotTags) {
         this.prohibitedTimeslotTags = prohibitedTimeslotTags;
+        this.prohibitedTimeslotTagBits = null;
     }
 
     public Set<String> getUndesiredTimeslotTags() {
@@ -465,6 +533,7 @@ public class Talk {
 
     public void setUndesiredTimeslotTags(Set<String> undesiredTimeslotTags) {
         this.undesiredTimeslotTags = undesiredTimeslotTags;
+        this.undesiredTimeslotTagBits = null;
     }
 
     public Set<String> getRequiredRoomTags() {
@@ -473,6 +542,7 @@ public class Talk {
 
     public void setRequiredRoomTags(Set<String> requiredRoomTags) {
         this.requiredRoomTags = requiredRoomTags;
+        this.requiredRoomTagBits = null;
     }
 
     public Set<String> getPreferredRoomTags() {
@@ -481,6 +551,7 @@ public class Talk {
 
     public void setPreferredRoomTags(Set<String> preferredRoomTags) {
         this.preferredRoomTags = preferredRoomTags;
+        this.preferredRoomTagBits = null;
     }
 
     public Set<String> getProhibitedRoomTags() {
@@ -489,6 +560,7 @@ public class Talk {
 
     public void setProhibitedRoomTags(Set<String> prohibitedRoomTags) {
         this.prohibitedRoomTags = prohibitedRoomTags;
+        this.prohibitedRoomTagBits = null;
     }
 
     public Set<String> getUndesiredRoomTags() {
@@ -497,6 +569,7 @@ public class Talk {
 
     public void setUndesiredRoomTags(Set<String> undesiredRoomTags) {
         this.undesiredRoomTags = undesiredRoomTags;
+        this.undesiredRoomTagBits = null;
     }
 
     public Set<String> getMutuallyExclusiveTalksTags() {
@@ -505,6 +578,7 @@ public class Talk {
 
     public void setMutuallyExclusiveTalksTags(Set<String> mutuallyExclusiveTalksTags) {
         this.mutuallyExclusiveTalksTags = mutuallyExclusiveTalksTags;
+        this.mutuallyExclusiveTalksTagBits = null;
     }
 
     public Set<Talk> getPrerequisiteTalks() {
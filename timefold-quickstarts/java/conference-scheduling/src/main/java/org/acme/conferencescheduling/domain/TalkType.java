@@ -1,6 +1,5 @@
 package org.acme.conferencescheduling.domain;
 
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -20,8 +19,9 @@ public class TalkType {
 
     public TalkType(String name) {
         this.name = name;
-        this.compatibleRooms = new HashSet<>();
-        this.compatibleTimeslots = new HashSet<>();
+        // The value ranges of a talk come from these sets, and a HashSet has no consistent iteration order.
+        this.compatibleRooms = new LinkedHashSet<>();
+        this.compatibleTimeslots = new LinkedHashSet<>();
     }
 
     public void addCompatibleTimeslot(Timeslot timeslot) {
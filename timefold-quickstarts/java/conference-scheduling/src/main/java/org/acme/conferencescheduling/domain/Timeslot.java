@@ -15,6 +15,8 @@ public class Timeslot {
     private LocalDateTime endDateTime;
     private Set<TalkType> talkTypes;
     private Set<String> tags;
+    // See internTags(). Null until interned and after the tags are replaced.
+    private long[] tagBits;
 
     // Cached
     private int durationInMinutes;
@@ -75,6 +77,14 @@ public class Timeslot {
         return pause.toMinutes() >= pauseInMinutes;
     }
 
+    void internTags(TagDictionary tagDictionary) {
+        tagBits = tagDictionary.intern(tags);
+    }
+
+    long[] getTagBits() {
+        return tagBits;
+    }
+
     public String getId() {
         return id;
     }
@@ -113,6 +123,7 @@ public class Timeslot {
 
     public void setTags(Set<String> tags) {
         this.tags = tags;
+        this.tagBits = null;
     }
 
     public int getDurationInMinutes() {
@@ -86,6 +86,7 @@ public class ConferenceSchedulingResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String solve(ConferenceSchedule problem) {
         String jobId = UUID.randomUUID().toString();
+        problem.internTags();
         jobIdToJob.put(jobId, Job.ofSchedule(problem));
         solverManager.solveBuilder()
                 .withProblemId(jobId)
@@ -112,6 +113,7 @@ public class ConferenceSchedulingResource {
     @Path("analyze")
     public ScoreAnalysis<HardSoftScore> analyze(ConferenceSchedule problem,
             @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
+        problem.internTags();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
@@ -0,0 +1,137 @@
+package org.acme.conferencescheduling.benchmark;
+
+import static java.util.Collections.emptySet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.acme.conferencescheduling.domain.ConferenceConstraintProperties;
+import org.acme.conferencescheduling.domain.ConferenceSchedule;
+import org.acme.conferencescheduling.domain.Room;
+import org.acme.conferencescheduling.domain.Speaker;
+import org.acme.conferencescheduling.domain.Talk;
+import org.acme.conferencescheduling.domain.TalkType;
+import org.acme.conferencescheduling.domain.Timeslot;
+
+/**
+ * Scales the demo data up to any number of talks, for benchmarking.
+ * Every conference day repeats the demo day: the same timeslots, 12 speakers and 15 talks with random tags.
+ * All days share the same rooms.
+ */
+public final class ConferenceScheduleGenerator {
+
+    private static final int TALKS_PER_DAY = 15;
+    private static final int LAB_TALKS_PER_DAY = 2;
+    private static final int SPEAKERS_PER_DAY = 12;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private static final String LAB_TALK_TAG = "Lab";
+    private static final String BREAKOUT_TALK_TAG = "Breakout";
+    private static final String AFTER_LUNCH_TAG = "After lunch";
+    private static final String RECORDED_TAG = "Recorded";
+    private static final String LARGE_TAG = "Large";
+    private static final List<String> THEME_TAGS = List.of("Optimization", "AI", "Cloud");
+    private static final List<String> SECTOR_TAGS = List.of("Green", "Blue", "Orange");
+    private static final List<String> AUDIENCE_TAGS = List.of("Programmers", "Analysts", "Managers");
+    private static final List<String> CONTENT_TAGS = List.of("Timefold", "Constraints", "Metaheuristics", "Kubernetes");
+
+    private ConferenceScheduleGenerator() {
+    }
+
+    /**
+     * @param internTags false to leave the tags as sets, as they were before {@link ConferenceSchedule#internTags()}
+     */
+    public static ConferenceSchedule generate(int talkCount, boolean internTags) {
+        Random random = new Random(37);
+        TalkType labTalkType = new TalkType(LAB_TALK_TAG);
+        TalkType breakoutTalkType = new TalkType(BREAKOUT_TALK_TAG);
+        Set<TalkType> talkTypes = new LinkedHashSet<>(List.of(labTalkType, breakoutTalkType));
+
+        Set<Room> rooms = new LinkedHashSet<>(List.of(
+                new Room("R1", "Room A", 60, Set.of(breakoutTalkType), Set.of(RECORDED_TAG)),
+                new Room("R2", "Room B", 240, Set.of(breakoutTalkType), emptySet()),
+                new Room("R3", "Room C", 630, Set.of(breakoutTalkType), Set.of(RECORDED_TAG, LARGE_TAG)),
+                new Room("R4", "Room D", 70, Set.of(breakoutTalkType), Set.of(RECORDED_TAG)),
+                new Room("R5", "Room E (LAB)", 490, Set.of(labTalkType), Set.of(RECORDED_TAG))));
+
+        int dayCount = (talkCount + TALKS_PER_DAY - 1) / TALKS_PER_DAY;
+        Set<Timeslot> timeslots = new LinkedHashSet<>();
+        Set<Speaker> speakers = new LinkedHashSet<>();
+        Set<Talk> talks = new LinkedHashSet<>();
+        for (int day = 0; day < dayCount; day++) {
+            timeslots.add(timeslot(day, 1, LocalTime.of(10, 15), LocalTime.of(12, 15), labTalkType, emptySet()));
+            timeslots.add(timeslot(day, 2, LocalTime.of(10, 15), LocalTime.of(11, 0), breakoutTalkType, emptySet()));
+            timeslots.add(timeslot(day, 3, LocalTime.of(11, 30), LocalTime.of(12, 15), breakoutTalkType, emptySet()));
+            timeslots.add(timeslot(day, 4, LocalTime.of(13, 0), LocalTime.of(15, 0), labTalkType,
+                    Set.of(AFTER_LUNCH_TAG)));
+            timeslots.add(timeslot(day, 5, LocalTime.of(15, 30), LocalTime.of(16, 15), breakoutTalkType, emptySet()));
+            timeslots.add(timeslot(day, 6, LocalTime.of(16, 30), LocalTime.of(17, 15), breakoutTalkType, emptySet()));
+
+            List<Speaker> daySpeakers = new ArrayList<>(SPEAKERS_PER_DAY);
+            for (int i = 0; i < SPEAKERS_PER_DAY; i++) {
+                String id = day + "-" + i;
+                daySpeakers.add(i == SPEAKERS_PER_DAY - 1
+                        ? new Speaker(id, "Speaker " + id, Set.of(AFTER_LUNCH_TAG))
+                        : new Speaker(id, "Speaker " + id));
+            }
+            speakers.addAll(daySpeakers);
+
+            for (int i = 0; i < TALKS_PER_DAY && talks.size() < talkCount; i++) {
+                String code = "S" + talks.size();
+                List<Speaker> talkSpeakers = random.nextBoolean()
+                        ? List.of(daySpeakers.get(random.nextInt(SPEAKERS_PER_DAY)))
+                        : randomSpeakerPair(daySpeakers, random);
+                Talk talk = new Talk(code, "Talk " + code, i < LAB_TALKS_PER_DAY ? labTalkType : breakoutTalkType,
+                        talkSpeakers, Set.of(pick(THEME_TAGS, random)), Set.of(pick(SECTOR_TAGS, random)),
+                        Set.of(pick(AUDIENCE_TAGS, random)), 1 + random.nextInt(3), Set.of(pick(CONTENT_TAGS, random)),
+                        "en", random.nextInt(1000), random.nextInt(10) == 0 ? 1 : 0);
+                if (random.nextInt(15) == 0) {
+                    talk.setRequiredRoomTags(Set.of(RECORDED_TAG));
+                } else if (random.nextInt(15) == 0) {
+                    talk.setUndesiredRoomTags(Set.of(RECORDED_TAG));
+                }
+                if (random.nextInt(15) == 0) {
+                    talk.setMutuallyExclusiveTalksTags(Set.of(pick(CONTENT_TAGS, random)));
+                }
+                talks.add(talk);
+            }
+        }
+
+        ConferenceSchedule schedule = new ConferenceSchedule();
+        schedule.setName(talkCount + " talks, " + (internTags ? "bitset" : "set") + " tags");
+        schedule.setConstraintProperties(new ConferenceConstraintProperties());
+        schedule.setTalkTypes(talkTypes);
+        schedule.setTimeslots(timeslots);
+        schedule.setRooms(rooms);
+        schedule.setSpeakers(speakers);
+        schedule.setTalks(talks);
+        if (internTags) {
+            schedule.internTags();
+        }
+        return schedule;
+    }
+
+    private static Timeslot timeslot(int day, int index, LocalTime start, LocalTime end, TalkType talkType,
+            Set<String> tags) {
+        LocalDate date = FIRST_DAY.plusDays(day);
+        return new Timeslot(day + "-T" + index, LocalDateTime.of(date, start), LocalDateTime.of(date, end),
+                Set.of(talkType), tags);
+    }
+
+    private static List<Speaker> randomSpeakerPair(List<Speaker> speakers, Random random) {
+        int first = random.nextInt(speakers.size());
+        int second = (first + 1 + random.nextInt(speakers.size() - 1)) % speakers.size();
+        return List.of(speakers.get(first), speakers.get(second));
+    }
+
+    private static String pick(List<String> tags, Random random) {
+        return tags.get(random.nextInt(tags.size()));
+    }
+
+}
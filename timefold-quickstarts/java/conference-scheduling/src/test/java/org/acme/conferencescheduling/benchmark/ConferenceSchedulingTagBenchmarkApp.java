@@ -0,0 +1,25 @@
+package org.acme.conferencescheduling.benchmark;
+
+import ai.timefold.solver.benchmark.api.PlannerBenchmark;
+import ai.timefold.solver.benchmark.api.PlannerBenchmarkFactory;
+
+/**
+ * Compares the score calculation speed of the tag constraints on sets and on interned bitsets,
+ * on the demo data scaled up to 1k talks.
+ * <p>
+ * Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.acme.conferencescheduling.benchmark.ConferenceSchedulingTagBenchmarkApp}.
+ * The report is written to {@code target/benchmarks}.
+ */
+public class ConferenceSchedulingTagBenchmarkApp {
+
+    public static void main(String[] args) {
+        PlannerBenchmarkFactory benchmarkFactory =
+                PlannerBenchmarkFactory.createFromXmlResource("conferenceSchedulingTagBenchmarkConfig.xml");
+        PlannerBenchmark benchmark = benchmarkFactory.buildPlannerBenchmark(
+                ConferenceScheduleGenerator.generate(1_000, false),
+                ConferenceScheduleGenerator.generate(1_000, true));
+        benchmark.benchmarkAndShowReportInBrowser();
+    }
+
+}
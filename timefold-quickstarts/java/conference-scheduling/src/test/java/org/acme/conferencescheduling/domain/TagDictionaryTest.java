@@ -0,0 +1,74 @@
+package org.acme.conferencescheduling.domain;
+
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TagDictionaryTest {
+
+    @Test
+    void countsAcrossWords() {
+        TagDictionary tagDictionary = new TagDictionary();
+        // Spread the tags over 2 words.
+        long[] all = tagDictionary.intern(IntStream.range(0, 100).mapToObj(i -> "t" + i).collect(Collectors.toSet()));
+        long[] low = tagDictionary.intern(Set.of("t1", "t2"));
+        long[] highAndLow = tagDictionary.intern(Set.of("t1", "t99"));
+        long[] none = tagDictionary.intern(emptySet());
+
+        assertThat(tagDictionary.size()).isEqualTo(100);
+        assertThat(low).hasSizeLessThan(all.length);
+        assertThat(TagDictionary.overlappingCount(all, highAndLow)).isEqualTo(2);
+        assertThat(TagDictionary.overlappingCount(low, highAndLow)).isEqualTo(1);
+        assertThat(TagDictionary.overlappingCount(none, all)).isZero();
+        assertThat(TagDictionary.missingCount(highAndLow, low)).isEqualTo(1);
+        assertThat(TagDictionary.missingCount(highAndLow, none)).isEqualTo(2);
+        assertThat(TagDictionary.missingCount(highAndLow, all)).isZero();
+        assertThat(TagDictionary.missingCount(none, low)).isZero();
+    }
+
+    @Test
+    void internedCountsMatchSetCounts() {
+        TalkType talkType = new TalkType("Breakout");
+        Timeslot timeslot = new Timeslot("1", LocalDateTime.of(2024, 1, 1, 10, 0), LocalDateTime.of(2024, 1, 1, 11, 0),
+                Set.of(talkType), Set.of("a", "b"));
+        Room room = new Room("1", "Room", 100, Set.of(talkType), Set.of("Recorded"));
+        Speaker speaker = new Speaker("1", "Speaker", Set.of("a", "c"));
+        Talk talk = new Talk("1", "Talk", talkType, List.of(speaker), Set.of("AI"), Set.of("Green"),
+                Set.of("Programmers"), 1, Set.of("Timefold"), "en", 0, 0);
+        talk.setRequiredTimeslotTags(Set.of("a", "c"));
+        talk.setProhibitedRoomTags(Set.of("Recorded", "Large"));
+        talk.setTimeslot(timeslot);
+        talk.setRoom(room);
+        Talk other = new Talk("2", "Other", talkType, List.of(speaker), Set.of("AI", "Cloud"), Set.of("Blue"),
+                Set.of("Programmers"), 1, Set.of("Timefold"), "en", 0, 0);
+
+        int[] setCounts = counts(talk, other);
+        new ConferenceSchedule("Conference", Set.of(talkType), Set.of(timeslot), Set.of(room), Set.of(speaker),
+                Set.of(talk, other));
+        assertThat(counts(talk, other)).containsExactly(setCounts).containsExactly(1, 0, 1, 1, 1, 1, 1);
+
+        // Replacing a tag set drops its stale bitset.
+        talk.setRequiredTimeslotTags(Set.of("a", "b"));
+        assertThat(talk.missingRequiredTimeslotTagCount()).isZero();
+    }
+
+    private static int[] counts(Talk talk, Talk other) {
+        return new int[] {
+                talk.overlappingThemeTrackCount(other),
+                talk.overlappingSectorCount(other),
+                talk.overlappingAudienceTypeCount(other),
+                talk.overlappingContentCount(other),
+                talk.missingRequiredTimeslotTagCount(),
+                talk.prevailingProhibitedRoomTagCount(),
+                talk.prevailingSpeakerUndesiredTimeslotTagCount()
+        };
+    }
+
+}
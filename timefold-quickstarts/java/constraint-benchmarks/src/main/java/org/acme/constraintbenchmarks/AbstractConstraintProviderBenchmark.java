@@ -0,0 +1,158 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolutionUpdatePolicy;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
+import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolverFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the score calculation cost of the constraint provider of one quickstart, on its demo data.
+ * <p>
+ * {@link #fullScoreCalculation()} calculates the score of the whole solution from scratch.
+ * {@link #incrementalScoreCalculation()} changes one random variable through a score director,
+ * recalculates the score incrementally and undoes the change, see {@link RandomVariableChanges}.
+ * {@link #localSearchSteps()} runs a fixed number of local search steps with the default moves,
+ * so it also includes move selection and acceptance.
+ * Set the {@code constraintName} parameter to measure a single constraint, see {@link ConstraintCostBreakdown}.
+ *
+ * @param <Solution_> the planning solution class of the quickstart
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public abstract class AbstractConstraintProviderBenchmark<Solution_> {
+
+    static final int LOCAL_SEARCH_STEP_COUNT = 1000;
+
+    @Param(ConstraintSubsetProvider.ALL_CONSTRAINTS)
+    public String constraintName = ConstraintSubsetProvider.ALL_CONSTRAINTS;
+
+    private SolutionManager<Solution_, ?> solutionManager;
+    private InnerScoreDirector<Solution_, ?> incrementalScoreDirector;
+    private RandomVariableChanges<Solution_> randomVariableChanges;
+    private Solver<Solution_> localSearchSolver;
+    private Solution_ solution;
+
+    protected abstract Class<Solution_> getSolutionClass();
+
+    protected abstract Class<?>[] getEntityClasses();
+
+    protected abstract Class<? extends ConstraintProvider> getConstraintProviderClass();
+
+    /**
+     * @return a new uninitialized problem, built by the demo data generator of the quickstart
+     */
+    protected abstract Solution_ createProblem();
+
+    /**
+     * @return the phases that initialize the problem, a default construction heuristic unless overridden
+     */
+    protected List<PhaseConfig> createConstructionPhaseConfigs() {
+        return List.of(new ConstructionHeuristicPhaseConfig());
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Always initialize with all constraints, so every constraint is measured on the same solution.
+        SolverConfig constructionConfig = createSolverConfig(ConstraintSubsetProvider.ALL_CONSTRAINTS)
+                .withPhaseList(createConstructionPhaseConfigs());
+        solution = SolverFactory.<Solution_> create(constructionConfig).buildSolver().solve(createProblem());
+
+        SolverConfig solverConfig = createSolverConfig(constraintName);
+        solutionManager = SolutionManager.create(SolverFactory.create(solverConfig));
+        SolverConfig localSearchConfig = solverConfig.copyConfig()
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withForagerConfig(new LocalSearchForagerConfig().withAcceptedCountLimit(1))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(LOCAL_SEARCH_STEP_COUNT)));
+        localSearchSolver = SolverFactory.<Solution_> create(localSearchConfig).buildSolver();
+
+        DefaultSolverFactory<Solution_> solverFactory = (DefaultSolverFactory<Solution_>) SolverFactory
+                .<Solution_> create(solverConfig);
+        incrementalScoreDirector = solverFactory.getScoreDirectorFactory().buildScoreDirector();
+        // A clone, so that the other benchmarks never change the working solution behind its back.
+        incrementalScoreDirector.setWorkingSolution(incrementalScoreDirector.cloneSolution(solution));
+        randomVariableChanges = new RandomVariableChanges<>(incrementalScoreDirector);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        incrementalScoreDirector.close();
+    }
+
+    private SolverConfig createSolverConfig(String constraintName) {
+        return new SolverConfig()
+                .withSolutionClass(getSolutionClass())
+                .withEntityClasses(getEntityClasses())
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(ConstraintSubsetProvider.class)
+                        .withConstraintProviderCustomProperties(Map.of(
+                                "delegateClass", getConstraintProviderClass().getName(),
+                                "constraintName", constraintName)));
+    }
+
+    @Benchmark
+    public Score<?> fullScoreCalculation() {
+        return solutionManager.update(solution, SolutionUpdatePolicy.UPDATE_SCORE_ONLY);
+    }
+
+    /**
+     * Every invocation evaluates one random change, so the solution stays the one of the construction heuristic.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Score<?> incrementalScoreCalculation() {
+        return randomVariableChanges.evaluateRandomChange();
+    }
+
+    /**
+     * Each invocation continues the local search from the best solution of the previous one,
+     * which keeps the solution representative without cloning it outside the measurement.
+     */
+    @Benchmark
+    public Solution_ localSearchSteps() {
+        solution = localSearchSolver.solve(solution);
+        return solution;
+    }
+
+    /**
+     * Must be called after {@link #setUp()}.
+     */
+    List<String> getConstraintNames() {
+        return solutionManager.analyze(solution).constraintMap().keySet().stream()
+                .map(constraintRef -> constraintRef.constraintName())
+                .sorted()
+                .toList();
+    }
+}
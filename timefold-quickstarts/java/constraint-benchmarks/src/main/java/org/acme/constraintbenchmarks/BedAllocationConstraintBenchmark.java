@@ -0,0 +1,34 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.bedallocation.domain.BedPlan;
+import org.acme.bedallocation.domain.Stay;
+import org.acme.bedallocation.rest.DemoDataGenerator;
+import org.acme.bedallocation.solver.BedAllocationConstraintProvider;
+
+public class BedAllocationConstraintBenchmark extends AbstractConstraintProviderBenchmark<BedPlan> {
+
+    @Override
+    protected Class<BedPlan> getSolutionClass() {
+        return BedPlan.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Stay.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return BedAllocationConstraintProvider.class;
+    }
+
+    @Override
+    protected BedPlan createProblem() {
+        BedPlan problem = new DemoDataGenerator().generateDemoData();
+        // Like the solve endpoint, so the benchmark measures the indexed lookups.
+        problem.indexEquipmentsAndSpecialties();
+        return problem;
+    }
+}
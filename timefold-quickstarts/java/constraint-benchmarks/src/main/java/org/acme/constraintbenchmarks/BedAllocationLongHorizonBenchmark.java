@@ -0,0 +1,95 @@
+package org.acme.constraintbenchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.acme.bedallocation.domain.Bed;
+import org.acme.bedallocation.domain.BedPlan;
+import org.acme.bedallocation.domain.Department;
+import org.acme.bedallocation.domain.Gender;
+import org.acme.bedallocation.domain.GenderLimitation;
+import org.acme.bedallocation.domain.Room;
+import org.acme.bedallocation.domain.Stay;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the bed allocation constraints on a 1-year horizon with 20,000 stays in 280 beds.
+ * Every bed holds a chain of short stays one after another, so most pairs of stays in the same bed or room
+ * never share a night.
+ * About 5% of the stays are assigned to another random bed, so some of them do.
+ * The equipments and specialties are indexed into bitmasks and priority arrays or not ({@code indexed} parameter).
+ */
+public class BedAllocationLongHorizonBenchmark extends BedAllocationConstraintBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final int DAY_COUNT = 365;
+    private static final int ROOM_COUNT = 140;
+    private static final int[] ROOM_CAPACITIES = { 1, 2, 3, 2 };
+    private static final int STAY_COUNT = 20_000;
+    private static final List<String> SPECIALTIES = List.of("Specialty1", "Specialty2", "Specialty3");
+    private static final List<String> EQUIPMENTS = List.of("telemetry", "television", "oxygen", "nitrogen");
+
+    @Param({ "false", "true" })
+    public boolean indexed = true;
+
+    static BedPlan generatePlan(boolean indexed) {
+        Random random = new Random(0);
+        Department department = new Department("1", "Department");
+        for (int i = 0; i < SPECIALTIES.size(); i++) {
+            department.getSpecialtyToPriority().put(SPECIALTIES.get(i), i + 1);
+        }
+        List<Bed> beds = new ArrayList<>();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            Room room = new Room(String.valueOf(i), "Room" + i, department);
+            room.setCapacity(ROOM_CAPACITIES[i % ROOM_CAPACITIES.length]);
+            room.setGenderLimitation(i % 4 == 0 ? GenderLimitation.SAME_GENDER : GenderLimitation.ANY_GENDER);
+            room.setEquipments(randomEquipments(random.nextInt(EQUIPMENTS.size() + 1), random));
+            for (int j = 0; j < room.getCapacity(); j++) {
+                Bed bed = new Bed(room.getId() + "-bed" + j, room, j);
+                room.addBed(bed);
+                beds.add(bed);
+            }
+        }
+        List<Stay> stays = new ArrayList<>(STAY_COUNT);
+        for (Bed bed : beds) {
+            // Stays of 1 to 6 nights, with up to 2 free nights in between.
+            int night = random.nextInt(3);
+            while (stays.size() < STAY_COUNT) {
+                int nightCount = 1 + random.nextInt(6);
+                if (night + nightCount > DAY_COUNT) {
+                    break;
+                }
+                Bed stayBed = random.nextInt(20) == 0 ? beds.get(random.nextInt(beds.size())) : bed;
+                Stay stay = new Stay("stay-" + stays.size(), START_DATE.plusDays(night),
+                        START_DATE.plusDays(night + nightCount - 1L),
+                        SPECIALTIES.get(random.nextInt(SPECIALTIES.size())), stayBed);
+                stay.setPatientName("patient-" + stays.size());
+                stay.setPatientGender(random.nextBoolean() ? Gender.MALE : Gender.FEMALE);
+                stay.setPatientAge(18 + random.nextInt(70));
+                stay.setPatientRequiredEquipments(randomEquipments(random.nextInt(3), random));
+                stay.setPatientPreferredEquipments(randomEquipments(random.nextInt(2), random));
+                stays.add(stay);
+                night += nightCount + random.nextInt(3);
+            }
+        }
+        BedPlan plan = new BedPlan(List.of(department), stays);
+        if (indexed) {
+            plan.indexEquipmentsAndSpecialties();
+        }
+        return plan;
+    }
+
+    private static List<String> randomEquipments(int count, Random random) {
+        List<String> equipments = new ArrayList<>(EQUIPMENTS);
+        Collections.shuffle(equipments, random);
+        return new ArrayList<>(equipments.subList(0, count));
+    }
+
+    @Override
+    protected BedPlan createProblem() {
+        return generatePlan(indexed);
+    }
+}
@@ -0,0 +1,15 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+/**
+ * The baseline of the same night constraints in {@link BedAllocationLongHorizonBenchmark}:
+ * the former pairs of stays in the same bed or room, filtered on their same nights, on the same stays.
+ */
+public class BedAllocationPairFilterBenchmark extends BedAllocationLongHorizonBenchmark {
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return PairFilterBedAllocationConstraintProvider.class;
+    }
+}
@@ -0,0 +1,75 @@
+package org.acme.constraintbenchmarks;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.countDistinctLong;
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.sum;
+import static org.acme.orderpicking.domain.Warehouse.calculateDistance;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+/**
+ * The order picking constraints on the former CHAINED model,
+ * kept as the baseline of {@link OrderPickingChainedModelBenchmark}.
+ */
+public class ChainedOrderPickingConstraintProvider implements ConstraintProvider {
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                requiredNumberOfBuckets(constraintFactory),
+                minimizeDistanceFromPreviousTrolleyStep(constraintFactory),
+                minimizeDistanceFromLastTrolleyStepToPathOrigin(constraintFactory),
+                minimizeOrderSplitByTrolley(constraintFactory)
+        };
+    }
+
+    Constraint requiredNumberOfBuckets(ConstraintFactory constraintFactory) {
+        return constraintFactory
+                .forEach(ChainedTrolleyStep.class)
+                .groupBy(ChainedTrolleyStep::getTrolley,
+                        trolleyStep -> trolleyStep.getOrderItem().getOrder(),
+                        sum(trolleyStep -> trolleyStep.getOrderItem().getVolume()))
+                .groupBy((trolley, order, orderTotalVolume) -> trolley,
+                        (trolley, order, orderTotalVolume) -> order,
+                        sum((trolley, order, orderTotalVolume) -> calculateOrderRequiredBuckets(orderTotalVolume,
+                                trolley.getTrolley().getBucketCapacity())))
+                .groupBy((trolley, order, orderTotalBuckets) -> trolley,
+                        sum((trolley, order, orderTotalBuckets) -> orderTotalBuckets))
+                .filter((trolley, trolleyTotalBuckets) -> trolley.getTrolley().getBucketCount() < trolleyTotalBuckets)
+                .penalize(HardSoftLongScore.ONE_HARD,
+                        (trolley, trolleyTotalBuckets) -> trolleyTotalBuckets - trolley.getTrolley().getBucketCount())
+                .asConstraint("Required number of buckets");
+    }
+
+    Constraint minimizeOrderSplitByTrolley(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(ChainedTrolleyStep.class)
+                .groupBy(trolleyStep -> trolleyStep.getOrderItem().getOrder(),
+                        countDistinctLong(ChainedTrolleyStep::getTrolley))
+                .penalizeLong(HardSoftLongScore.ONE_SOFT,
+                        (order, trolleySpreadCount) -> trolleySpreadCount * 1000)
+                .asConstraint("Minimize order split by trolley");
+    }
+
+    Constraint minimizeDistanceFromPreviousTrolleyStep(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(ChainedTrolleyStep.class)
+                .penalizeLong(HardSoftLongScore.ONE_SOFT,
+                        trolleyStep -> calculateDistance(trolleyStep.getPreviousElement().getLocation(),
+                                trolleyStep.getLocation()))
+                .asConstraint("Minimize the distance from the previous trolley step");
+    }
+
+    Constraint minimizeDistanceFromLastTrolleyStepToPathOrigin(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(ChainedTrolleyStep.class)
+                .filter(ChainedTrolleyStep::isLast)
+                .penalizeLong(HardSoftLongScore.ONE_SOFT,
+                        trolleyStep -> calculateDistance(trolleyStep.getLocation(),
+                                trolleyStep.getTrolley().getLocation()))
+                .asConstraint("Minimize the distance from last trolley step to the path origin");
+    }
+
+    private static int calculateOrderRequiredBuckets(int orderVolume, int bucketVolume) {
+        return (orderVolume + (bucketVolume - 1)) / bucketVolume;
+    }
+}
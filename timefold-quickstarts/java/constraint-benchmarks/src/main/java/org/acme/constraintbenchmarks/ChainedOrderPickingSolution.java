@@ -0,0 +1,76 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+
+import org.acme.orderpicking.domain.OrderPickingSolution;
+import org.acme.orderpicking.domain.Trolley;
+import org.acme.orderpicking.domain.TrolleyStep;
+
+/**
+ * An {@link OrderPickingSolution} in the former CHAINED model, for {@link ChainedOrderPickingConstraintProvider}.
+ */
+@PlanningSolution
+public class ChainedOrderPickingSolution {
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    private List<ChainedTrolley> trolleys;
+
+    @ValueRangeProvider
+    @PlanningEntityCollectionProperty
+    private List<ChainedTrolleyStep> trolleySteps;
+
+    @PlanningScore
+    private HardSoftLongScore score;
+
+    public ChainedOrderPickingSolution() {
+    }
+
+    /**
+     * Chains the trolley steps in the same order as the list of steps of each trolley.
+     * Their locations keep the layout of the given solution.
+     */
+    public ChainedOrderPickingSolution(OrderPickingSolution solution) {
+        Map<Trolley, ChainedTrolley> trolleyMap = new IdentityHashMap<>();
+        this.trolleys = solution.getTrolleys().stream()
+                .map(trolley -> trolleyMap.computeIfAbsent(trolley, ChainedTrolley::new))
+                .toList();
+        Map<TrolleyStep, ChainedTrolleyStep> trolleyStepMap = new IdentityHashMap<>();
+        this.trolleySteps = solution.getTrolleySteps().stream()
+                .map(trolleyStep -> trolleyStepMap.computeIfAbsent(trolleyStep, ChainedTrolleyStep::new))
+                .toList();
+        for (Trolley trolley : solution.getTrolleys()) {
+            ChainedTrolleyOrTrolleyStep previousElement = trolleyMap.get(trolley);
+            for (TrolleyStep trolleyStep : trolley.getSteps()) {
+                ChainedTrolleyStep chainedTrolleyStep = trolleyStepMap.get(trolleyStep);
+                chainedTrolleyStep.setPreviousElement(previousElement);
+                previousElement = chainedTrolleyStep;
+            }
+        }
+    }
+
+    public List<ChainedTrolley> getTrolleys() {
+        return trolleys;
+    }
+
+    public List<ChainedTrolleyStep> getTrolleySteps() {
+        return trolleySteps;
+    }
+
+    public HardSoftLongScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftLongScore score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,37 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+
+import org.acme.orderpicking.domain.Trolley;
+import org.acme.orderpicking.domain.WarehouseLocation;
+
+/**
+ * The anchor of a chain of {@link ChainedTrolleyStep}s.
+ */
+public class ChainedTrolley extends ChainedTrolleyOrTrolleyStep {
+
+    @PlanningId
+    private String id;
+    private Trolley trolley;
+
+    public ChainedTrolley() {
+    }
+
+    public ChainedTrolley(Trolley trolley) {
+        this.id = trolley.getId();
+        this.trolley = trolley;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Trolley getTrolley() {
+        return trolley;
+    }
+
+    @Override
+    public WarehouseLocation getLocation() {
+        return trolley.getLocation();
+    }
+}
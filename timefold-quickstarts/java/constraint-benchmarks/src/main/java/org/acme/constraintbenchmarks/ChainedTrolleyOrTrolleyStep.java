@@ -0,0 +1,29 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.InverseRelationShadowVariable;
+
+import org.acme.orderpicking.domain.WarehouseLocation;
+
+/**
+ * The base class of the former CHAINED order picking model, kept as the baseline of
+ * {@link OrderPickingChainedModelBenchmark}.
+ */
+@PlanningEntity
+public abstract class ChainedTrolleyOrTrolleyStep {
+
+    public static final String PREVIOUS_ELEMENT = "previousElement";
+
+    @InverseRelationShadowVariable(sourceVariableName = PREVIOUS_ELEMENT)
+    protected ChainedTrolleyStep nextElement;
+
+    public abstract WarehouseLocation getLocation();
+
+    public ChainedTrolleyStep getNextElement() {
+        return nextElement;
+    }
+
+    public void setNextElement(ChainedTrolleyStep nextElement) {
+        this.nextElement = nextElement;
+    }
+}
@@ -0,0 +1,69 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.variable.AnchorShadowVariable;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariableGraphType;
+
+import org.acme.orderpicking.domain.OrderItem;
+import org.acme.orderpicking.domain.TrolleyStep;
+import org.acme.orderpicking.domain.WarehouseLocation;
+
+/**
+ * A {@link TrolleyStep} of the former CHAINED order picking model.
+ */
+@PlanningEntity
+public class ChainedTrolleyStep extends ChainedTrolleyOrTrolleyStep {
+
+    @PlanningId
+    private String id;
+    private OrderItem orderItem;
+
+    @PlanningVariable(graphType = PlanningVariableGraphType.CHAINED)
+    private ChainedTrolleyOrTrolleyStep previousElement;
+
+    @AnchorShadowVariable(sourceVariableName = PREVIOUS_ELEMENT)
+    private ChainedTrolley trolley;
+
+    public ChainedTrolleyStep() {
+    }
+
+    public ChainedTrolleyStep(TrolleyStep trolleyStep) {
+        this.id = trolleyStep.getId();
+        this.orderItem = trolleyStep.getOrderItem();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public OrderItem getOrderItem() {
+        return orderItem;
+    }
+
+    @Override
+    public WarehouseLocation getLocation() {
+        return orderItem.getProduct().getLocation();
+    }
+
+    public ChainedTrolleyOrTrolleyStep getPreviousElement() {
+        return previousElement;
+    }
+
+    public void setPreviousElement(ChainedTrolleyOrTrolleyStep previousElement) {
+        this.previousElement = previousElement;
+    }
+
+    public ChainedTrolley getTrolley() {
+        return trolley;
+    }
+
+    public void setTrolley(ChainedTrolley trolley) {
+        this.trolley = trolley;
+    }
+
+    public boolean isLast() {
+        return nextElement == null;
+    }
+}
@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.conferencescheduling.domain.ConferenceSchedule;
+import org.acme.conferencescheduling.domain.Talk;
+import org.acme.conferencescheduling.rest.DemoDataGenerator;
+import org.acme.conferencescheduling.solver.ConferenceSchedulingConstraintProvider;
+
+public class ConferenceSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<ConferenceSchedule> {
+
+    @Override
+    protected Class<ConferenceSchedule> getSolutionClass() {
+        return ConferenceSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Talk.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return ConferenceSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected ConferenceSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
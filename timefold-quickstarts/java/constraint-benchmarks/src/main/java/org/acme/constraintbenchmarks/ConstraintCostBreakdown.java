@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the full score calculation benchmark of one quickstart once per constraint,
+ * to show which constraints dominate the score calculation cost.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar org.acme.constraintbenchmarks.ConstraintCostBreakdown
+ * VehicleRoutingConstraintBenchmark}
+ */
+public final class ConstraintCostBreakdown {
+
+    public static void main(String[] args) throws ReflectiveOperationException, RunnerException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ConstraintCostBreakdown <benchmarkClassSimpleName>");
+        }
+        Class<?> benchmarkClass = Class.forName(ConstraintCostBreakdown.class.getPackageName() + "." + args[0]);
+        AbstractConstraintProviderBenchmark<?> benchmark =
+                (AbstractConstraintProviderBenchmark<?>) benchmarkClass.getConstructor().newInstance();
+        benchmark.setUp();
+        String[] constraintNames = benchmark.getConstraintNames().toArray(String[]::new);
+
+        Options options = new OptionsBuilder()
+                .include(benchmarkClass.getName() + ".fullScoreCalculation")
+                .param("constraintName", constraintNames)
+                .build();
+        new Runner(options).run();
+    }
+
+    private ConstraintCostBreakdown() {
+    }
+}
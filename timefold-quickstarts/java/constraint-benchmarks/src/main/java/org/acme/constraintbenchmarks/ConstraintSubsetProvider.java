@@ -0,0 +1,55 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+/**
+ * Wraps the constraint provider of a quickstart and keeps only one of its constraints,
+ * so that the cost of each constraint can be measured in isolation.
+ * Configured through the constraint provider custom properties of the solver config.
+ */
+public class ConstraintSubsetProvider implements ConstraintProvider {
+
+    public static final String ALL_CONSTRAINTS = "*";
+
+    private String delegateClass;
+    private String constraintName = ALL_CONSTRAINTS;
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        Constraint[] constraints = createDelegate().defineConstraints(constraintFactory);
+        if (ALL_CONSTRAINTS.equals(constraintName)) {
+            return constraints;
+        }
+        Constraint[] subset = Arrays.stream(constraints)
+                .filter(constraint -> constraint.getConstraintRef().constraintName().equals(constraintName))
+                .toArray(Constraint[]::new);
+        if (subset.length == 0) {
+            throw new IllegalArgumentException("The constraintName (" + constraintName
+                    + ") does not exist in the constraint provider (" + delegateClass + ").");
+        }
+        return subset;
+    }
+
+    private ConstraintProvider createDelegate() {
+        if (delegateClass == null) {
+            throw new IllegalStateException("The delegateClass custom property is not configured.");
+        }
+        try {
+            return (ConstraintProvider) Class.forName(delegateClass).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("The delegateClass (" + delegateClass + ") cannot be instantiated.", e);
+        }
+    }
+
+    public void setDelegateClass(String delegateClass) {
+        this.delegateClass = delegateClass;
+    }
+
+    public void setConstraintName(String constraintName) {
+        this.constraintName = constraintName;
+    }
+}
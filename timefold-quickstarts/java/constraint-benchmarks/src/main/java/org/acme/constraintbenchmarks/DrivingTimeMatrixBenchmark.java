@@ -0,0 +1,123 @@
+package org.acme.constraintbenchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.vehiclerouting.domain.Location;
+import org.acme.vehiclerouting.domain.geo.DrivingTimeCalculator;
+import org.acme.vehiclerouting.domain.geo.HaversineDrivingTimeCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares driving time lookups in the vehicle-routing quickstart:
+ * the former nested {@code Map<Location, Map<Location, Long>>} against the dense on-heap and memory-mapped matrix.
+ * The retained heap of each representation is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms8g", "-Xmx8g" })
+public class DrivingTimeMatrixBenchmark {
+
+    private static final int LOOKUP_COUNT = 1 << 20;
+
+    public enum Storage {
+        MAP,
+        ARRAY,
+        MAPPED
+    }
+
+    @Param({ "1000", "5000" })
+    public int locationCount;
+
+    @Param
+    public Storage storage;
+
+    private Location[] locations;
+    private List<Map<Location, Long>> drivingTimeMaps;
+    private int[] fromIndexes;
+    private int[] toIndexes;
+    private Path backingFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(0);
+        List<Location> locationList = new ArrayList<>(locationCount);
+        for (int i = 0; i < locationCount; i++) {
+            // The Philadelphia demo data area.
+            locationList.add(new Location(39.77 + random.nextDouble(), -76.84 + 1.9 * random.nextDouble()));
+        }
+        locations = locationList.toArray(Location[]::new);
+        fromIndexes = random.ints(LOOKUP_COUNT, 0, locationCount).toArray();
+        toIndexes = random.ints(LOOKUP_COUNT, 0, locationCount).toArray();
+
+        DrivingTimeCalculator drivingTimeCalculator = HaversineDrivingTimeCalculator.getInstance();
+        long heapBefore = usedHeap();
+        switch (storage) {
+            case MAP -> {
+                Map<Location, Map<Location, Long>> drivingTimeMatrix =
+                        drivingTimeCalculator.calculateBulkDrivingTime(locationList, locationList);
+                drivingTimeMaps = locationList.stream().map(drivingTimeMatrix::get).toList();
+            }
+            case ARRAY -> drivingTimeCalculator.initDrivingTimeMatrix(locationList, null);
+            case MAPPED -> {
+                backingFile = Files.createTempFile("driving-time-matrix-", ".bin");
+                drivingTimeCalculator.initDrivingTimeMatrix(locationList, backingFile);
+            }
+        }
+        System.out.printf("%n%s with %d locations retains %,d bytes of heap.%n",
+                storage, locationCount, usedHeap() - heapBefore);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (backingFile != null) {
+            Files.deleteIfExists(backingFile);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public long lookup() {
+        long sum = 0L;
+        if (storage == Storage.MAP) {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                sum += drivingTimeMaps.get(fromIndexes[i]).get(locations[toIndexes[i]]);
+            }
+        } else {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                sum += locations[fromIndexes[i]].getDrivingTimeTo(locations[toIndexes[i]]);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,58 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.employeescheduling.domain.EmployeeSchedule;
+import org.acme.employeescheduling.domain.Shift;
+import org.acme.employeescheduling.rest.DemoDataGenerator;
+import org.acme.employeescheduling.rest.DemoDataGenerator.CountDistribution;
+import org.acme.employeescheduling.rest.DemoDataGenerator.DemoDataParameters;
+import org.acme.employeescheduling.solver.EmployeeSchedulingConstraintProvider;
+
+/**
+ * The employee scheduling constraints with their {@code HardSoftBigDecimalScore},
+ * on a roster of about 2k shifts and 200 employees.
+ * Compare with {@link EmployeeSchedulingLongScoreBenchmark}.
+ */
+public class EmployeeSchedulingBigDecimalScoreBenchmark extends AbstractConstraintProviderBenchmark<EmployeeSchedule> {
+
+    // The LARGE demo data, with 4 times the employees and about twice the shifts: 28 days * 20 timeslots * 3.6.
+    static final DemoDataParameters ROSTER_PARAMETERS = new DemoDataParameters(
+            List.of("Ambulatory care", "Neurology", "Critical care", "Pediatric care", "Surgery", "Radiology",
+                    "Outpatient"),
+            List.of("Doctor", "Nurse"),
+            List.of("Anaesthetics", "Cardiology", "Radiology"),
+            28,
+            200,
+            List.of(new CountDistribution(1, 3), new CountDistribution(2, 1)),
+            List.of(new CountDistribution(3, 0.6), new CountDistribution(4, 0.2), new CountDistribution(5, 0.2)),
+            List.of(new CountDistribution(10, 4), new CountDistribution(20, 3), new CountDistribution(30, 2),
+                    new CountDistribution(40, 1)),
+            0);
+
+    static EmployeeSchedule generateRoster() {
+        return new DemoDataGenerator().generateDemoData(ROSTER_PARAMETERS);
+    }
+
+    @Override
+    protected Class<EmployeeSchedule> getSolutionClass() {
+        return EmployeeSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Shift.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return EmployeeSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected EmployeeSchedule createProblem() {
+        return generateRoster();
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.employeescheduling.domain.EmployeeSchedule;
+import org.acme.employeescheduling.domain.Shift;
+import org.acme.employeescheduling.rest.DemoDataGenerator;
+import org.acme.employeescheduling.rest.DemoDataGenerator.DemoData;
+import org.acme.employeescheduling.solver.EmployeeSchedulingConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class EmployeeSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<EmployeeSchedule> {
+
+    @Param({ "SMALL", "LARGE" })
+    public DemoData demoData = DemoData.SMALL;
+
+    @Override
+    protected Class<EmployeeSchedule> getSolutionClass() {
+        return EmployeeSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Shift.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return EmployeeSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected EmployeeSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData(demoData);
+    }
+}
@@ -0,0 +1,33 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.employeescheduling.domain.Shift;
+
+/**
+ * The employee scheduling constraints with {@code HardSoftLongScore},
+ * on the same roster as {@link EmployeeSchedulingBigDecimalScoreBenchmark}.
+ */
+public class EmployeeSchedulingLongScoreBenchmark
+        extends AbstractConstraintProviderBenchmark<LongScoreEmployeeSchedule> {
+
+    @Override
+    protected Class<LongScoreEmployeeSchedule> getSolutionClass() {
+        return LongScoreEmployeeSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Shift.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return LongScoreEmployeeSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected LongScoreEmployeeSchedule createProblem() {
+        return new LongScoreEmployeeSchedule(EmployeeSchedulingBigDecimalScoreBenchmark.generateRoster());
+    }
+}
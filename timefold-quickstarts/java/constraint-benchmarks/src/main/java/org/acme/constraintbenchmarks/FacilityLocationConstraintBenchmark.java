@@ -0,0 +1,52 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.facilitylocation.bootstrap.DemoDataBuilder;
+import org.acme.facilitylocation.domain.Consumer;
+import org.acme.facilitylocation.domain.Facility;
+import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.domain.Location;
+import org.acme.facilitylocation.solver.FacilityLocationConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class FacilityLocationConstraintBenchmark extends AbstractConstraintProviderBenchmark<FacilityLocationProblem> {
+
+    // Scales the demo data (60 consumers, 30 facilities) while keeping its capacity to demand ratio.
+    @Param({ "60", "600", "6000" })
+    public int consumerCount = 60;
+
+    // Every consumer can use any facility (0) or its 20 nearest facilities, with precomputed distances.
+    @Param({ "0", "20" })
+    public int nearestFacilityCount = 0;
+
+    @Override
+    protected Class<FacilityLocationProblem> getSolutionClass() {
+        return FacilityLocationProblem.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Consumer.class, Facility.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return FacilityLocationConstraintProvider.class;
+    }
+
+    @Override
+    protected FacilityLocationProblem createProblem() {
+        return DemoDataBuilder.builder()
+                .setCapacity(75L * consumerCount)
+                .setDemand(15L * consumerCount)
+                .setFacilityCount(consumerCount / 2)
+                .setConsumerCount(consumerCount)
+                .setSouthWestCorner(new Location(51.44, -0.16))
+                .setNorthEastCorner(new Location(51.56, -0.01))
+                .setAverageSetupCost(50_000)
+                .setSetupCostStandardDeviation(10_000)
+                .setNearestFacilityCount(nearestFacilityCount)
+                .build();
+    }
+}
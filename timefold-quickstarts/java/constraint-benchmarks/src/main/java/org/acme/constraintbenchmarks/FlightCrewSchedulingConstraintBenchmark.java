@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.flighcrewscheduling.domain.FlightAssignment;
+import org.acme.flighcrewscheduling.domain.FlightCrewSchedule;
+import org.acme.flighcrewscheduling.rest.DemoDataGenerator;
+import org.acme.flighcrewscheduling.solver.FlightCrewSchedulingConstraintProvider;
+
+public class FlightCrewSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<FlightCrewSchedule> {
+
+    @Override
+    protected Class<FlightCrewSchedule> getSolutionClass() {
+        return FlightCrewSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { FlightAssignment.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return FlightCrewSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected FlightCrewSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
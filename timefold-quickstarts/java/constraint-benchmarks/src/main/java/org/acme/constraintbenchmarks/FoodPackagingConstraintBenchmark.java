@@ -0,0 +1,72 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedEntityPlacerConfig;
+import ai.timefold.solver.core.config.constructionheuristic.placer.QueuedValuePlacerConfig;
+import ai.timefold.solver.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.value.ValueSelectorConfig;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
+
+import org.acme.foodpackaging.bootstrap.DemoDataGenerator;
+import org.acme.foodpackaging.domain.Job;
+import org.acme.foodpackaging.domain.Line;
+import org.acme.foodpackaging.domain.Operator;
+import org.acme.foodpackaging.domain.PackagingSchedule;
+import org.acme.foodpackaging.solver.FoodPackagingConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class FoodPackagingConstraintBenchmark extends AbstractConstraintProviderBenchmark<PackagingSchedule> {
+
+    // Scales the demo data (5 lines, 100 jobs) while keeping its jobs per line ratio.
+    @Param({ "100", "400", "1600" })
+    public int jobCount = 100;
+
+    @Override
+    protected Class<PackagingSchedule> getSolutionClass() {
+        return PackagingSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Line.class, Job.class, Operator.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return FoodPackagingConstraintProvider.class;
+    }
+
+    @Override
+    protected PackagingSchedule createProblem() {
+        // The repository is only used by the startup observer.
+        return new DemoDataGenerator(null).generateDemoData(jobCount / 20, jobCount);
+    }
+
+    /**
+     * A line has both a basic and a list variable, which the default construction heuristic can't deduce:
+     * assign the operators first, then the jobs.
+     */
+    @Override
+    protected List<PhaseConfig> createConstructionPhaseConfigs() {
+        ConstructionHeuristicPhaseConfig operatorPhaseConfig = new ConstructionHeuristicPhaseConfig()
+                .withEntityPlacerConfig(new QueuedEntityPlacerConfig()
+                        .withEntitySelectorConfig(new EntitySelectorConfig(Line.class).withId("line"))
+                        .withMoveSelectorConfigList(List.of(new ChangeMoveSelectorConfig()
+                                .withEntitySelectorConfig(new EntitySelectorConfig().withMimicSelectorRef("line"))
+                                .withValueSelectorConfig(new ValueSelectorConfig("operator")))));
+        ConstructionHeuristicPhaseConfig jobPhaseConfig = new ConstructionHeuristicPhaseConfig()
+                .withEntityPlacerConfig(new QueuedValuePlacerConfig()
+                        .withEntityClass(Line.class)
+                        .withValueSelectorConfig(new ValueSelectorConfig("jobs").withId("job"))
+                        .withMoveSelectorConfig(new ListChangeMoveSelectorConfig()
+                                .withValueSelectorConfig(new ValueSelectorConfig()
+                                        .withMimicSelectorRef("job")
+                                        .withVariableName("jobs"))));
+        return List.of(operatorPhaseConfig, jobPhaseConfig);
+    }
+}
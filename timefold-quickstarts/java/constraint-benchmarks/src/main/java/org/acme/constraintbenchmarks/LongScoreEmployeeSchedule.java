@@ -0,0 +1,64 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+
+import org.acme.employeescheduling.domain.Employee;
+import org.acme.employeescheduling.domain.EmployeeSchedule;
+import org.acme.employeescheduling.domain.Shift;
+
+/**
+ * An {@link EmployeeSchedule} scored with {@link HardSoftLongScore} instead of a {@code HardSoftBigDecimalScore},
+ * for {@link LongScoreEmployeeSchedulingConstraintProvider}.
+ */
+@PlanningSolution
+public class LongScoreEmployeeSchedule {
+
+    @ProblemFactCollectionProperty
+    @ValueRangeProvider
+    private List<Employee> employees;
+
+    @PlanningEntityCollectionProperty
+    private List<Shift> shifts;
+
+    @PlanningScore
+    private HardSoftLongScore score;
+
+    public LongScoreEmployeeSchedule() {
+    }
+
+    public LongScoreEmployeeSchedule(EmployeeSchedule schedule) {
+        this.employees = schedule.getEmployees();
+        this.shifts = schedule.getShifts();
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<Employee> employees) {
+        this.employees = employees;
+    }
+
+    public List<Shift> getShifts() {
+        return shifts;
+    }
+
+    public void setShifts(List<Shift> shifts) {
+        this.shifts = shifts;
+    }
+
+    public HardSoftLongScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftLongScore score) {
+        this.score = score;
+    }
+}
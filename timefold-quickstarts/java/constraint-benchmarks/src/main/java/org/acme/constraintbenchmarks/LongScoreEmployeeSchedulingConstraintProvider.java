@@ -0,0 +1,142 @@
+package org.acme.constraintbenchmarks;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThanOrEqual;
+import static ai.timefold.solver.core.api.score.stream.Joiners.overlapping;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.DESIRED;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.UNAVAILABLE;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.UNDESIRED;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.employeescheduling.domain.Employee;
+import org.acme.employeescheduling.domain.Shift;
+import org.acme.employeescheduling.solver.EmployeeSchedulingConstraintProvider;
+
+/**
+ * The constraints of {@link EmployeeSchedulingConstraintProvider} with {@link HardSoftLongScore}
+ * instead of {@code HardSoftBigDecimalScore}, which only the unfairness of the shift balance needs.
+ * The soft level is fixed point with 3 decimals, so every soft score is {@link #SOFT_SCALE} times
+ * the one of {@link EmployeeSchedulingConstraintProvider}, up to the rounding of the unfairness.
+ */
+public class LongScoreEmployeeSchedulingConstraintProvider implements ConstraintProvider {
+
+    /**
+     * One minute on an undesired or desired day weighs as much as an unfairness of 1.
+     */
+    public static final long SOFT_SCALE = 1_000L;
+    private static final HardSoftLongScore SOFT_MINUTE = HardSoftLongScore.ofSoft(SOFT_SCALE);
+
+    private static int getMinuteOverlap(Shift shift1, Shift shift2) {
+        // The overlap of two timeslot occurs in the range common to both timeslots.
+        // Both timeslots are active after the higher of their two start times,
+        // and before the lower of their two end times.
+        LocalDateTime shift1Start = shift1.getStart();
+        LocalDateTime shift1End = shift1.getEnd();
+        LocalDateTime shift2Start = shift2.getStart();
+        LocalDateTime shift2End = shift2.getEnd();
+        return (int) Duration.between((shift1Start.isAfter(shift2Start)) ? shift1Start : shift2Start,
+                (shift1End.isBefore(shift2End)) ? shift1End : shift2End).toMinutes();
+    }
+
+    @Override
+    public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                // Hard constraints
+                requiredSkill(constraintFactory),
+                noOverlappingShifts(constraintFactory),
+                atLeast10HoursBetweenTwoShifts(constraintFactory),
+                oneShiftPerDay(constraintFactory),
+                unavailableEmployee(constraintFactory),
+                // Soft constraints
+                undesiredDayForEmployee(constraintFactory),
+                desiredDayForEmployee(constraintFactory),
+                balanceEmployeeShiftAssignments(constraintFactory)
+        };
+    }
+
+    Constraint requiredSkill(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .filter(shift -> !shift.getEmployee().getSkills().contains(shift.getRequiredSkill()))
+                .penalize(HardSoftLongScore.ONE_HARD)
+                .asConstraint("Missing required skill");
+    }
+
+    Constraint noOverlappingShifts(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Shift.class, equal(Shift::getEmployee),
+                overlapping(Shift::getStart, Shift::getEnd))
+                .penalize(HardSoftLongScore.ONE_HARD,
+                        LongScoreEmployeeSchedulingConstraintProvider::getMinuteOverlap)
+                .asConstraint("Overlapping shift");
+    }
+
+    Constraint atLeast10HoursBetweenTwoShifts(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .join(Shift.class, equal(Shift::getEmployee), lessThanOrEqual(Shift::getEnd, Shift::getStart))
+                .filter((firstShift,
+                        secondShift) -> Duration.between(firstShift.getEnd(), secondShift.getStart()).toHours() < 10)
+                .penalize(HardSoftLongScore.ONE_HARD,
+                        (firstShift, secondShift) -> {
+                            int breakLength = (int) Duration.between(firstShift.getEnd(), secondShift.getStart()).toMinutes();
+                            return (10 * 60) - breakLength;
+                        })
+                .asConstraint("At least 10 hours between 2 shifts");
+    }
+
+    Constraint oneShiftPerDay(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Shift.class, equal(Shift::getEmployee),
+                equal(shift -> shift.getStart().toLocalDate()))
+                .penalize(HardSoftLongScore.ONE_HARD)
+                .asConstraint("Max one shift per day");
+    }
+
+    Constraint unavailableEmployee(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .filter(shift -> shift.isOverlappingWithDayKind(UNAVAILABLE))
+                .penalize(HardSoftLongScore.ONE_HARD, shift -> shift.getOverlappingDurationInMinutes(UNAVAILABLE))
+                .asConstraint("Unavailable employee");
+    }
+
+    Constraint undesiredDayForEmployee(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .filter(shift -> shift.isOverlappingWithDayKind(UNDESIRED))
+                .penalize(SOFT_MINUTE, shift -> shift.getOverlappingDurationInMinutes(UNDESIRED))
+                .asConstraint("Undesired day for employee");
+    }
+
+    Constraint desiredDayForEmployee(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .filter(shift -> shift.isOverlappingWithDayKind(DESIRED))
+                .reward(SOFT_MINUTE, shift -> shift.getOverlappingDurationInMinutes(DESIRED))
+                .asConstraint("Desired day for employee");
+    }
+
+    Constraint balanceEmployeeShiftAssignments(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Shift.class)
+                .groupBy(Shift::getEmployee, ConstraintCollectors.count())
+                .complement(Employee.class, e -> 0) // Include all employees which are not assigned to any shift.c
+                .groupBy(ConstraintCollectors.countBi(),
+                        ConstraintCollectors.sumLong((employee, shiftCount) -> shiftCount),
+                        ConstraintCollectors.sumLong((employee, shiftCount) -> (long) shiftCount * shiftCount))
+                .penalizeLong(HardSoftLongScore.ONE_SOFT,
+                        LongScoreEmployeeSchedulingConstraintProvider::getScaledUnfairness)
+                .asConstraint("Balance employee shift assignments");
+    }
+
+    /**
+     * Same as {@code LoadBalance.unfairness()}, the square root of the sum of squared deviations from the mean,
+     * but calculated from running sums and scaled by {@link #SOFT_SCALE}, so it does not need a {@code BigDecimal}.
+     */
+    static long getScaledUnfairness(int employeeCount, long shiftCount, long squaredShiftCount) {
+        double squaredDeviationSum = squaredShiftCount - (double) shiftCount * shiftCount / employeeCount;
+        return Math.round(Math.sqrt(Math.max(0.0, squaredDeviationSum)) * SOFT_SCALE);
+    }
+
+}
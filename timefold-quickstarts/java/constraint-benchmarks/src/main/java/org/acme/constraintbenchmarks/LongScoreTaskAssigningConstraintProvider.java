@@ -0,0 +1,72 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
+
+import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.Priority;
+import org.acme.taskassigning.domain.Task;
+import org.acme.taskassigning.solver.TaskAssigningConstraintProvider;
+
+/**
+ * The task assigning constraints with {@link HardMediumSoftLongScore}, whose fixed levels add up without arrays.
+ * The hard level is the same as in {@link TaskAssigningConstraintProvider},
+ * the first soft level becomes the medium level,
+ * and the makespan and the task end times, the other two soft levels, share the soft level.
+ * The squared makespan usually outweighs the end times by far, but it no longer always does.
+ */
+public class LongScoreTaskAssigningConstraintProvider extends TaskAssigningConstraintProvider {
+
+    @Override
+    protected Constraint noMissingSkills(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Task.class)
+                .filter(task -> task.getMissingSkillCount() > 0)
+                .penalizeLong(HardMediumSoftLongScore.ONE_HARD, Task::getMissingSkillCount)
+                .asConstraint("No missing skills");
+    }
+
+    @Override
+    protected Constraint minimizeUnassignedTasks(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachIncludingUnassigned(Task.class)
+                .filter(task -> task.getEmployee() == null)
+                .penalize(HardMediumSoftLongScore.ONE_MEDIUM)
+                .asConstraint("Minimize unassigned tasks");
+    }
+
+    private UniConstraintStream<Task> getTaskWithPriority(ConstraintFactory constraintFactory, Priority priority) {
+        return constraintFactory.forEach(Task.class)
+                .filter(task -> task.getEmployee() != null)
+                .filter(task -> task.getPriority() == priority);
+    }
+
+    @Override
+    protected Constraint minimizeMakespan(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Employee.class)
+                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT,
+                        employee -> (long) employee.getEndTime() * employee.getEndTime())
+                .asConstraint("Minimize makespan, latest ending employee first");
+    }
+
+    @Override
+    protected Constraint criticalPriorityTaskEndTime(ConstraintFactory constraintFactory) {
+        return getTaskWithPriority(constraintFactory, Priority.CRITICAL)
+                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, task -> task.getEndTime() * 4L)
+                .asConstraint("Critical priority task end time");
+    }
+
+    @Override
+    protected Constraint majorPriorityTaskEndTime(ConstraintFactory constraintFactory) {
+        return getTaskWithPriority(constraintFactory, Priority.MAJOR)
+                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, task -> task.getEndTime() * 2L)
+                .asConstraint("Major priority task end time");
+    }
+
+    @Override
+    protected Constraint minorPriorityTaskEndTime(ConstraintFactory constraintFactory) {
+        return getTaskWithPriority(constraintFactory, Priority.MINOR)
+                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, task -> (long) task.getEndTime())
+                .asConstraint("Minor priority task end time");
+    }
+}
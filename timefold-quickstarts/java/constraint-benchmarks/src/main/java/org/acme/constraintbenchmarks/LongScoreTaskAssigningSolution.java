@@ -0,0 +1,89 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+
+import org.acme.taskassigning.domain.Customer;
+import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.Task;
+import org.acme.taskassigning.domain.TaskAssigningSolution;
+import org.acme.taskassigning.domain.TaskType;
+
+/**
+ * A {@link TaskAssigningSolution} scored with the fixed levels of {@link HardMediumSoftLongScore}
+ * instead of a {@code BendableScore}, for {@link LongScoreTaskAssigningConstraintProvider}.
+ */
+@PlanningSolution
+public class LongScoreTaskAssigningSolution {
+
+    private List<TaskType> taskTypes;
+
+    @ProblemFactCollectionProperty
+    private List<Customer> customers;
+
+    @ValueRangeProvider
+    @PlanningEntityCollectionProperty
+    private List<Task> tasks;
+
+    @PlanningEntityCollectionProperty
+    private List<Employee> employees;
+
+    @PlanningScore
+    private HardMediumSoftLongScore score;
+
+    public LongScoreTaskAssigningSolution() {
+    }
+
+    public LongScoreTaskAssigningSolution(TaskAssigningSolution solution) {
+        this.taskTypes = solution.getTaskTypes();
+        this.customers = solution.getCustomers();
+        this.tasks = solution.getTasks();
+        this.employees = solution.getEmployees();
+    }
+
+    public List<TaskType> getTaskTypes() {
+        return taskTypes;
+    }
+
+    public void setTaskTypes(List<TaskType> taskTypes) {
+        this.taskTypes = taskTypes;
+    }
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    public void setCustomers(List<Customer> customers) {
+        this.customers = customers;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<Employee> employees) {
+        this.employees = employees;
+    }
+
+    public HardMediumSoftLongScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardMediumSoftLongScore score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.maintenancescheduling.domain.Job;
+import org.acme.maintenancescheduling.domain.MaintenanceSchedule;
+import org.acme.maintenancescheduling.rest.DemoDataGenerator;
+import org.acme.maintenancescheduling.rest.DemoDataGenerator.DemoData;
+import org.acme.maintenancescheduling.solver.MaintenanceScheduleConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class MaintenanceSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<MaintenanceSchedule> {
+
+    @Param({ "SMALL", "LARGE" })
+    public DemoData demoData = DemoData.SMALL;
+
+    @Override
+    protected Class<MaintenanceSchedule> getSolutionClass() {
+        return MaintenanceSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Job.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return MaintenanceScheduleConstraintProvider.class;
+    }
+
+    @Override
+    protected MaintenanceSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData(demoData);
+    }
+}
@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.meetingschedule.domain.MeetingAssignment;
+import org.acme.meetingschedule.domain.MeetingSchedule;
+import org.acme.meetingschedule.rest.DemoDataGenerator;
+import org.acme.meetingschedule.solver.MeetingSchedulingConstraintProvider;
+
+public class MeetingSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<MeetingSchedule> {
+
+    @Override
+    protected Class<MeetingSchedule> getSolutionClass() {
+        return MeetingSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { MeetingAssignment.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return MeetingSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected MeetingSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * The baseline of {@link OrderPickingListModelBenchmark}:
+ * the former CHAINED model, on the same order items, assigned to the same trolleys in the same order.
+ */
+public class OrderPickingChainedModelBenchmark
+        extends AbstractConstraintProviderBenchmark<ChainedOrderPickingSolution> {
+
+    @Param({ "500", "2000", "10000" })
+    public int orderItemCount = 500;
+
+    @Override
+    protected Class<ChainedOrderPickingSolution> getSolutionClass() {
+        return ChainedOrderPickingSolution.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { ChainedTrolleyOrTrolleyStep.class, ChainedTrolleyStep.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return ChainedOrderPickingConstraintProvider.class;
+    }
+
+    @Override
+    protected ChainedOrderPickingSolution createProblem() {
+        return new ChainedOrderPickingSolution(OrderPickingListModelBenchmark.generateOrderItems(orderItemCount));
+    }
+}
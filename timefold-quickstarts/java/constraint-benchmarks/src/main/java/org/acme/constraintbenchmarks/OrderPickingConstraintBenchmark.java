@@ -0,0 +1,37 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
+import org.acme.orderpicking.domain.OrderPickingSolution;
+import org.acme.orderpicking.domain.Trolley;
+import org.acme.orderpicking.domain.TrolleyStep;
+import org.acme.orderpicking.solver.OrderPickingConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class OrderPickingConstraintBenchmark extends AbstractConstraintProviderBenchmark<OrderPickingSolution> {
+
+    // Scales the demo data (5 trolleys, 8 orders) while keeping its orders per trolley ratio.
+    @Param({ "8", "32", "128" })
+    public int orderCount = 8;
+
+    @Override
+    protected Class<OrderPickingSolution> getSolutionClass() {
+        return OrderPickingSolution.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Trolley.class, TrolleyStep.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return OrderPickingConstraintProvider.class;
+    }
+
+    @Override
+    protected OrderPickingSolution createProblem() {
+        return new DemoDataGenerator().generateDemoData(orderCount * 5 / 8, orderCount);
+    }
+}
@@ -0,0 +1,68 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
+import org.acme.orderpicking.domain.OrderPickingSolution;
+import org.acme.orderpicking.domain.Trolley;
+import org.acme.orderpicking.domain.TrolleyStep;
+import org.acme.orderpicking.solver.OrderPickingConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the order picking list variable model on large sets of order items,
+ * side by side with {@link OrderPickingChainedModelBenchmark}.
+ * <p>
+ * The problem is initialized by this benchmark, because a construction heuristic on 10k order items takes too long:
+ * every trolley picks a contiguous run of the order items.
+ */
+public class OrderPickingListModelBenchmark extends AbstractConstraintProviderBenchmark<OrderPickingSolution> {
+
+    // The demo data has about 20 order items per trolley.
+    private static final int ORDER_ITEMS_PER_TROLLEY = 20;
+
+    @Param({ "500", "2000", "10000" })
+    public int orderItemCount = 500;
+
+    @Override
+    protected Class<OrderPickingSolution> getSolutionClass() {
+        return OrderPickingSolution.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Trolley.class, TrolleyStep.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return OrderPickingConstraintProvider.class;
+    }
+
+    @Override
+    protected OrderPickingSolution createProblem() {
+        return generateOrderItems(orderItemCount);
+    }
+
+    /**
+     * @return a solution of the demo data generator, cut to the given number of order items,
+     *         which are assigned to the trolleys
+     */
+    static OrderPickingSolution generateOrderItems(int orderItemCount) {
+        int trolleyCount = Math.max(1, orderItemCount / ORDER_ITEMS_PER_TROLLEY);
+        // A demo order has about 15 distinct order items.
+        OrderPickingSolution solution = new DemoDataGenerator().generateDemoData(trolleyCount, orderItemCount / 8 + 1);
+        if (solution.getTrolleySteps().size() < orderItemCount) {
+            throw new IllegalStateException("The demo data has only " + solution.getTrolleySteps().size()
+                    + " order items, less than " + orderItemCount + ".");
+        }
+        List<TrolleyStep> trolleySteps = solution.getTrolleySteps().subList(0, orderItemCount);
+        List<Trolley> trolleys = solution.getTrolleys();
+        for (int i = 0; i < orderItemCount; i++) {
+            trolleys.get((int) ((long) i * trolleyCount / orderItemCount)).getSteps().add(trolleySteps.get(i));
+        }
+        return new OrderPickingSolution(solution.getLayout(), trolleys, List.copyOf(trolleySteps));
+    }
+}
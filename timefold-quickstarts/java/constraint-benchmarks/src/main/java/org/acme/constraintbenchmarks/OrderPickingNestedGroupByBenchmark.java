@@ -0,0 +1,17 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.orderpicking.solver.NestedGroupByOrderPickingConstraintProvider;
+
+/**
+ * The baseline of the required buckets constraint in {@link OrderPickingListModelBenchmark}:
+ * the former three nested groupBys, on the same order items.
+ */
+public class OrderPickingNestedGroupByBenchmark extends OrderPickingListModelBenchmark {
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return NestedGroupByOrderPickingConstraintProvider.class;
+    }
+}
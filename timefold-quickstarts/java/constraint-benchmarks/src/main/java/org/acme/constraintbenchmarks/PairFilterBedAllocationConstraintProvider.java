@@ -0,0 +1,45 @@
+package org.acme.constraintbenchmarks;
+
+import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+
+import org.acme.bedallocation.domain.GenderLimitation;
+import org.acme.bedallocation.domain.Stay;
+import org.acme.bedallocation.solver.BedAllocationConstraintProvider;
+
+/**
+ * The bed allocation constraints with the former same night constraints,
+ * which pair all stays in the same bed or room and only then filter out the pairs that share no night.
+ */
+public class PairFilterBedAllocationConstraintProvider extends BedAllocationConstraintProvider {
+
+    @Override
+    public Constraint sameBedInSameNight(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEachUniquePair(Stay.class,
+                equal(Stay::getBed))
+                .filter((left, right) -> left.calculateSameNightCount(right) > 0)
+                .penalize(HardMediumSoftScore.ofHard(1000),
+                        Stay::calculateSameNightCount)
+                .asConstraint("sameBedInSameNight");
+    }
+
+    @Override
+    public Constraint differentGenderInSameGenderRoomInSameNight(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(Stay.class)
+                .filter(bd -> bd.getRoomGenderLimitation() == GenderLimitation.SAME_GENDER)
+                .join(constraintFactory.forEach(Stay.class)
+                        .filter(st -> st.getRoomGenderLimitation() == GenderLimitation.SAME_GENDER),
+                        equal(Stay::getRoom),
+                        lessThan(Stay::getId),
+                        filtering((left, right) -> left.getPatientGender() != right.getPatientGender()
+                                && left.calculateSameNightCount(right) > 0))
+                .penalize(HardMediumSoftScore.ofHard(1000),
+                        Stay::calculateSameNightCount)
+                .asConstraint("differentGenderInSameGenderRoomInSameNight");
+    }
+}
@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.projectjobschedule.domain.Allocation;
+import org.acme.projectjobschedule.domain.ProjectJobSchedule;
+import org.acme.projectjobschedule.rest.DemoDataGenerator;
+import org.acme.projectjobschedule.solver.ProjectJobSchedulingConstraintProvider;
+
+public class ProjectJobSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<ProjectJobSchedule> {
+
+    @Override
+    protected Class<ProjectJobSchedule> getSolutionClass() {
+        return ProjectJobSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Allocation.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return ProjectJobSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected ProjectJobSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
@@ -0,0 +1,69 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+
+import org.acme.projectjobschedule.domain.Allocation;
+import org.acme.projectjobschedule.domain.ProjectJobSchedule;
+import org.acme.projectjobschedule.rest.DemoDataGenerator;
+import org.acme.projectjobschedule.solver.ProjectJobSchedulingConstraintProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction heuristic of the project job scheduling quickstart on multi-project instances,
+ * which tries every execution mode and delay of every allocation.
+ * Run it with {@code -prof gc} to also measure the memory allocated per construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class ProjectJobSchedulingConstructionBenchmark {
+
+    @Param({ "2", "10", "30" })
+    public int projectCount;
+
+    // The demo projects and the PSPLIB j30 instances, with their source and sink jobs.
+    @Param({ "12", "32" })
+    public int jobCountPerProject;
+
+    private Solver<ProjectJobSchedule> solver;
+    private ProjectJobSchedule problem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SolverConfig solverConfig = new SolverConfig()
+                .withSolutionClass(ProjectJobSchedule.class)
+                .withEntityClasses(Allocation.class)
+                .withConstraintProviderClass(ProjectJobSchedulingConstraintProvider.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        solver = SolverFactory.<ProjectJobSchedule> create(solverConfig).buildSolver();
+    }
+
+    @Setup(Level.Invocation)
+    public void createProblem() {
+        problem = new DemoDataGenerator().generateDemoData(projectCount, jobCountPerProject);
+    }
+
+    @Benchmark
+    public ProjectJobSchedule constructionHeuristic() {
+        return solver.solve(problem);
+    }
+}
@@ -0,0 +1,26 @@
+package org.acme.constraintbenchmarks;
+
+import org.acme.projectjobschedule.domain.ExecutionMode;
+import org.acme.projectjobschedule.domain.ProjectJobSchedule;
+import org.acme.projectjobschedule.rest.DemoDataGenerator;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the project job scheduling constraints on the demo data with longer jobs,
+ * side by side with {@link ProjectJobSchedulingPerDayBenchmark}.
+ * The demo jobs take 1 to 5 days; the duration of every execution mode is multiplied by {@code durationMultiplier}.
+ */
+public class ProjectJobSchedulingLongJobBenchmark extends ProjectJobSchedulingConstraintBenchmark {
+
+    @Param({ "1", "10", "30" })
+    public int durationMultiplier = 1;
+
+    @Override
+    protected ProjectJobSchedule createProblem() {
+        ProjectJobSchedule problem = new DemoDataGenerator().generateDemoData();
+        for (ExecutionMode executionMode : problem.getExecutionModes()) {
+            executionMode.setDuration(executionMode.getDuration() * durationMultiplier);
+        }
+        return problem;
+    }
+}
@@ -0,0 +1,17 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.projectjobschedule.solver.PerDayProjectJobSchedulingConstraintProvider;
+
+/**
+ * The baseline of the renewable resource capacity constraint in {@link ProjectJobSchedulingLongJobBenchmark}:
+ * the former check per busy day, on the same jobs.
+ */
+public class ProjectJobSchedulingPerDayBenchmark extends ProjectJobSchedulingLongJobBenchmark {
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return PerDayProjectJobSchedulingConstraintProvider.class;
+    }
+}
@@ -0,0 +1,239 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.BasicVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Changes a random genuine variable of the working solution of a score director,
+ * calculates the score incrementally and undoes the change, like a local search evaluating a move,
+ * but without selecting, accepting or cloning anything.
+ * <p>
+ * Basic variables swap their values between two entities,
+ * list variables move an element to another position, in the same list or another one,
+ * and chained variables move an entity to after another entity or anchor.
+ * The random is seeded, so two constraint providers of the same solution evaluate the same changes.
+ *
+ * @param <Solution_> the planning solution class
+ */
+final class RandomVariableChanges<Solution_> {
+
+    private final InnerScoreDirector<Solution_, ?> scoreDirector;
+    private final Random random = new Random(0);
+    private final List<VariableChange> variableChanges = new ArrayList<>();
+
+    RandomVariableChanges(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        Solution_ solution = scoreDirector.getWorkingSolution();
+        for (EntityDescriptor<Solution_> entityDescriptor : scoreDirector.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            List<Object> entities = entityDescriptor.extractEntities(solution);
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor instanceof ListVariableDescriptor<Solution_> listVariableDescriptor) {
+                    if (entities.stream().anyMatch(entity -> listVariableDescriptor.getListSize(entity) > 0)) {
+                        variableChanges.add(new ListMove(listVariableDescriptor, entities));
+                    }
+                } else if (entities.size() >= 2) {
+                    BasicVariableDescriptor<Solution_> basicVariableDescriptor =
+                            (BasicVariableDescriptor<Solution_>) variableDescriptor;
+                    variableChanges.add(basicVariableDescriptor.isChained()
+                            ? new ChainedMove(basicVariableDescriptor, entities)
+                            : new BasicSwap(basicVariableDescriptor, entities));
+                }
+            }
+        }
+        if (variableChanges.isEmpty()) {
+            throw new IllegalStateException("The solution (" + solution + ") has no variable that can be changed.");
+        }
+        scoreDirector.calculateScore();
+    }
+
+    Score<?> evaluateRandomChange() {
+        VariableChange variableChange = variableChanges.get(random.nextInt(variableChanges.size()));
+        variableChange.doRandomChange();
+        scoreDirector.triggerVariableListeners();
+        Score<?> score = scoreDirector.calculateScore().raw();
+        variableChange.undo();
+        scoreDirector.triggerVariableListeners();
+        return score;
+    }
+
+    private interface VariableChange {
+
+        void doRandomChange();
+
+        void undo();
+    }
+
+    private final class BasicSwap implements VariableChange {
+
+        private final BasicVariableDescriptor<Solution_> variableDescriptor;
+        private final List<Object> entities;
+        private Object leftEntity;
+        private Object rightEntity;
+
+        private BasicSwap(BasicVariableDescriptor<Solution_> variableDescriptor, List<Object> entities) {
+            this.variableDescriptor = variableDescriptor;
+            this.entities = entities;
+        }
+
+        @Override
+        public void doRandomChange() {
+            int leftIndex = random.nextInt(entities.size());
+            int rightIndex = random.nextInt(entities.size() - 1);
+            leftEntity = entities.get(leftIndex);
+            rightEntity = entities.get(rightIndex < leftIndex ? rightIndex : rightIndex + 1);
+            swap();
+        }
+
+        @Override
+        public void undo() {
+            swap();
+        }
+
+        private void swap() {
+            Object leftValue = variableDescriptor.getValue(leftEntity);
+            Object rightValue = variableDescriptor.getValue(rightEntity);
+            setValue(leftEntity, rightValue);
+            setValue(rightEntity, leftValue);
+        }
+
+        private void setValue(Object entity, Object value) {
+            String variableName = variableDescriptor.getVariableName();
+            scoreDirector.beforeVariableChanged(entity, variableName);
+            variableDescriptor.setValue(entity, value);
+            scoreDirector.afterVariableChanged(entity, variableName);
+        }
+    }
+
+    private final class ListMove implements VariableChange {
+
+        private final ListVariableDescriptor<Solution_> variableDescriptor;
+        private final List<Object> entities;
+        private Object sourceEntity;
+        private int sourceIndex;
+        private Object destinationEntity;
+        private int destinationIndex;
+
+        private ListMove(ListVariableDescriptor<Solution_> variableDescriptor, List<Object> entities) {
+            this.variableDescriptor = variableDescriptor;
+            this.entities = entities;
+        }
+
+        @Override
+        public void doRandomChange() {
+            do {
+                sourceEntity = entities.get(random.nextInt(entities.size()));
+            } while (variableDescriptor.getListSize(sourceEntity) == 0);
+            sourceIndex = random.nextInt(variableDescriptor.getListSize(sourceEntity));
+            destinationEntity = entities.get(random.nextInt(entities.size()));
+            // The source list is one element shorter after the removal.
+            int destinationSize = variableDescriptor.getListSize(destinationEntity)
+                    - (destinationEntity == sourceEntity ? 1 : 0);
+            destinationIndex = random.nextInt(destinationSize + 1);
+            move(sourceEntity, sourceIndex, destinationEntity, destinationIndex);
+        }
+
+        @Override
+        public void undo() {
+            move(destinationEntity, destinationIndex, sourceEntity, sourceIndex);
+        }
+
+        private void move(Object fromEntity, int fromIndex, Object toEntity, int toIndex) {
+            String variableName = variableDescriptor.getVariableName();
+            scoreDirector.beforeListVariableChanged(fromEntity, variableName, fromIndex, fromIndex + 1);
+            Object element = variableDescriptor.removeElement(fromEntity, fromIndex);
+            scoreDirector.afterListVariableChanged(fromEntity, variableName, fromIndex, fromIndex);
+            scoreDirector.beforeListVariableChanged(toEntity, variableName, toIndex, toIndex);
+            variableDescriptor.addElement(toEntity, toIndex, element);
+            scoreDirector.afterListVariableChanged(toEntity, variableName, toIndex, toIndex + 1);
+        }
+    }
+
+    private final class ChainedMove implements VariableChange {
+
+        private final BasicVariableDescriptor<Solution_> variableDescriptor;
+        private final List<Object> entities;
+        /**
+         * The anchors and the entities, which an entity can follow.
+         */
+        private final List<Object> values;
+        /**
+         * The entity that follows every anchor or entity, kept up to date by {@link #setValue(Object, Object)}.
+         */
+        private final Map<Object, Object> valueToNextEntity = new IdentityHashMap<>();
+        private Object entity;
+        private Object oldPreviousValue;
+
+        private ChainedMove(BasicVariableDescriptor<Solution_> variableDescriptor, List<Object> entities) {
+            this.variableDescriptor = variableDescriptor;
+            this.entities = entities;
+            this.values = new ArrayList<>(entities);
+            for (Object chainedEntity : entities) {
+                Object previousValue = variableDescriptor.getValue(chainedEntity);
+                if (previousValue == null) {
+                    throw new IllegalStateException("The chained entity (" + chainedEntity + ") is not initialized.");
+                }
+                if (!variableDescriptor.getEntityDescriptor().matchesEntity(previousValue)) {
+                    values.add(previousValue);
+                }
+                valueToNextEntity.put(previousValue, chainedEntity);
+            }
+        }
+
+        @Override
+        public void doRandomChange() {
+            entity = entities.get(random.nextInt(entities.size()));
+            oldPreviousValue = variableDescriptor.getValue(entity);
+            Object newPreviousValue;
+            do {
+                newPreviousValue = values.get(random.nextInt(values.size()));
+            } while (newPreviousValue == entity);
+            moveAfter(entity, newPreviousValue);
+        }
+
+        @Override
+        public void undo() {
+            moveAfter(entity, oldPreviousValue);
+        }
+
+        private void moveAfter(Object movedEntity, Object newPreviousValue) {
+            Object currentPreviousValue = variableDescriptor.getValue(movedEntity);
+            if (currentPreviousValue == newPreviousValue) {
+                return;
+            }
+            Object currentNextEntity = valueToNextEntity.get(movedEntity);
+            Object newNextEntity = valueToNextEntity.get(newPreviousValue);
+            // Close the gap left by the moved entity, then insert it after the new previous value.
+            if (currentNextEntity != null) {
+                setValue(currentNextEntity, currentPreviousValue);
+            } else {
+                valueToNextEntity.remove(currentPreviousValue);
+            }
+            setValue(movedEntity, newPreviousValue);
+            if (newNextEntity != null) {
+                setValue(newNextEntity, movedEntity);
+            } else {
+                valueToNextEntity.remove(movedEntity);
+            }
+        }
+
+        private void setValue(Object chainedEntity, Object previousValue) {
+            String variableName = variableDescriptor.getVariableName();
+            scoreDirector.beforeVariableChanged(chainedEntity, variableName);
+            variableDescriptor.setValue(chainedEntity, previousValue);
+            scoreDirector.afterVariableChanged(chainedEntity, variableName);
+            valueToNextEntity.put(previousValue, chainedEntity);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.schooltimetabling.domain.Lesson;
+import org.acme.schooltimetabling.domain.Timetable;
+import org.acme.schooltimetabling.rest.TimetableDemoResource;
+import org.acme.schooltimetabling.rest.TimetableDemoResource.DemoData;
+import org.acme.schooltimetabling.solver.TimetableConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class SchoolTimetablingConstraintBenchmark extends AbstractConstraintProviderBenchmark<Timetable> {
+
+    @Param({ "SMALL", "LARGE" })
+    public DemoData demoData = DemoData.SMALL;
+
+    @Override
+    protected Class<Timetable> getSolutionClass() {
+        return Timetable.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Lesson.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return TimetableConstraintProvider.class;
+    }
+
+    @Override
+    protected Timetable createProblem() {
+        return new TimetableDemoResource().generateDemoData(demoData);
+    }
+}
@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.sportsleagueschedule.domain.LeagueSchedule;
+import org.acme.sportsleagueschedule.domain.Match;
+import org.acme.sportsleagueschedule.rest.DemoDataGenerator;
+import org.acme.sportsleagueschedule.solver.SportsLeagueSchedulingConstraintProvider;
+
+public class SportsLeagueSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<LeagueSchedule> {
+
+    @Override
+    protected Class<LeagueSchedule> getSolutionClass() {
+        return LeagueSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Match.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return SportsLeagueSchedulingConstraintProvider.class;
+    }
+
+    @Override
+    protected LeagueSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
@@ -0,0 +1,35 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.Task;
+import org.acme.taskassigning.domain.TaskAssigningSolution;
+import org.acme.taskassigning.rest.DemoDataGenerator;
+import org.acme.taskassigning.solver.TaskAssigningConstraintProvider;
+
+public class TaskAssigningConstraintBenchmark extends AbstractConstraintProviderBenchmark<TaskAssigningSolution> {
+
+    @Override
+    protected Class<TaskAssigningSolution> getSolutionClass() {
+        return TaskAssigningSolution.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Employee.class, Task.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return TaskAssigningConstraintProvider.class;
+    }
+
+    @Override
+    protected TaskAssigningSolution createProblem() {
+        TaskAssigningSolution problem = new DemoDataGenerator().generateDemoData();
+        // Like the solve endpoint, so the benchmark measures the indexed lookups.
+        problem.indexSkillsAndCustomers();
+        return problem;
+    }
+}
@@ -0,0 +1,34 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.Task;
+
+/**
+ * The task assigning constraints with {@code HardMediumSoftLongScore},
+ * on the same 1,000 employees and 10,000 tasks as {@link TaskAssigningScaleBenchmark}.
+ */
+public class TaskAssigningLongScoreBenchmark
+        extends AbstractConstraintProviderBenchmark<LongScoreTaskAssigningSolution> {
+
+    @Override
+    protected Class<LongScoreTaskAssigningSolution> getSolutionClass() {
+        return LongScoreTaskAssigningSolution.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Employee.class, Task.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return LongScoreTaskAssigningConstraintProvider.class;
+    }
+
+    @Override
+    protected LongScoreTaskAssigningSolution createProblem() {
+        return new LongScoreTaskAssigningSolution(TaskAssigningScaleBenchmark.generatePlan(true));
+    }
+}
@@ -0,0 +1,36 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+
+import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.TaskAssigningSolution;
+import org.acme.taskassigning.rest.DemoDataGenerator;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the task assigning constraints on 1,000 employees and 10,000 tasks,
+ * with the skills and customers indexed into bitmasks and affinity arrays or not ({@code indexed} parameter).
+ * The tasks are assigned to the employees round-robin, so the construction heuristic has nothing left to do.
+ */
+public class TaskAssigningScaleBenchmark extends TaskAssigningConstraintBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean indexed = true;
+
+    static TaskAssigningSolution generatePlan(boolean indexed) {
+        TaskAssigningSolution problem = new DemoDataGenerator().generateDemoData(1_000, 10_000);
+        List<Employee> employees = problem.getEmployees();
+        for (int i = 0; i < problem.getTasks().size(); i++) {
+            employees.get(i % employees.size()).getTasks().add(problem.getTasks().get(i));
+        }
+        if (indexed) {
+            problem.indexSkillsAndCustomers();
+        }
+        return problem;
+    }
+
+    @Override
+    protected TaskAssigningSolution createProblem() {
+        return generatePlan(indexed);
+    }
+}
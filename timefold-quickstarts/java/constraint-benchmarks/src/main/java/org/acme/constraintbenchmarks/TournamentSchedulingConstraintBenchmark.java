@@ -0,0 +1,31 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.tournamentschedule.domain.TeamAssignment;
+import org.acme.tournamentschedule.domain.TournamentSchedule;
+import org.acme.tournamentschedule.rest.DemoDataGenerator;
+import org.acme.tournamentschedule.solver.TournamentScheduleConstraintProvider;
+
+public class TournamentSchedulingConstraintBenchmark extends AbstractConstraintProviderBenchmark<TournamentSchedule> {
+
+    @Override
+    protected Class<TournamentSchedule> getSolutionClass() {
+        return TournamentSchedule.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { TeamAssignment.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return TournamentScheduleConstraintProvider.class;
+    }
+
+    @Override
+    protected TournamentSchedule createProblem() {
+        return new DemoDataGenerator().generateDemoData();
+    }
+}
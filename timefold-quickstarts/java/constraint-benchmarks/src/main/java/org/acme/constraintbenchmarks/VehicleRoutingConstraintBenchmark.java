@@ -0,0 +1,39 @@
+package org.acme.constraintbenchmarks;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+
+import org.acme.vehiclerouting.domain.Vehicle;
+import org.acme.vehiclerouting.domain.VehicleRoutePlan;
+import org.acme.vehiclerouting.domain.Visit;
+import org.acme.vehiclerouting.rest.VehicleRouteDemoResource;
+import org.acme.vehiclerouting.rest.VehicleRouteDemoResource.DemoData;
+import org.acme.vehiclerouting.solver.VehicleRoutingConstraintProvider;
+import org.openjdk.jmh.annotations.Param;
+
+public class VehicleRoutingConstraintBenchmark extends AbstractConstraintProviderBenchmark<VehicleRoutePlan> {
+
+    @Param({ "PHILADELPHIA", "HARTFORT", "FIRENZE" })
+    public DemoData demoData = DemoData.PHILADELPHIA;
+
+    @Override
+    protected Class<VehicleRoutePlan> getSolutionClass() {
+        return VehicleRoutePlan.class;
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[] { Vehicle.class, Visit.class };
+    }
+
+    @Override
+    protected Class<? extends ConstraintProvider> getConstraintProviderClass() {
+        return VehicleRoutingConstraintProvider.class;
+    }
+
+    @Override
+    protected VehicleRoutePlan createProblem() {
+        VehicleRoutePlan problem = new VehicleRouteDemoResource().build(demoData);
+        problem.initDrivingTimeMatrix();
+        return problem;
+    }
+}
@@ -0,0 +1,94 @@
+package org.acme.constraintbenchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.acme.orderpicking.domain.Shelving;
+import org.acme.orderpicking.domain.WarehouseLayout;
+import org.acme.orderpicking.domain.WarehouseLocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares warehouse distance lookups in the order-picking quickstart:
+ * the on-the-fly calculation by shelving id against the lookup by compact location ID,
+ * in the precomputed distance table up to 93 shelvings or calculated by ID on larger layouts.
+ * The time to build each layout is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public class WarehouseDistanceBenchmark {
+
+    private static final int LOOKUP_COUNT = 1 << 20;
+    // As many distinct locations as products in a large warehouse.
+    private static final int LOCATION_COUNT = 10_000;
+
+    public enum Distance {
+        CALCULATION,
+        LOOKUP
+    }
+
+    // Columns x rows of shelvings: the demo warehouse and 60 shelvings with a table, 200 and 500 without.
+    @Param({ "5x3", "20x3", "40x5", "100x5" })
+    public String layoutSize;
+
+    @Param
+    public Distance distance;
+
+    private WarehouseLayout layout;
+    private WarehouseLocation[] locations;
+    private int[] fromIndexes;
+    private int[] toIndexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] columnsAndRows = layoutSize.split("x");
+        long start = System.nanoTime();
+        layout = WarehouseLayout.grid(Integer.parseInt(columnsAndRows[0]), Integer.parseInt(columnsAndRows[1]));
+        System.out.printf("%nThe layout of %d shelvings took %,d ms to build.%n",
+                layout.getShelvings().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        Random random = new Random(0);
+        List<Shelving> shelvings = layout.getShelvings();
+        locations = new WarehouseLocation[LOCATION_COUNT];
+        for (int i = 0; i < LOCATION_COUNT; i++) {
+            locations[i] = new WarehouseLocation(shelvings.get(random.nextInt(shelvings.size())).getId(),
+                    Shelving.Side.values()[random.nextInt(2)], random.nextInt(Shelving.ROWS_SIZE) + 1);
+            locations[i].setLayout(layout);
+        }
+        fromIndexes = random.ints(LOOKUP_COUNT, 0, LOCATION_COUNT).toArray();
+        toIndexes = random.ints(LOOKUP_COUNT, 0, LOCATION_COUNT).toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUP_COUNT)
+    public long lookup() {
+        long sum = 0L;
+        if (distance == Distance.CALCULATION) {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                sum += layout.calculateDistance(locations[fromIndexes[i]], locations[toIndexes[i]]);
+            }
+        } else {
+            for (int i = 0; i < LOOKUP_COUNT; i++) {
+                sum += locations[fromIndexes[i]].getDistanceTo(locations[toIndexes[i]]);
+            }
+        }
+        return sum;
+    }
+}
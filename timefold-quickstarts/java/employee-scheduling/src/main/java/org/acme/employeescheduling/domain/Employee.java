@@ -6,6 +6,8 @@ import java.util.Set;
 
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class Employee {
     @PlanningId
     private String name;
@@ -15,6 +17,9 @@ public class Employee {
     private Set<LocalDate> undesiredDates;
     private Set<LocalDate> desiredDates;
 
+    // Built from the date sets above on first use, dropped when one of them is replaced.
+    private EmployeeCalendar calendar;
+
     public Employee() {
 
     }
@@ -50,6 +55,7 @@ public class Employee {
 
     public void setUnavailableDates(Set<LocalDate> unavailableDates) {
         this.unavailableDates = unavailableDates;
+        this.calendar = null;
     }
 
     public Set<LocalDate> getUndesiredDates() {
@@ -58,6 +64,7 @@ public class Employee {
 
     public void setUndesiredDates(Set<LocalDate> undesiredDates) {
         this.undesiredDates = undesiredDates;
+        this.calendar = null;
     }
 
     public Set<LocalDate> getDesiredDates() {
@@ -66,6 +73,21 @@ public class Employee {
 
     public void setDesiredDates(Set<LocalDate> desiredDates) {
         this.desiredDates = desiredDates;
+        this.calendar = null;
+    }
+
+    /**
+     * The date sets must not change once the calendar is built, replace them instead.
+     */
+    @JsonIgnore
+    public EmployeeCalendar getCalendar() {
+        EmployeeCalendar calendar = this.calendar;
+        if (calendar == null) {
+            // Racing solver threads build equal calendars, so either one can win.
+            calendar = new EmployeeCalendar(unavailableDates, undesiredDates, desiredDates);
+            this.calendar = calendar;
+        }
+        return calendar;
     }
 
     @Override
@@ -0,0 +1,57 @@
+package org.acme.employeescheduling.domain;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * The unavailable, undesired and desired dates of one employee, as a bitmask of day kinds per day,
+ * from the first to the last of those dates.
+ * Immutable, so it can be shared between solver threads.
+ */
+public final class EmployeeCalendar {
+
+    public static final int UNAVAILABLE = 1;
+    public static final int UNDESIRED = 1 << 1;
+    public static final int DESIRED = 1 << 2;
+
+    private final long firstEpochDay;
+    private final byte[] dayKinds;
+
+    EmployeeCalendar(Set<LocalDate> unavailableDates, Set<LocalDate> undesiredDates, Set<LocalDate> desiredDates) {
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (Set<LocalDate> dates : Arrays.asList(unavailableDates, undesiredDates, desiredDates)) {
+            if (dates != null) {
+                for (LocalDate date : dates) {
+                    first = Math.min(first, date.toEpochDay());
+                    last = Math.max(last, date.toEpochDay());
+                }
+            }
+        }
+        if (first > last) {
+            firstEpochDay = 0L;
+            dayKinds = new byte[0];
+            return;
+        }
+        firstEpochDay = first;
+        dayKinds = new byte[Math.toIntExact(last - first + 1)];
+        mark(unavailableDates, UNAVAILABLE);
+        mark(undesiredDates, UNDESIRED);
+        mark(desiredDates, DESIRED);
+    }
+
+    private void mark(Set<LocalDate> dates, int dayKind) {
+        if (dates != null) {
+            for (LocalDate date : dates) {
+                dayKinds[(int) (date.toEpochDay() - firstEpochDay)] |= (byte) dayKind;
+            }
+        }
+    }
+
+    public boolean isDayKind(long epochDay, int dayKind) {
+        long index = epochDay - firstEpochDay;
+        return index >= 0 && index < dayKinds.length && (dayKinds[(int) index] & dayKind) != 0;
+    }
+
+}
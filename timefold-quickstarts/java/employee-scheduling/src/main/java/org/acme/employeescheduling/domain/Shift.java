@@ -102,6 +102,43 @@ public class Shift {
         return getOverlappingDurationInMinutes(startDateTime, endDateTime, getStart(), getEnd());
     }
 
+    /**
+     * @param dayKind see {@link EmployeeCalendar}
+     * @return true if the shift overlaps with a day of that kind in the calendar of its employee
+     */
+    public boolean isOverlappingWithDayKind(int dayKind) {
+        if (employee == null) {
+            return false;
+        }
+        EmployeeCalendar calendar = employee.getCalendar();
+        long endEpochDay = end.toLocalDate().toEpochDay();
+        for (long epochDay = start.toLocalDate().toEpochDay(); epochDay <= endEpochDay; epochDay++) {
+            if (calendar.isDayKind(epochDay, dayKind)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param dayKind see {@link EmployeeCalendar}
+     * @return the minutes of the shift on the days of that kind in the calendar of its employee
+     */
+    public int getOverlappingDurationInMinutes(int dayKind) {
+        if (employee == null) {
+            return 0;
+        }
+        EmployeeCalendar calendar = employee.getCalendar();
+        int minutes = 0;
+        long endEpochDay = end.toLocalDate().toEpochDay();
+        for (long epochDay = start.toLocalDate().toEpochDay(); epochDay <= endEpochDay; epochDay++) {
+            if (calendar.isDayKind(epochDay, dayKind)) {
+                minutes += getOverlappingDurationInMinutes(LocalDate.ofEpochDay(epochDay));
+            }
+        }
+        return minutes;
+    }
+
     private int getOverlappingDurationInMinutes(LocalDateTime firstStartDateTime, LocalDateTime firstEndDateTime,
             LocalDateTime secondStartDateTime, LocalDateTime secondEndDateTime) {
         LocalDateTime maxStartTime = firstStartDateTime.isAfter(secondStartDateTime) ? firstStartDateTime : secondStartDateTime;
@@ -136,7 +136,12 @@ public class DemoDataGenerator {
         for (int i = 0; i < parameters.employeeCount; i++) {
             Set<String> skills = pickSubset(parameters.optionalSkills, random, parameters.optionalSkillDistribution);
             skills.add(pickRandom(parameters.requiredSkills, random));
-            Employee employee = new Employee(namePermutations.get(i), skills, new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>());
+            // Beyond the name permutations, number the names to keep them unique.
+            String name = namePermutations.get(i % namePermutations.size());
+            if (i >= namePermutations.size()) {
+                name += " " + (i / namePermutations.size() + 1);
+            }
+            Employee employee = new Employee(name, skills, new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>());
             employees.add(employee);
         }
         employeeSchedule.setEmployees(employees);
@@ -3,10 +3,12 @@ package org.acme.employeescheduling.solver;
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
 import static ai.timefold.solver.core.api.score.stream.Joiners.lessThanOrEqual;
 import static ai.timefold.solver.core.api.score.stream.Joiners.overlapping;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.DESIRED;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.UNAVAILABLE;
+import static org.acme.employeescheduling.domain.EmployeeCalendar.UNDESIRED;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
@@ -85,28 +87,22 @@ public class EmployeeSchedulingConstraintProvider implements ConstraintProvider
 
     Constraint unavailableEmployee(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Shift.class)
-                .join(Employee.class, equal(Shift::getEmployee, Function.identity()))
-                .flattenLast(Employee::getUnavailableDates)
-                .filter(Shift::isOverlappingWithDate)
-                .penalize(HardSoftBigDecimalScore.ONE_HARD, Shift::getOverlappingDurationInMinutes)
+                .filter(shift -> shift.isOverlappingWithDayKind(UNAVAILABLE))
+                .penalize(HardSoftBigDecimalScore.ONE_HARD, shift -> shift.getOverlappingDurationInMinutes(UNAVAILABLE))
                 .asConstraint("Unavailable employee");
     }
 
     Constraint undesiredDayForEmployee(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Shift.class)
-                .join(Employee.class, equal(Shift::getEmployee, Function.identity()))
-                .flattenLast(Employee::getUndesiredDates)
-                .filter(Shift::isOverlappingWithDate)
-                .penalize(HardSoftBigDecimalScore.ONE_SOFT, Shift::getOverlappingDurationInMinutes)
+                .filter(shift -> shift.isOverlappingWithDayKind(UNDESIRED))
+                .penalize(HardSoftBigDecimalScore.ONE_SOFT, shift -> shift.getOverlappingDurationInMinutes(UNDESIRED))
                 .asConstraint("Undesired day for employee");
     }
 
     Constraint desiredDayForEmployee(ConstraintFactory constraintFactory) {
         return constraintFactory.forEach(Shift.class)
-                .join(Employee.class, equal(Shift::getEmployee, Function.identity()))
-                .flattenLast(Employee::getDesiredDates)
-                .filter(Shift::isOverlappingWithDate)
-                .reward(HardSoftBigDecimalScore.ONE_SOFT, Shift::getOverlappingDurationInMinutes)
+                .filter(shift -> shift.isOverlappingWithDayKind(DESIRED))
+                .reward(HardSoftBigDecimalScore.ONE_SOFT, shift -> shift.getOverlappingDurationInMinutes(DESIRED))
                 .asConstraint("Desired day for employee");
     }
 
@@ -157,6 +157,22 @@ class EmployeeSchedulingConstraintProviderTest {
                 .penalizes(0);
     }
 
+    @Test
+    void unavailableEmployeeOverNight() {
+        Employee employee = new Employee("Amy", null, Set.of(DAY_1, DAY_1.plusDays(1)), null, null);
+        // 119 minutes until the end of day 1, truncated like the other overlaps, and 360 minutes on day 2.
+        constraintVerifier.verifyThat(EmployeeSchedulingConstraintProvider::unavailableEmployee)
+                .given(employee,
+                        new Shift("1", DAY_1.atTime(22, 0), DAY_1.plusDays(1).atTime(6, 0), "Location", "Skill", employee))
+                .penalizesBy(119 + 360);
+        // Replacing the dates rebuilds the calendar.
+        employee.setUnavailableDates(Set.of(DAY_3));
+        constraintVerifier.verifyThat(EmployeeSchedulingConstraintProvider::unavailableEmployee)
+                .given(employee,
+                        new Shift("1", DAY_1.atTime(22, 0), DAY_1.plusDays(1).atTime(6, 0), "Location", "Skill", employee))
+                .penalizes(0);
+    }
+
     @Test
     void undesiredDayForEmployee() {
         Employee employee1 = new Employee("Amy", null, null, Set.of(DAY_1, DAY_3), null);
@@ -1,11 +1,16 @@
 package org.acme.facilitylocation.bootstrap;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.acme.facilitylocation.domain.Consumer;
@@ -16,6 +21,7 @@ import org.acme.facilitylocation.domain.Location;
 public class DemoDataBuilder {
 
     private static final AtomicLong sequence = new AtomicLong();
+    private static final int CHUNK_SIZE = 10_000;
 
     private long capacity;
     private long demand;
@@ -23,6 +29,7 @@ public class DemoDataBuilder {
     private int consumerCount;
     private long averageSetupCost;
     private long setupCostStandardDeviation;
+    private int nearestFacilityCount = 0;
     private Location southWestCorner;
     private Location northEastCorner;
 
@@ -63,6 +70,16 @@ public class DemoDataBuilder {
         return this;
     }
 
+    /**
+     * @param nearestFacilityCount the number of nearest facilities that every consumer can be assigned to,
+     *        0 for all facilities
+     * @see FacilityLocationProblem#indexNearestFacilities(int)
+     */
+    public DemoDataBuilder setNearestFacilityCount(int nearestFacilityCount) {
+        this.nearestFacilityCount = nearestFacilityCount;
+        return this;
+    }
+
     public DemoDataBuilder setSouthWestCorner(Location southWestCorner) {
         this.southWestCorner = southWestCorner;
         return this;
@@ -74,24 +91,7 @@ public class DemoDataBuilder {
     }
 
     public FacilityLocationProblem build() {
-        if (demand < 1) {
-            throw new IllegalStateException("Demand (" + demand + ") must be greater than zero.");
-        }
-        if (capacity < 1) {
-            throw new IllegalStateException("Capacity (" + capacity + ") must be greater than zero.");
-        }
-        if (facilityCount < 1) {
-            throw new IllegalStateException("Number of facilities (" + facilityCount + ") must be greater than zero.");
-        }
-        if (consumerCount < 1) {
-            throw new IllegalStateException("Number of consumers (" + consumerCount + ") must be greater than zero.");
-        }
-        if (demand > capacity) {
-            throw new IllegalStateException("Overconstrained problem not supported. The total capacity ("
-                    + capacity + ") must be greater than or equal to the total demand (" + demand + ").");
-        }
-        // TODO SW<NE
-
+        validate();
         Random random = new Random(0);
         PrimitiveIterator.OfDouble latitudes = random.doubles(southWestCorner.getLatitude(), northEastCorner.getLatitude())
                 .iterator();
@@ -114,6 +114,85 @@ public class DemoDataBuilder {
                 .limit(consumerCount)
                 .collect(Collectors.toList());
 
-        return new FacilityLocationProblem(facilities, consumers, southWestCorner, northEastCorner);
+        FacilityLocationProblem problem =
+                new FacilityLocationProblem(facilities, consumers, southWestCorner, northEastCorner);
+        problem.indexNearestFacilities(nearestFacilityCount);
+        return problem;
+    }
+
+    /**
+     * Builds the same kind of problem as {@link #build()}, but generates the facilities and the consumers
+     * in parallel chunks, for problems of hundreds of thousands of consumers.
+     * Every chunk draws from its own {@link SplittableRandom}, split from a seeded one in chunk order,
+     * so the problem is the same whatever the number of threads (but not the same as the one of {@link #build()}).
+     */
+    public FacilityLocationProblem buildInParallel() {
+        validate();
+        SplittableRandom random = new SplittableRandom(0);
+        // Reserve the IDs up front, so that every facility and consumer gets an ID by its index.
+        long firstId = sequence.getAndAdd((long) facilityCount + consumerCount) + 1;
+        long consumerFirstId = firstId + facilityCount;
+        Facility[] facilities = new Facility[facilityCount];
+        generateInChunks(facilityCount, random, (chunkRandom, i) -> facilities[i] = new Facility(
+                Long.toString(firstId + i),
+                randomLocation(chunkRandom),
+                averageSetupCost + (long) (setupCostStandardDeviation * chunkRandom.nextGaussian()),
+                capacity / facilityCount));
+        Consumer[] consumers = new Consumer[consumerCount];
+        generateInChunks(consumerCount, random, (chunkRandom, i) -> consumers[i] = new Consumer(
+                Long.toString(consumerFirstId + i),
+                randomLocation(chunkRandom),
+                demand / consumerCount));
+
+        FacilityLocationProblem problem = new FacilityLocationProblem(new ArrayList<>(Arrays.asList(facilities)),
+                new ArrayList<>(Arrays.asList(consumers)), southWestCorner, northEastCorner);
+        problem.indexNearestFacilities(nearestFacilityCount);
+        return problem;
+    }
+
+    private static void generateInChunks(int count, SplittableRandom random,
+            ObjIntConsumer<SplittableRandom> generator) {
+        int chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        // Split sequentially, so that every chunk gets the same random whatever thread generates it.
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            chunkRandoms[chunk] = random.split();
+        }
+        IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+            SplittableRandom chunkRandom = chunkRandoms[chunk];
+            int end = Math.min(count, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                generator.accept(chunkRandom, i);
+            }
+        });
+    }
+
+    private Location randomLocation(SplittableRandom random) {
+        return new Location(random.nextDouble(southWestCorner.getLatitude(), northEastCorner.getLatitude()),
+                random.nextDouble(southWestCorner.getLongitude(), northEastCorner.getLongitude()));
+    }
+
+    private void validate() {
+        if (demand < 1) {
+            throw new IllegalStateException("Demand (" + demand + ") must be greater than zero.");
+        }
+        if (capacity < 1) {
+            throw new IllegalStateException("Capacity (" + capacity + ") must be greater than zero.");
+        }
+        if (facilityCount < 1) {
+            throw new IllegalStateException("Number of facilities (" + facilityCount + ") must be greater than zero.");
+        }
+        if (consumerCount < 1) {
+            throw new IllegalStateException("Number of consumers (" + consumerCount + ") must be greater than zero.");
+        }
+        if (nearestFacilityCount < 0) {
+            throw new IllegalStateException("Number of nearest facilities (" + nearestFacilityCount
+                    + ") must not be negative.");
+        }
+        if (demand > capacity) {
+            throw new IllegalStateException("Overconstrained problem not supported. The total capacity ("
+                    + capacity + ") must be greater than or equal to the total demand (" + demand + ").");
+        }
+        // TODO SW<NE
     }
 }
@@ -6,6 +6,7 @@ import jakarta.enterprise.event.Observes;
 import org.acme.facilitylocation.domain.FacilityLocationProblem;
 import org.acme.facilitylocation.domain.Location;
 import org.acme.facilitylocation.persistence.FacilityLocationProblemRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import io.quarkus.runtime.StartupEvent;
 
@@ -13,9 +14,13 @@ import io.quarkus.runtime.StartupEvent;
 public class DemoDataGenerator {
 
     private final FacilityLocationProblemRepository repository;
+    private final int nearestFacilityCount;
 
-    public DemoDataGenerator(FacilityLocationProblemRepository repository) {
+    public DemoDataGenerator(FacilityLocationProblemRepository repository,
+            @ConfigProperty(name = "facility-location.nearest-facility-count",
+                    defaultValue = "0") int nearestFacilityCount) {
         this.repository = repository;
+        this.nearestFacilityCount = nearestFacilityCount;
     }
 
     public void generateDemoData(@Observes StartupEvent startupEvent) {
@@ -28,6 +33,7 @@ public class DemoDataGenerator {
                 .setNorthEastCorner(new Location(51.56, -0.01))
                 .setAverageSetupCost(50_000)
                 .setSetupCostStandardDeviation(10_000)
+                .setNearestFacilityCount(nearestFacilityCount)
                 .build();
         repository.update(problem);
     }
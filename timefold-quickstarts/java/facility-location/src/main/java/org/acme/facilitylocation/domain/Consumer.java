@@ -1,10 +1,16 @@
 package org.acme.facilitylocation.domain;
 
+import java.util.Arrays;
+import java.util.List;
+
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import org.acme.facilitylocation.solver.FacilityLocationConstraintProvider;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Consumer has a demand that can be satisfied by <em>any</em> {@link Facility} with a sufficient capacity.
  * <p/>
@@ -23,9 +29,30 @@ public class Consumer {
     private Location location;
     private long demand;
 
-    @PlanningVariable
+    @PlanningVariable(valueRangeProviderRefs = "candidateFacilities")
     private Facility facility;
 
+    /**
+     * The nearest facilities of this consumer, nearest first, which it can be assigned to.
+     * Null until they're indexed, or to allow all facilities of the {@link #problem}:
+     * the solution cloner would copy a list of all facilities for every consumer,
+     * but only maps the reference to the problem.
+     *
+     * @see FacilityLocationProblem#indexNearestFacilities(int)
+     */
+    @JsonIgnore
+    private List<Facility> candidateFacilities;
+    @JsonIgnore
+    private FacilityLocationProblem problem;
+    /**
+     * The {@link Facility#getIndex()} of the candidate facilities in ascending order, with their distance
+     * from this consumer in {@link #candidateDistances}. Null until they're indexed.
+     */
+    @JsonIgnore
+    private int[] candidateFacilityIndexes;
+    @JsonIgnore
+    private long[] candidateDistances;
+
     public Consumer() {
     }
 
@@ -48,6 +75,12 @@ public class Consumer {
         if (facility == null) {
             throw new IllegalStateException("No facility is assigned.");
         }
+        if (candidateFacilityIndexes != null) {
+            int i = Arrays.binarySearch(candidateFacilityIndexes, facility.getIndex());
+            if (i >= 0) {
+                return candidateDistances[i];
+            }
+        }
         return facility.getLocation().getDistanceTo(location);
     }
 
@@ -61,6 +94,8 @@ public class Consumer {
 
     public void setLocation(Location location) {
         this.location = location;
+        this.candidateFacilityIndexes = null;
+        this.candidateDistances = null;
     }
 
     public long getDemand() {
@@ -79,6 +114,40 @@ public class Consumer {
         this.facility = facility;
     }
 
+    /**
+     * @return the facilities this consumer can be assigned to, empty until they're indexed
+     */
+    @ValueRangeProvider(id = "candidateFacilities")
+    public List<Facility> getCandidateFacilities() {
+        if (candidateFacilities != null) {
+            return candidateFacilities;
+        }
+        return problem == null ? List.of() : problem.getFacilities();
+    }
+
+    /**
+     * @param candidateFacilities never null
+     * @param candidateFacilityIndexes the {@link Facility#getIndex()} of every candidate facility in ascending order
+     * @param candidateDistances the distance to every facility of candidateFacilityIndexes, in the same order
+     */
+    public void setCandidateFacilities(List<Facility> candidateFacilities, int[] candidateFacilityIndexes,
+            long[] candidateDistances) {
+        this.candidateFacilities = candidateFacilities;
+        this.candidateFacilityIndexes = candidateFacilityIndexes;
+        this.candidateDistances = candidateDistances;
+        this.problem = null;
+    }
+
+    /**
+     * @param problem never null, the problem of this consumer, whose facilities it can all be assigned to
+     */
+    public void allowAllFacilities(FacilityLocationProblem problem) {
+        this.candidateFacilities = null;
+        this.candidateFacilityIndexes = null;
+        this.candidateDistances = null;
+        this.problem = problem;
+    }
+
     @Override
     public String toString() {
         return "Consumer " + id + " (" + demand + " dem)";
@@ -8,6 +8,8 @@ import org.acme.facilitylocation.solver.FacilityLocationConstraintProvider;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.variable.InverseRelationShadowVariable;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Facility satisfies consumers' demand. Cumulative demand of all consumers assigned to this facility must not exceed
  * the facility's capacity. This requirement is expressed by the {@link FacilityLocationConstraintProvider#facilityCapacity
@@ -22,6 +24,13 @@ public class Facility {
     private Location location;
     private long setupCost;
     private long capacity;
+    /**
+     * The position of this facility in {@link FacilityLocationProblem#getFacilities()}, -1 until it's indexed.
+     *
+     * @see FacilityLocationProblem#indexNearestFacilities(int)
+     */
+    @JsonIgnore
+    private int index = -1;
 
     @InverseRelationShadowVariable(sourceVariableName = "facility")
     private List<Consumer> consumers = new ArrayList<>();
@@ -64,6 +73,14 @@ public class Facility {
         this.capacity = capacity;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
     public long getUsedCapacity() {
         return consumers.stream().mapToLong(Consumer::getDemand).sum();
     }
@@ -0,0 +1,157 @@
+package org.acme.facilitylocation.domain;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A 2-d tree of the facility locations, to find the nearest facilities of a location
+ * without computing the distance to every facility.
+ * Measures distances in degrees, like {@link Location#getDistanceTo(Location)}, so both agree on what's nearest.
+ * <p>
+ * Immutable after construction, so it can be searched from multiple threads.
+ */
+final class FacilityKdTree {
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    /**
+     * The facility indexes, so that the median of every range [from, to) is the node that splits it,
+     * on the latitude at even depths and the longitude at odd depths.
+     */
+    private final int[] nodes;
+
+    FacilityKdTree(List<Facility> facilities) {
+        int facilityCount = facilities.size();
+        latitudes = new double[facilityCount];
+        longitudes = new double[facilityCount];
+        nodes = new int[facilityCount];
+        for (int i = 0; i < facilityCount; i++) {
+            Location location = facilities.get(i).getLocation();
+            latitudes[i] = location.getLatitude();
+            longitudes[i] = location.getLongitude();
+            nodes[i] = i;
+        }
+        build(0, facilityCount, true);
+    }
+
+    private void build(int from, int to, boolean byLatitude) {
+        if (to - from <= 1) {
+            return;
+        }
+        int median = (from + to) >>> 1;
+        select(from, to, median, byLatitude ? latitudes : longitudes);
+        build(from, median, !byLatitude);
+        build(median + 1, to, !byLatitude);
+    }
+
+    /**
+     * Quickselect: moves the node with the k-th smallest coordinate within [from, to) to k,
+     * the smaller or equal ones before it and the greater or equal ones after it.
+     */
+    private void select(int from, int to, int k, double[] coordinates) {
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            double pivot = coordinates[nodes[(left + right) >>> 1]];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[nodes[i]] < pivot) {
+                    i++;
+                }
+                while (coordinates[nodes[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int node = nodes[i];
+                    nodes[i] = nodes[j];
+                    nodes[j] = node;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param location never null
+     * @param count at least 1
+     * @return the indexes of the at most count facilities nearest to the location, nearest first
+     */
+    int[] findNearest(Location location, int count) {
+        if (nodes.length == 0) {
+            return new int[0];
+        }
+        Nearest nearest = new Nearest(Math.min(count, nodes.length));
+        search(0, nodes.length, true, location.getLatitude(), location.getLongitude(), nearest);
+        return Arrays.copyOf(nearest.indexes, nearest.size);
+    }
+
+    private void search(int from, int to, boolean byLatitude, double latitude, double longitude, Nearest nearest) {
+        if (from >= to) {
+            return;
+        }
+        int median = (from + to) >>> 1;
+        int index = nodes[median];
+        double latitudeDiff = latitude - latitudes[index];
+        double longitudeDiff = longitude - longitudes[index];
+        nearest.offer(index, latitudeDiff * latitudeDiff + longitudeDiff * longitudeDiff);
+        double splitDiff = byLatitude ? latitudeDiff : longitudeDiff;
+        // First the side of the location, then the other side only if it can be nearer than the farthest found.
+        if (splitDiff < 0) {
+            search(from, median, !byLatitude, latitude, longitude, nearest);
+            if (splitDiff * splitDiff < nearest.getMaxSquaredDistance()) {
+                search(median + 1, to, !byLatitude, latitude, longitude, nearest);
+            }
+        } else {
+            search(median + 1, to, !byLatitude, latitude, longitude, nearest);
+            if (splitDiff * splitDiff < nearest.getMaxSquaredDistance()) {
+                search(from, median, !byLatitude, latitude, longitude, nearest);
+            }
+        }
+    }
+
+    /**
+     * The nearest facilities found so far, sorted by distance. Insertion sort is fast enough for a few dozen.
+     */
+    private static final class Nearest {
+
+        private final int[] indexes;
+        private final double[] squaredDistances;
+        private int size = 0;
+
+        private Nearest(int capacity) {
+            indexes = new int[capacity];
+            squaredDistances = new double[capacity];
+        }
+
+        private void offer(int index, double squaredDistance) {
+            if (size == indexes.length) {
+                if (squaredDistance >= squaredDistances[size - 1]) {
+                    return;
+                }
+                size--;
+            }
+            int i = size;
+            while (i > 0 && squaredDistances[i - 1] > squaredDistance) {
+                indexes[i] = indexes[i - 1];
+                squaredDistances[i] = squaredDistances[i - 1];
+                i--;
+            }
+            indexes[i] = index;
+            squaredDistances[i] = squaredDistance;
+            size++;
+        }
+
+        private double getMaxSquaredDistance() {
+            return size < indexes.length ? Double.POSITIVE_INFINITY : squaredDistances[size - 1];
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.acme.facilitylocation.domain;
 
 import static java.util.Collections.emptyList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -10,14 +11,12 @@ import ai.timefold.solver.core.api.domain.solution.ConstraintWeightOverrides;
 import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
 import ai.timefold.solver.core.api.domain.solution.PlanningScore;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
-import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 
 @PlanningSolution
 public class FacilityLocationProblem {
 
     @PlanningEntityCollectionProperty
-    @ValueRangeProvider
     private List<Facility> facilities;
     @PlanningEntityCollectionProperty
     private List<Consumer> consumers;
@@ -113,6 +112,47 @@ public class FacilityLocationProblem {
         return distance / 1000 + " km";
     }
 
+    /**
+     * Limits the facilities that every consumer can be assigned to, to its nearest facilities,
+     * found with a k-d tree of the facilities instead of comparing every consumer with every facility.
+     * Keeps the distances from every consumer to those facilities too,
+     * so the construction heuristic and local search no longer try facilities far away
+     * and the distance constraint no longer computes square roots.
+     * Call it after setting all the problem facts, before solving.
+     *
+     * @param nearestFacilityCount the number of facilities per consumer,
+     *        0 or at least the number of facilities to allow all facilities for every consumer
+     */
+    public void indexNearestFacilities(int nearestFacilityCount) {
+        if (nearestFacilityCount < 0) {
+            throw new IllegalArgumentException("The nearestFacilityCount (" + nearestFacilityCount
+                    + ") must not be negative.");
+        }
+        for (int i = 0; i < facilities.size(); i++) {
+            facilities.get(i).setIndex(i);
+        }
+        if (nearestFacilityCount == 0 || nearestFacilityCount >= facilities.size()) {
+            consumers.forEach(consumer -> consumer.allowAllFacilities(this));
+            return;
+        }
+        FacilityKdTree facilityKdTree = new FacilityKdTree(facilities);
+        consumers.parallelStream().forEach(consumer -> {
+            int[] nearestFacilityIndexes = facilityKdTree.findNearest(consumer.getLocation(), nearestFacilityCount);
+            List<Facility> candidateFacilities = new ArrayList<>(nearestFacilityIndexes.length);
+            for (int facilityIndex : nearestFacilityIndexes) {
+                candidateFacilities.add(facilities.get(facilityIndex));
+            }
+            int[] candidateFacilityIndexes = nearestFacilityIndexes.clone();
+            Arrays.sort(candidateFacilityIndexes);
+            long[] candidateDistances = new long[candidateFacilityIndexes.length];
+            for (int i = 0; i < candidateFacilityIndexes.length; i++) {
+                candidateDistances[i] = facilities.get(candidateFacilityIndexes[i]).getLocation()
+                        .getDistanceTo(consumer.getLocation());
+            }
+            consumer.setCandidateFacilities(candidateFacilities, candidateFacilityIndexes, candidateDistances);
+        });
+    }
+
     @Override
     public String toString() {
         return "FacilityLocationProblem{" +
@@ -0,0 +1,286 @@
+package org.acme.facilitylocation.persistence;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.acme.facilitylocation.domain.Consumer;
+import org.acme.facilitylocation.domain.Facility;
+import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.domain.Location;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads and writes the facilities and the consumers of a problem one by one,
+ * without building an intermediate object tree, so that problems of hundreds of thousands of consumers
+ * only take the memory of their domain objects.
+ * <p>
+ * The CSV format has one facility or consumer per line, blank lines and lines starting with # are ignored:
+ *
+ * <pre>
+ * facility,&lt;id&gt;,&lt;latitude&gt;,&lt;longitude&gt;,&lt;setup cost&gt;,&lt;capacity&gt;
+ * consumer,&lt;id&gt;,&lt;latitude&gt;,&lt;longitude&gt;,&lt;demand&gt;
+ * </pre>
+ *
+ * The JSON format is the one of the facilities and the consumers of a serialized {@link FacilityLocationProblem}:
+ *
+ * <pre>
+ * {"facilities": [{"id": "1", "location": [51.2, 4.4], "setupCost": 2000, "capacity": 100}, ...],
+ *  "consumers": [{"id": "2", "location": [51.3, 4.1], "demand": 6}, ...]}
+ * </pre>
+ *
+ * Any other field, such as the assigned facility of a consumer, is skipped.
+ * The bounds of the problem are those of the locations.
+ */
+public final class FacilityLocationProblemLoader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String FACILITY = "facility";
+    private static final String CONSUMER = "consumer";
+
+    private FacilityLocationProblemLoader() {
+    }
+
+    public static FacilityLocationProblem readCsv(Reader reader) {
+        List<Facility> facilities = new ArrayList<>();
+        List<Consumer> consumers = new ArrayList<>();
+        BufferedReader bufferedReader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String[] fields = new String[6];
+        int lineNumber = 0;
+        try {
+            for (String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int fieldCount = split(line, fields);
+                try {
+                    if (fields[0].equals(FACILITY) && fieldCount == 6) {
+                        facilities.add(new Facility(fields[1], parseLocation(fields[2], fields[3]),
+                                Long.parseLong(fields[4]), Long.parseLong(fields[5])));
+                    } else if (fields[0].equals(CONSUMER) && fieldCount == 5) {
+                        consumers.add(new Consumer(fields[1], parseLocation(fields[2], fields[3]),
+                                Long.parseLong(fields[4])));
+                    } else {
+                        throw new IllegalArgumentException("Expected a line of 6 fields starting with " + FACILITY
+                                + " or 5 fields starting with " + CONSUMER + ".");
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid line " + lineNumber + " (" + line + ").", e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading line " + (lineNumber + 1) + ".", e);
+        }
+        return problem(facilities, consumers);
+    }
+
+    /**
+     * Splits the line on commas, without a regular expression.
+     *
+     * @return the number of fields, even the ones that don't fit in the array
+     */
+    private static int split(String line, String[] fields) {
+        int fieldCount = 0;
+        int start = 0;
+        while (true) {
+            int end = line.indexOf(',', start);
+            String field = (end < 0 ? line.substring(start) : line.substring(start, end)).trim();
+            if (fieldCount < fields.length) {
+                fields[fieldCount] = field;
+            }
+            fieldCount++;
+            if (end < 0) {
+                return fieldCount;
+            }
+            start = end + 1;
+        }
+    }
+
+    private static Location parseLocation(String latitude, String longitude) {
+        return new Location(Double.parseDouble(latitude), Double.parseDouble(longitude));
+    }
+
+    public static void writeCsv(FacilityLocationProblem problem, Writer writer) {
+        try {
+            writer.write("# facility,id,latitude,longitude,setupCost,capacity\n");
+            writer.write("# consumer,id,latitude,longitude,demand\n");
+            for (Facility facility : problem.getFacilities()) {
+                Location location = facility.getLocation();
+                writer.write(FACILITY + ',' + facility.getId() + ',' + location.getLatitude() + ','
+                        + location.getLongitude() + ',' + facility.getSetupCost() + ',' + facility.getCapacity() + '\n');
+            }
+            for (Consumer consumer : problem.getConsumers()) {
+                Location location = consumer.getLocation();
+                writer.write(CONSUMER + ',' + consumer.getId() + ',' + location.getLatitude() + ','
+                        + location.getLongitude() + ',' + consumer.getDemand() + '\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed writing the problem.", e);
+        }
+    }
+
+    public static FacilityLocationProblem readJson(InputStream inputStream) {
+        List<Facility> facilities = new ArrayList<>();
+        List<Consumer> consumers = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (fieldName.equals("facilities")) {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        facilities.add(readFacility(parser));
+                    }
+                } else if (fieldName.equals("consumers")) {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        consumers.add(readConsumer(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading the problem: " + e.getMessage(), e);
+        }
+        return problem(facilities, consumers);
+    }
+
+    private static Facility readFacility(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        String id = null;
+        Location location = null;
+        long setupCost = 0;
+        long capacity = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "id" -> id = parser.getValueAsString();
+                case "location" -> location = readLocation(parser);
+                case "setupCost" -> setupCost = parser.getLongValue();
+                case "capacity" -> capacity = parser.getLongValue();
+                default -> parser.skipChildren();
+            }
+        }
+        requireFields(parser, FACILITY, id, location);
+        return new Facility(id, location, setupCost, capacity);
+    }
+
+    private static Consumer readConsumer(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+        String id = null;
+        Location location = null;
+        long demand = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "id" -> id = parser.getValueAsString();
+                case "location" -> location = readLocation(parser);
+                case "demand" -> demand = parser.getLongValue();
+                default -> parser.skipChildren();
+            }
+        }
+        requireFields(parser, CONSUMER, id, location);
+        return new Consumer(id, location, demand);
+    }
+
+    private static Location readLocation(JsonParser parser) throws IOException {
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        parser.nextToken();
+        double latitude = parser.getDoubleValue();
+        parser.nextToken();
+        double longitude = parser.getDoubleValue();
+        expect(parser, parser.nextToken(), JsonToken.END_ARRAY);
+        return new Location(latitude, longitude);
+    }
+
+    private static void expect(JsonParser parser, JsonToken token, JsonToken expectedToken) {
+        if (token != expectedToken) {
+            throw new IllegalArgumentException("Expected " + expectedToken + " but got " + token
+                    + " at " + parser.currentLocation() + ".");
+        }
+    }
+
+    private static void requireFields(JsonParser parser, String type, String id, Location location) {
+        if (id == null || location == null) {
+            throw new IllegalArgumentException("The " + type + " (" + id + ") without an id or a location"
+                    + " at " + parser.currentLocation() + ".");
+        }
+    }
+
+    public static void writeJson(FacilityLocationProblem problem, OutputStream outputStream) {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("facilities");
+            for (Facility facility : problem.getFacilities()) {
+                generator.writeStartObject();
+                generator.writeStringField("id", facility.getId());
+                writeLocation(generator, facility.getLocation());
+                generator.writeNumberField("setupCost", facility.getSetupCost());
+                generator.writeNumberField("capacity", facility.getCapacity());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("consumers");
+            for (Consumer consumer : problem.getConsumers()) {
+                generator.writeStartObject();
+                generator.writeStringField("id", consumer.getId());
+                writeLocation(generator, consumer.getLocation());
+                generator.writeNumberField("demand", consumer.getDemand());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed writing the problem.", e);
+        }
+    }
+
+    private static void writeLocation(JsonGenerator generator, Location location) throws IOException {
+        generator.writeArrayFieldStart("location");
+        generator.writeNumber(location.getLatitude());
+        generator.writeNumber(location.getLongitude());
+        generator.writeEndArray();
+    }
+
+    private static FacilityLocationProblem problem(List<Facility> facilities, List<Consumer> consumers) {
+        if (facilities.isEmpty() && consumers.isEmpty()) {
+            return FacilityLocationProblem.empty();
+        }
+        double minLatitude = Double.POSITIVE_INFINITY;
+        double minLongitude = Double.POSITIVE_INFINITY;
+        double maxLatitude = Double.NEGATIVE_INFINITY;
+        double maxLongitude = Double.NEGATIVE_INFINITY;
+        for (Facility facility : facilities) {
+            Location location = facility.getLocation();
+            minLatitude = Math.min(minLatitude, location.getLatitude());
+            minLongitude = Math.min(minLongitude, location.getLongitude());
+            maxLatitude = Math.max(maxLatitude, location.getLatitude());
+            maxLongitude = Math.max(maxLongitude, location.getLongitude());
+        }
+        for (Consumer consumer : consumers) {
+            Location location = consumer.getLocation();
+            minLatitude = Math.min(minLatitude, location.getLatitude());
+            minLongitude = Math.min(minLongitude, location.getLongitude());
+            maxLatitude = Math.max(maxLatitude, location.getLatitude());
+            maxLongitude = Math.max(maxLongitude, location.getLongitude());
+        }
+        return new FacilityLocationProblem(facilities, consumers,
+                new Location(minLatitude, minLongitude), new Location(maxLatitude, maxLongitude));
+    }
+}
@@ -5,6 +5,8 @@ import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
@@ -12,30 +14,43 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.persistence.FacilityLocationProblemLoader;
 import org.acme.facilitylocation.persistence.FacilityLocationProblemRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Path("/flp")
 public class SolverResource {
 
     private static final String PROBLEM_ID = "1";
+    private static final String TEXT_CSV = "text/csv";
 
     private final AtomicReference<Throwable> solverError = new AtomicReference<>();
 
     private final FacilityLocationProblemRepository repository;
     private final SolverManager<FacilityLocationProblem, String> solverManager;
     private final SolutionManager<FacilityLocationProblem, HardSoftLongScore> solutionManager;
+    private final int nearestFacilityCount;
 
     public SolverResource(FacilityLocationProblemRepository repository,
             SolverManager<FacilityLocationProblem, String> solverManager,
-            SolutionManager<FacilityLocationProblem, HardSoftLongScore> solutionManager) {
+            SolutionManager<FacilityLocationProblem, HardSoftLongScore> solutionManager,
+            @ConfigProperty(name = "facility-location.nearest-facility-count",
+                    defaultValue = "0") int nearestFacilityCount) {
         this.repository = repository;
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
+        this.nearestFacilityCount = nearestFacilityCount;
     }
 
     private Status statusFromSolution(FacilityLocationProblem solution) {
@@ -53,6 +68,46 @@ public class SolverResource {
         return statusFromSolution(repository.solution().orElse(FacilityLocationProblem.empty()));
     }
 
+    /**
+     * Replaces the problem with the one of the CSV body, streamed by {@link FacilityLocationProblemLoader#readCsv}.
+     *
+     * @param nearestFacilityCount null for the configured facility-location.nearest-facility-count
+     */
+    @PUT
+    @Consumes(TEXT_CSV)
+    @Path("problem")
+    public void loadCsv(InputStream body, @QueryParam("nearestFacilityCount") Integer nearestFacilityCount) {
+        load(() -> FacilityLocationProblemLoader.readCsv(new InputStreamReader(body, StandardCharsets.UTF_8)),
+                nearestFacilityCount);
+    }
+
+    /**
+     * Replaces the problem with the one of the JSON body, streamed by {@link FacilityLocationProblemLoader#readJson}.
+     *
+     * @param nearestFacilityCount null for the configured facility-location.nearest-facility-count
+     */
+    @PUT
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Path("problem")
+    public void loadJson(InputStream body, @QueryParam("nearestFacilityCount") Integer nearestFacilityCount) {
+        load(() -> FacilityLocationProblemLoader.readJson(body), nearestFacilityCount);
+    }
+
+    private void load(Supplier<FacilityLocationProblem> problemSupplier, Integer nearestFacilityCount) {
+        if (solverManager.getSolverStatus(PROBLEM_ID) != SolverStatus.NOT_SOLVING) {
+            throw new WebApplicationException("Stop solving before loading another problem.",
+                    Response.Status.CONFLICT);
+        }
+        try {
+            FacilityLocationProblem problem = problemSupplier.get();
+            problem.indexNearestFacilities(nearestFacilityCount == null ? this.nearestFacilityCount
+                    : nearestFacilityCount);
+            repository.update(problem);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
     @POST
     @Path("solve")
     public void solve() {
@@ -0,0 +1,46 @@
+package org.acme.facilitylocation.benchmark;
+
+import ai.timefold.solver.benchmark.api.PlannerBenchmark;
+import ai.timefold.solver.benchmark.api.PlannerBenchmarkFactory;
+
+import org.acme.facilitylocation.bootstrap.DemoDataBuilder;
+import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.domain.Location;
+
+/**
+ * Compares the best score over time of 10k consumers and 1k facilities,
+ * with every consumer allowed to use any facility (the first problem)
+ * or only its 20 and 50 nearest facilities (the second and third problem).
+ * All three problems have the same consumers and facilities, so their scores are comparable.
+ * <p>
+ * Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.acme.facilitylocation.benchmark.FacilityLocationNearestFacilitiesBenchmarkApp}.
+ * The report is written to {@code target/benchmarks}.
+ */
+public class FacilityLocationNearestFacilitiesBenchmarkApp {
+
+    public static void main(String[] args) {
+        PlannerBenchmarkFactory benchmarkFactory =
+                PlannerBenchmarkFactory.createFromXmlResource("facilityLocationNearestFacilitiesBenchmarkConfig.xml");
+        PlannerBenchmark benchmark = benchmarkFactory.buildPlannerBenchmark(
+                generate(0),
+                generate(20),
+                generate(50));
+        benchmark.benchmarkAndShowReportInBrowser();
+    }
+
+    private static FacilityLocationProblem generate(int nearestFacilityCount) {
+        // The capacity to demand ratio of the demo data.
+        return DemoDataBuilder.builder()
+                .setCapacity(750_000)
+                .setDemand(150_000)
+                .setFacilityCount(1_000)
+                .setConsumerCount(10_000)
+                .setSouthWestCorner(new Location(51.44, -0.16))
+                .setNorthEastCorner(new Location(51.56, -0.01))
+                .setAverageSetupCost(50_000)
+                .setSetupCostStandardDeviation(10_000)
+                .setNearestFacilityCount(nearestFacilityCount)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package org.acme.facilitylocation.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+
+import org.acme.facilitylocation.bootstrap.DemoDataBuilder;
+import org.acme.facilitylocation.domain.Consumer;
+import org.acme.facilitylocation.domain.Facility;
+import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.domain.Location;
+import org.acme.facilitylocation.persistence.FacilityLocationProblemLoader;
+import org.acme.facilitylocation.solver.FacilityLocationConstraintProvider;
+
+/**
+ * Reports, for 1k, 10k and 100k consumers (and a tenth as many facilities):
+ * the time to generate the problem in parallel, to load it from CSV and from JSON,
+ * the heap it takes once loaded and indexed to the 20 nearest facilities of every consumer,
+ * and the time the solver takes to find a feasible solution.
+ * <p>
+ * Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.acme.facilitylocation.benchmark.FacilityLocationScalingBenchmarkApp}.
+ * The heap is measured after a full GC, so give the JVM room, for example with {@code MAVEN_OPTS=-Xmx4g}.
+ */
+public class FacilityLocationScalingBenchmarkApp {
+
+    private static final int[] CONSUMER_COUNTS = { 1_000, 10_000, 100_000 };
+    private static final int NEAREST_FACILITY_COUNT = 20;
+    private static final int LOAD_RUN_COUNT = 5;
+    private static final Duration FEASIBLE_SPENT_LIMIT = Duration.ofMinutes(10);
+
+    public static void main(String[] args) throws IOException {
+        System.out.printf("%10s %10s %10s %10s %10s %10s %10s %12s%n",
+                "consumers", "facilities", "generate", "load CSV", "load JSON", "index", "heap", "feasible");
+        Path directory = Files.createTempDirectory("facility-location-scaling");
+        for (int consumerCount : CONSUMER_COUNTS) {
+            run(consumerCount, directory);
+        }
+    }
+
+    private static void run(int consumerCount, Path directory) throws IOException {
+        int facilityCount = consumerCount / 10;
+        long generateStart = System.nanoTime();
+        FacilityLocationProblem generatedProblem = generate(consumerCount, facilityCount);
+        long generateMillis = millisSince(generateStart);
+        Path csvFile = directory.resolve(consumerCount + ".csv");
+        try (Writer writer = Files.newBufferedWriter(csvFile)) {
+            FacilityLocationProblemLoader.writeCsv(generatedProblem, writer);
+        }
+        Path jsonFile = directory.resolve(consumerCount + ".json");
+        try (OutputStream outputStream = Files.newOutputStream(jsonFile)) {
+            FacilityLocationProblemLoader.writeJson(generatedProblem, outputStream);
+        }
+        generatedProblem = null;
+
+        Supplier<FacilityLocationProblem> csvLoader = () -> {
+            try (Reader reader = Files.newBufferedReader(csvFile)) {
+                return FacilityLocationProblemLoader.readCsv(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        Supplier<FacilityLocationProblem> jsonLoader = () -> {
+            try (InputStream inputStream = Files.newInputStream(jsonFile)) {
+                return FacilityLocationProblemLoader.readJson(inputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        long csvMillis = bestLoadMillis(csvLoader);
+        long jsonMillis = bestLoadMillis(jsonLoader);
+
+        long heapBefore = usedHeap();
+        FacilityLocationProblem problem = csvLoader.get();
+        long indexStart = System.nanoTime();
+        problem.indexNearestFacilities(NEAREST_FACILITY_COUNT);
+        long indexMillis = millisSince(indexStart);
+        long heapBytes = usedHeap() - heapBefore;
+        Reference.reachabilityFence(problem);
+
+        Solver<FacilityLocationProblem> solver = SolverFactory.<FacilityLocationProblem> create(new SolverConfig()
+                .withSolutionClass(FacilityLocationProblem.class)
+                .withEntityClasses(Facility.class, Consumer.class)
+                .withConstraintProviderClass(FacilityLocationConstraintProvider.class)
+                .withTerminationConfig(new TerminationConfig()
+                        .withBestScoreFeasible(true)
+                        .withSpentLimit(FEASIBLE_SPENT_LIMIT)))
+                .buildSolver();
+        long solveStart = System.nanoTime();
+        FacilityLocationProblem solution = solver.solve(problem);
+        long solveMillis = millisSince(solveStart);
+
+        System.out.printf("%10d %10d %8d ms %8d ms %8d ms %8d ms %7d MiB %9d ms%s%n",
+                consumerCount, facilityCount, generateMillis, csvMillis, jsonMillis, indexMillis,
+                heapBytes / (1024 * 1024), solveMillis, solution.getScore().isFeasible() ? "" : " (infeasible)");
+    }
+
+    private static FacilityLocationProblem generate(int consumerCount, int facilityCount) {
+        // The capacity to demand ratio of the demo data.
+        return DemoDataBuilder.builder()
+                .setCapacity(75L * consumerCount)
+                .setDemand(15L * consumerCount)
+                .setFacilityCount(facilityCount)
+                .setConsumerCount(consumerCount)
+                .setSouthWestCorner(new Location(51.44, -0.16))
+                .setNorthEastCorner(new Location(51.56, -0.01))
+                .setAverageSetupCost(50_000)
+                .setSetupCostStandardDeviation(10_000)
+                .buildInParallel();
+    }
+
+    /**
+     * @return the fastest of a few loads, the first ones warming up the JIT
+     */
+    private static long bestLoadMillis(Supplier<FacilityLocationProblem> loader) {
+        long bestMillis = Long.MAX_VALUE;
+        for (int i = 0; i < LOAD_RUN_COUNT; i++) {
+            long start = System.nanoTime();
+            FacilityLocationProblem problem = loader.get();
+            bestMillis = Math.min(bestMillis, millisSince(start));
+            Reference.reachabilityFence(problem);
+        }
+        return bestMillis;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.acme.facilitylocation.domain.Consumer;
 import org.acme.facilitylocation.domain.FacilityLocationProblem;
 import org.acme.facilitylocation.domain.Location;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,32 @@ class DemoDataBuilderTest {
         problem.getConsumers().forEach(consumer -> assertEquals(6, consumer.getDemand()));
     }
 
+    @Test
+    void shouldBuildSameDataInParallel() {
+        // More consumers than a chunk, so that several chunks are generated in parallel.
+        DemoDataBuilder builder = DemoDataBuilder.builder()
+                .setCapacity(250_000)
+                .setDemand(25_000)
+                .setAverageSetupCost(1000).setSetupCostStandardDeviation(200)
+                .setFacilityCount(100)
+                .setConsumerCount(25_000)
+                .setSouthWestCorner(new Location(-10, -10))
+                .setNorthEastCorner(new Location(20, 20));
+        FacilityLocationProblem problem = builder.buildInParallel();
+        FacilityLocationProblem otherProblem = builder.buildInParallel();
+
+        assertEquals(100, problem.getFacilities().size());
+        problem.getFacilities().forEach(facility -> assertEquals(2500, facility.getCapacity()));
+        assertEquals(25_000, problem.getConsumers().size());
+        for (int i = 0; i < problem.getConsumers().size(); i++) {
+            Consumer consumer = problem.getConsumers().get(i);
+            Consumer otherConsumer = otherProblem.getConsumers().get(i);
+            assertEquals(1, consumer.getDemand());
+            assertEquals(consumer.getLocation().getLatitude(), otherConsumer.getLocation().getLatitude());
+            assertEquals(consumer.getLocation().getLongitude(), otherConsumer.getLocation().getLongitude());
+        }
+    }
+
     @Test
     void correctBuilderBuildsOk() {
         assertNotNull(correctBuilder().build());
@@ -74,6 +101,12 @@ class DemoDataBuilderTest {
         assertThrows(IllegalStateException.class, builder::build);
     }
 
+    @Test
+    void nearestFacilityCountNotNegative() {
+        DemoDataBuilder builder = correctBuilder().setNearestFacilityCount(-1);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
     static DemoDataBuilder correctBuilder() {
         return DemoDataBuilder.builder()
                 .setSouthWestCorner(new Location(-1, -1))
@@ -0,0 +1,57 @@
+package org.acme.facilitylocation.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.acme.facilitylocation.bootstrap.DemoDataBuilder;
+import org.junit.jupiter.api.Test;
+
+class FacilityLocationProblemTest {
+
+    @Test
+    void indexNearestFacilities() {
+        FacilityLocationProblem problem = builder().setNearestFacilityCount(5).build();
+
+        for (Consumer consumer : problem.getConsumers()) {
+            // The same facilities as sorting all facilities by distance.
+            List<Facility> nearestFacilities = problem.getFacilities().stream()
+                    .sorted(Comparator.comparingLong(facility -> facility.getLocation()
+                            .getDistanceTo(consumer.getLocation())))
+                    .limit(5)
+                    .toList();
+            assertThat(consumer.getCandidateFacilities()).hasSize(5)
+                    .containsExactlyInAnyOrderElementsOf(nearestFacilities);
+            for (Facility facility : consumer.getCandidateFacilities()) {
+                consumer.setFacility(facility);
+                assertThat(consumer.distanceFromFacility())
+                        .isEqualTo(facility.getLocation().getDistanceTo(consumer.getLocation()));
+            }
+        }
+    }
+
+    @Test
+    void indexAllFacilities() {
+        FacilityLocationProblem problem = builder().build();
+
+        assertThat(problem.getConsumers())
+                .allSatisfy(consumer -> assertThat(consumer.getCandidateFacilities()).isSameAs(problem.getFacilities()));
+        Consumer consumer = problem.getConsumers().get(0);
+        Facility facility = problem.getFacilities().get(0);
+        consumer.setFacility(facility);
+        assertThat(consumer.distanceFromFacility())
+                .isEqualTo(facility.getLocation().getDistanceTo(consumer.getLocation()));
+    }
+
+    private static DemoDataBuilder builder() {
+        return DemoDataBuilder.builder()
+                .setCapacity(1000)
+                .setDemand(900)
+                .setAverageSetupCost(1000).setSetupCostStandardDeviation(200)
+                .setFacilityCount(40)
+                .setConsumerCount(150)
+                .setSouthWestCorner(new Location(-10, -10))
+                .setNorthEastCorner(new Location(20, 20));
+    }
+}
@@ -0,0 +1,122 @@
+package org.acme.facilitylocation.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.acme.facilitylocation.bootstrap.DemoDataBuilder;
+import org.acme.facilitylocation.domain.Consumer;
+import org.acme.facilitylocation.domain.Facility;
+import org.acme.facilitylocation.domain.FacilityLocationProblem;
+import org.acme.facilitylocation.domain.Location;
+import org.junit.jupiter.api.Test;
+
+class FacilityLocationProblemLoaderTest {
+
+    @Test
+    void csvRoundTrip() {
+        FacilityLocationProblem problem = generate();
+        StringWriter writer = new StringWriter();
+        FacilityLocationProblemLoader.writeCsv(problem, writer);
+
+        assertSameFacilitiesAndConsumers(FacilityLocationProblemLoader.readCsv(new StringReader(writer.toString())),
+                problem);
+    }
+
+    @Test
+    void jsonRoundTrip() {
+        FacilityLocationProblem problem = generate();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        FacilityLocationProblemLoader.writeJson(problem, outputStream);
+
+        assertSameFacilitiesAndConsumers(
+                FacilityLocationProblemLoader.readJson(new ByteArrayInputStream(outputStream.toByteArray())), problem);
+    }
+
+    @Test
+    void readJsonSkipsOtherFields() {
+        String json = """
+                {"score": "0hard/-10soft",
+                 "facilities": [{"id": "1", "location": [1.0, 2.0], "setupCost": 100, "capacity": 50,
+                                 "consumers": [{"id": "2"}]}],
+                 "consumers": [{"id": "2", "location": [-1.0, 3.0], "demand": 5, "facility": {"id": "1"}}],
+                 "bounds": [[-1.0, 2.0], [1.0, 3.0]]}
+                """;
+
+        FacilityLocationProblem problem = FacilityLocationProblemLoader.readJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(problem.getFacilities()).singleElement()
+                .satisfies(facility -> {
+                    assertThat(facility.getId()).isEqualTo("1");
+                    assertThat(facility.getSetupCost()).isEqualTo(100);
+                    assertThat(facility.getCapacity()).isEqualTo(50);
+                    assertThat(facility.isUsed()).isFalse();
+                });
+        assertThat(problem.getConsumers()).singleElement()
+                .satisfies(consumer -> {
+                    assertThat(consumer.getDemand()).isEqualTo(5);
+                    assertThat(consumer.getFacility()).isNull();
+                });
+        assertThat(problem.getBounds()).extracting(Location::getLatitude, Location::getLongitude)
+                .containsExactly(tuple(-1.0, 2.0), tuple(1.0, 3.0));
+    }
+
+    @Test
+    void failOnInvalidCsvLine() {
+        String csv = """
+                # A comment
+                facility,1,1.0,2.0,100,50
+
+                consumer,2,-1.0,3.0
+                """;
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> FacilityLocationProblemLoader.readCsv(new StringReader(csv)))
+                .withMessageContaining("line 4");
+    }
+
+    private static FacilityLocationProblem generate() {
+        return DemoDataBuilder.builder()
+                .setCapacity(1000)
+                .setDemand(900)
+                .setAverageSetupCost(1000).setSetupCostStandardDeviation(200)
+                .setFacilityCount(10)
+                .setConsumerCount(150)
+                .setSouthWestCorner(new Location(-10, -10))
+                .setNorthEastCorner(new Location(20, 20))
+                .build();
+    }
+
+    private static void assertSameFacilitiesAndConsumers(FacilityLocationProblem actual,
+            FacilityLocationProblem expected) {
+        assertThat(actual.getFacilities()).hasSameSizeAs(expected.getFacilities());
+        for (int i = 0; i < expected.getFacilities().size(); i++) {
+            Facility actualFacility = actual.getFacilities().get(i);
+            Facility expectedFacility = expected.getFacilities().get(i);
+            assertThat(actualFacility.getId()).isEqualTo(expectedFacility.getId());
+            assertSameLocation(actualFacility.getLocation(), expectedFacility.getLocation());
+            assertThat(actualFacility.getSetupCost()).isEqualTo(expectedFacility.getSetupCost());
+            assertThat(actualFacility.getCapacity()).isEqualTo(expectedFacility.getCapacity());
+        }
+        assertThat(actual.getConsumers()).hasSameSizeAs(expected.getConsumers());
+        for (int i = 0; i < expected.getConsumers().size(); i++) {
+            Consumer actualConsumer = actual.getConsumers().get(i);
+            Consumer expectedConsumer = expected.getConsumers().get(i);
+            assertThat(actualConsumer.getId()).isEqualTo(expectedConsumer.getId());
+            assertSameLocation(actualConsumer.getLocation(), expectedConsumer.getLocation());
+            assertThat(actualConsumer.getDemand()).isEqualTo(expectedConsumer.getDemand());
+        }
+    }
+
+    private static void assertSameLocation(Location actual, Location expected) {
+        assertThat(actual.getLatitude()).isEqualTo(expected.getLatitude());
+        assertThat(actual.getLongitude()).isEqualTo(expected.getLongitude());
+    }
+}
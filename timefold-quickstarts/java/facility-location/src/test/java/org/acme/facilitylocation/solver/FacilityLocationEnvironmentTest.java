@@ -28,15 +28,20 @@ class FacilityLocationEnvironmentTest {
 
     @Test
     void solveFullAssert() {
-        solve(EnvironmentMode.FULL_ASSERT);
+        solve(EnvironmentMode.FULL_ASSERT, 0);
     }
 
     @Test
     void solveStepAssert() {
-        solve(EnvironmentMode.STEP_ASSERT);
+        solve(EnvironmentMode.STEP_ASSERT, 0);
     }
 
-    void solve(EnvironmentMode environmentMode) {
+    @Test
+    void solveFullAssertWithNearestFacilities() {
+        solve(EnvironmentMode.FULL_ASSERT, 5);
+    }
+
+    void solve(EnvironmentMode environmentMode, int nearestFacilityCount) {
         // Load the problem
         FacilityLocationProblem problem = DemoDataBuilder.builder()
                 .setCapacity(1200)
@@ -46,6 +51,7 @@ class FacilityLocationEnvironmentTest {
                 .setConsumerCount(150)
                 .setSouthWestCorner(new Location(-10, -10))
                 .setNorthEastCorner(new Location(10, 10))
+                .setNearestFacilityCount(nearestFacilityCount)
                 .build();
 
         // Update the environment
@@ -29,6 +29,11 @@ import java.util.Set;
 @ApplicationScoped
 public class DemoDataGenerator {
 
+    /**
+     * The job of the demo schedule shown in the UI.
+     */
+    public static final String DEMO_JOB_ID = "1";
+
     private final PackagingScheduleRepository repository;
 
     @ConfigProperty(name = "demo-data.line-count", defaultValue = "5")
@@ -42,6 +47,14 @@ public class DemoDataGenerator {
 
     @Transactional
     public void generateDemoData(@Observes StartupEvent startupEvent) {
+        repository.put(DEMO_JOB_ID, generateDemoData());
+    }
+
+    public PackagingSchedule generateDemoData() {
+        return generateDemoData(lineCount, jobCount);
+    }
+
+    public PackagingSchedule generateDemoData(int lineCount, int jobCount) {
         var noCleaningMinutes = 10;
         var cleaningMinutesMinimum = 30;
         var cleaningMinutesMaximum = 60;
@@ -113,8 +126,7 @@ public class DemoDataGenerator {
         }
         jobs.sort(Comparator.comparing(Job::getName));
         solution.setJobs(jobs);
-
-        repository.write(solution);
+        return solution;
     }
 
     private static final List<String> INGREDIENT_LIST = List.of(
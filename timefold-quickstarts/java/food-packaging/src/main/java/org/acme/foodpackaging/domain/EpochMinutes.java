@@ -0,0 +1,28 @@
+package org.acme.foodpackaging.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Converts date times to and from the number of minutes since 1970-01-01T00:00,
+ * which the shadow variables of {@link Job} calculate with, so they don't allocate a {@link LocalDateTime} per update.
+ * Seconds are truncated.
+ */
+public final class EpochMinutes {
+
+    private EpochMinutes() {
+    }
+
+    public static long of(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    public static Long ofNullable(LocalDateTime dateTime) {
+        return dateTime == null ? null : of(dateTime);
+    }
+
+    public static LocalDateTime toLocalDateTime(Long epochMinute) {
+        return epochMinute == null ? null : LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+}
@@ -10,12 +10,16 @@ import ai.timefold.solver.core.api.domain.variable.ShadowSources;
 import ai.timefold.solver.core.api.domain.variable.ShadowVariable;
 import ai.timefold.solver.core.api.domain.variable.ShadowVariablesInconsistent;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+@JsonIdentityInfo(scope = Job.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @PlanningEntity
 public class Job {
 
@@ -23,6 +27,7 @@ public class Job {
     private String id;
     private String name;
 
+    @JsonIdentityReference(alwaysAsId = true)
     private Product product;
     private Duration duration;
     private LocalDateTime minStartTime;
@@ -49,13 +54,17 @@ public class Job {
 
     /**
      * Start is after cleanup.
+     * The shadow variables are in {@link EpochMinutes}, the getters convert them to date times.
      */
-    @ShadowVariable(supplierName = "startCleaningDateTimeSupplier")
-    private LocalDateTime startCleaningDateTime;
-    @ShadowVariable(supplierName = "startProductionDateTimeSupplier")
-    private LocalDateTime startProductionDateTime;
-    @ShadowVariable(supplierName = "endDateTimeSupplier")
-    private LocalDateTime endDateTime;
+    @JsonIgnore
+    @ShadowVariable(supplierName = "startCleaningMinuteSupplier")
+    private Long startCleaningMinute;
+    @JsonIgnore
+    @ShadowVariable(supplierName = "startProductionMinuteSupplier")
+    private Long startProductionMinute;
+    @JsonIgnore
+    @ShadowVariable(supplierName = "endMinuteSupplier")
+    private Long endMinute;
 
     // No-arg constructor required for Timefold
     public Job() {
@@ -75,9 +84,9 @@ public class Job {
         this.idealEndTime = idealEndTime;
         this.maxEndTime = maxEndTime;
         this.priority = priority;
-        this.startCleaningDateTime = startCleaningDateTime;
-        this.startProductionDateTime = startProductionDateTime;
-        this.endDateTime = startProductionDateTime == null ? null : startProductionDateTime.plus(duration);
+        this.startCleaningMinute = EpochMinutes.ofNullable(startCleaningDateTime);
+        this.startProductionMinute = EpochMinutes.ofNullable(startProductionDateTime);
+        this.endMinute = startProductionMinute == null ? null : startProductionMinute + duration.toMinutes();
         this.pinned = pinned;
     }
 
@@ -160,27 +169,42 @@ public class Job {
     }
 
     public LocalDateTime getStartCleaningDateTime() {
-        return startCleaningDateTime;
+        return EpochMinutes.toLocalDateTime(startCleaningMinute);
     }
 
     public void setStartCleaningDateTime(LocalDateTime startCleaningDateTime) {
-        this.startCleaningDateTime = startCleaningDateTime;
+        this.startCleaningMinute = EpochMinutes.ofNullable(startCleaningDateTime);
     }
 
     public LocalDateTime getStartProductionDateTime() {
-        return startProductionDateTime;
+        return EpochMinutes.toLocalDateTime(startProductionMinute);
     }
 
     public void setStartProductionDateTime(LocalDateTime startProductionDateTime) {
-        this.startProductionDateTime = startProductionDateTime;
+        this.startProductionMinute = EpochMinutes.ofNullable(startProductionDateTime);
     }
 
     public LocalDateTime getEndDateTime() {
-        return endDateTime;
+        return EpochMinutes.toLocalDateTime(endMinute);
     }
 
     public void setEndDateTime(LocalDateTime endDateTime) {
-        this.endDateTime = endDateTime;
+        this.endMinute = EpochMinutes.ofNullable(endDateTime);
+    }
+
+    @JsonIgnore
+    public Long getStartCleaningMinute() {
+        return startCleaningMinute;
+    }
+
+    @JsonIgnore
+    public Long getStartProductionMinute() {
+        return startProductionMinute;
+    }
+
+    @JsonIgnore
+    public Long getEndMinute() {
+        return endMinute;
     }
 
     // ************************************************************************
@@ -196,34 +220,34 @@ public class Job {
     }
 
     @SuppressWarnings("unused")
-    @ShadowSources({"line", "previousJob.endDateTime"})
-    private LocalDateTime startCleaningDateTimeSupplier() {
+    @ShadowSources({"line", "previousJob.endMinute"})
+    private Long startCleaningMinuteSupplier() {
         if (line == null) {
             return null;
         }
         if (previousJob == null) {
-            return line.getStartDateTime();
+            return line.getStartMinute();
         } else {
-            return previousJob.getEndDateTime();
+            return previousJob.getEndMinute();
         }
     }
 
     @SuppressWarnings("unused")
-    @ShadowSources({"line", "startCleaningDateTime"})
-    private LocalDateTime startProductionDateTimeSupplier() {
+    @ShadowSources({"line", "startCleaningMinute"})
+    private Long startProductionMinuteSupplier() {
         if (line == null) {
             return null;
         }
         if (previousJob == null) {
-            return line.getStartDateTime();
+            return line.getStartMinute();
         } else {
-            return startCleaningDateTime == null ? null : startCleaningDateTime.plus(getProduct().getCleanupDuration(previousJob.getProduct()));
+            return startCleaningMinute == null ? null : startCleaningMinute + getProduct().getCleanupMinutes(previousJob.getProduct());
         }
     }
 
     @SuppressWarnings("unused")
-    @ShadowSources({"startProductionDateTime"})
-    private LocalDateTime endDateTimeSupplier() {
-        return startProductionDateTime == null ? null : startProductionDateTime.plus(getDuration());
+    @ShadowSources({"startProductionMinute"})
+    private Long endMinuteSupplier() {
+        return startProductionMinute == null ? null : startProductionMinute + getDuration().toMinutes();
     }
 }
@@ -26,12 +26,13 @@ public class Line {
     @PlanningVariable
     private Operator operator;
 
-    @JsonIgnore
+    @JsonIdentityReference(alwaysAsId = true)
     @PlanningListVariable
     private List<Job> jobs;
 
     // No-arg constructor required for Timefold
     public Line() {
+        jobs = new ArrayList<>();
     }
 
     public Line(String id, String name, LocalDateTime startDateTime) {
@@ -75,6 +76,11 @@ public class Line {
         return startDateTime;
     }
 
+    @JsonIgnore
+    public long getStartMinute() {
+        return EpochMinutes.of(startDateTime);
+    }
+
     public List<Job> getJobs() {
         return jobs;
     }
@@ -57,8 +57,14 @@ public class PackagingSchedule {
         return products;
     }
 
+    /**
+     * Also builds the cleanup matrix of the products, so set their cleaning durations first.
+     */
     public void setProducts(List<Product> products) {
         this.products = products;
+        if (products != null) {
+            Product.indexCleanupMinutes(products);
+        }
     }
 
     public List<Operator> getOperators() {
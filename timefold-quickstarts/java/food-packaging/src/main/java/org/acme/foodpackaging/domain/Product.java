@@ -2,17 +2,47 @@ package org.acme.foodpackaging.domain;
 
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
+@JsonIdentityInfo(scope = Product.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Product {
 
     @PlanningId
     private String id;
     private String name;
-    /** The map key is previous product on assembly line. */
+    /**
+     * The map key is previous product on assembly line.
+     * In JSON, the key is the ID of the previous product, which equals the product itself.
+     */
+    @JsonSerialize(keyUsing = IdKeySerializer.class)
+    @JsonDeserialize(keyUsing = IdKeyDeserializer.class)
     private Map<Product, Duration> cleaningDurations;
 
+    /** The index of this product in {@link PackagingSchedule#getProducts()}. */
+    @JsonIgnore
+    private int index = -1;
+    /**
+     * The row of this product in the cleanup matrix, in minutes, indexed by the previous product's index.
+     * -1 if the cleanup duration is missing.
+     */
+    @JsonIgnore
+    private int[] cleanupMinutes;
+
     public Product() {
     }
 
@@ -21,6 +51,17 @@ public class Product {
         this.name = name;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Product product)) return false;
+        return Objects.equals(getId(), product.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
     @Override
     public String toString() {
         return name;
@@ -35,6 +76,40 @@ public class Product {
         return cleanupDuration;
     }
 
+    /**
+     * Same as {@link #getCleanupDuration(Product)} in minutes, looked up in the cleanup matrix
+     * if the products were indexed by {@link #indexCleanupMinutes(List)}.
+     */
+    public int getCleanupMinutes(Product previousProduct) {
+        if (cleanupMinutes == null || previousProduct.index < 0 || previousProduct.index >= cleanupMinutes.length) {
+            return Math.toIntExact(getCleanupDuration(previousProduct).toMinutes());
+        }
+        int minutes = cleanupMinutes[previousProduct.index];
+        if (minutes < 0) {
+            // Throws the missing cleanup duration error.
+            getCleanupDuration(previousProduct);
+        }
+        return minutes;
+    }
+
+    /**
+     * Builds the dense product-to-product cleanup matrix, one row per product.
+     */
+    static void indexCleanupMinutes(List<Product> products) {
+        for (int i = 0; i < products.size(); i++) {
+            products.get(i).index = i;
+        }
+        for (Product product : products) {
+            int[] row = new int[products.size()];
+            for (int i = 0; i < products.size(); i++) {
+                Duration cleanupDuration = product.cleaningDurations == null ? null
+                        : product.cleaningDurations.get(products.get(i));
+                row[i] = cleanupDuration == null ? -1 : Math.toIntExact(cleanupDuration.toMinutes());
+            }
+            product.cleanupMinutes = row;
+        }
+    }
+
     // ************************************************************************
     // Getters and setters
     // ************************************************************************
@@ -57,6 +132,31 @@ public class Product {
 
     public void setCleaningDurations(Map<Product, Duration> cleaningDurations) {
         this.cleaningDurations = cleaningDurations;
+        this.cleanupMinutes = null;
+    }
+
+    /**
+     * Writes the previous product of {@link #getCleaningDurations()} as its ID.
+     */
+    static class IdKeySerializer extends JsonSerializer<Product> {
+
+        @Override
+        public void serialize(Product product, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeFieldName(product.getId());
+        }
+
+    }
+
+    /**
+     * Reads the previous product of {@link #getCleaningDurations()} as a product with just its ID.
+     */
+    static class IdKeyDeserializer extends KeyDeserializer {
+
+        @Override
+        public Product deserializeKey(String key, DeserializationContext context) {
+            return new Product(key, null);
+        }
+
     }
 
 }
@@ -1,22 +1,30 @@
 package org.acme.foodpackaging.persistence;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.time.Clock;
+import java.time.Duration;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
-import org.acme.foodpackaging.domain.PackagingSchedule;
+import ai.timefold.solver.core.api.solver.SolverManager;
 
+import org.acme.foodpackaging.domain.PackagingSchedule;
+import org.acme.jobstore.BoundedJobRepository;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Keeps the latest best solution of every packaging schedule job, for example one job per plant,
+ * see {@link BoundedJobRepository}.
+ * Evicting a job terminates its solver.
+ */
 @ApplicationScoped
-public class PackagingScheduleRepository {
-
-    private final AtomicReference<PackagingSchedule> solutionReference = new AtomicReference<>();
-
-    public PackagingSchedule read() {
-        return solutionReference.get();
+public class PackagingScheduleRepository extends BoundedJobRepository<PackagingSchedule> {
+
+    @Inject
+    public PackagingScheduleRepository(SolverManager<PackagingSchedule, String> solverManager,
+            @ConfigProperty(name = "schedule.job-store.max-size", defaultValue = "100") int maxSize,
+            @ConfigProperty(name = "schedule.job-store.time-to-live", defaultValue = "24h") Duration timeToLive) {
+        super(PackagingSchedule.class, maxSize, timeToLive, solverManager::terminateEarly, null, null,
+                Clock.systemUTC());
     }
-
-    public void write(PackagingSchedule schedule) {
-        solutionReference.set(schedule);
-    }
-
 }
@@ -0,0 +1,166 @@
+package org.acme.foodpackaging.rest;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+
+import org.acme.foodpackaging.bootstrap.DemoDataGenerator;
+import org.acme.foodpackaging.domain.PackagingSchedule;
+import org.acme.foodpackaging.persistence.PackagingScheduleRepository;
+import org.acme.foodpackaging.rest.exception.PackagingScheduleSolverException;
+import org.acme.jobstore.Job;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans many schedules at once, for example one per plant, each under its own job ID.
+ * The {@link SolverManager} solves at most its parallel solver count of jobs at the same time
+ * and queues the others.
+ */
+@Path("schedule/jobs")
+public class PackagingScheduleJobResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PackagingScheduleJobResource.class);
+
+    private final PackagingScheduleRepository repository;
+    private final DemoDataGenerator demoDataGenerator;
+    private final SolverManager<PackagingSchedule, String> solverManager;
+    private final int maxProblemSize;
+
+    @Inject
+    public PackagingScheduleJobResource(PackagingScheduleRepository repository, DemoDataGenerator demoDataGenerator,
+            SolverManager<PackagingSchedule, String> solverManager,
+            @ConfigProperty(name = "schedule.job-store.max-problem-size", defaultValue = "10000") int maxProblemSize) {
+        this.repository = repository;
+        this.demoDataGenerator = demoDataGenerator;
+        this.solverManager = solverManager;
+        this.maxProblemSize = maxProblemSize;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Collection<String> list() {
+        return repository.findAllJobIds();
+    }
+
+    /**
+     * Generates a schedule to submit with {@link #solve(PackagingSchedule)}.
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("demo-data")
+    public PackagingSchedule generateDemoData(@QueryParam("lineCount") @DefaultValue("5") int lineCount,
+            @QueryParam("jobCount") @DefaultValue("100") int jobCount) {
+        if (lineCount < 1 || jobCount < 1) {
+            throw new PackagingScheduleSolverException(null, Response.Status.BAD_REQUEST,
+                    "The lineCount (" + lineCount + ") and jobCount (" + jobCount + ") must be at least 1.");
+        }
+        checkProblemSize((long) lineCount + jobCount);
+        return demoDataGenerator.generateDemoData(lineCount, jobCount);
+    }
+
+    /**
+     * Submits the schedule to start solving as soon as a solver is available.
+     *
+     * @return the job ID, to get the solution with the other methods
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.TEXT_PLAIN)
+    public String solve(PackagingSchedule problem) {
+        if (problem == null || problem.getProducts() == null || problem.getOperators() == null
+                || problem.getLines() == null || problem.getJobs() == null) {
+            throw new PackagingScheduleSolverException(null, Response.Status.BAD_REQUEST,
+                    "The schedule must have products, operators, lines and jobs.");
+        }
+        // Lines and jobs are the planning entities, the memory of the solver grows with them.
+        checkProblemSize((long) problem.getLines().size() + problem.getJobs().size());
+        String jobId = UUID.randomUUID().toString();
+        repository.put(jobId, problem);
+        solverManager.solveBuilder()
+                .withProblemId(jobId)
+                .withProblem(problem)
+                .withBestSolutionEventConsumer(event -> repository.saveBestSolution(jobId, event.solution()))
+                .withExceptionHandler((jobId_, exception) -> {
+                    repository.saveException(jobId, exception);
+                    LOGGER.error("Failed solving jobId ({}).", jobId, exception);
+                })
+                .run();
+        return jobId;
+    }
+
+    private void checkProblemSize(long problemSize) {
+        if (problemSize > maxProblemSize) {
+            throw new PackagingScheduleSolverException(null, Response.Status.REQUEST_ENTITY_TOO_LARGE,
+                    "The problem size (" + problemSize + ") exceeds the maximum problem size ("
+                            + maxProblemSize + ").");
+        }
+    }
+
+    /**
+     * @return the best solution so far, as the job might still be running or not even started
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}")
+    public PackagingSchedule getSchedule(@PathParam("jobId") String jobId) {
+        // Get the solver status before loading the solution
+        // to avoid the race condition that the solver terminates between them
+        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
+        PackagingSchedule schedule = getScheduleAndCheckForExceptions(jobId);
+        schedule.setSolverStatus(solverStatus);
+        return schedule;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/status")
+    public JobStatus getStatus(@PathParam("jobId") String jobId) {
+        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
+        PackagingSchedule schedule = getScheduleAndCheckForExceptions(jobId);
+        return new JobStatus(schedule.getScore(), solverStatus);
+    }
+
+    /**
+     * Terminates solving the job.
+     *
+     * @return the best solution so far
+     */
+    @DELETE
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}")
+    public PackagingSchedule terminateSolving(@PathParam("jobId") String jobId) {
+        solverManager.terminateEarly(jobId);
+        return getSchedule(jobId);
+    }
+
+    private PackagingSchedule getScheduleAndCheckForExceptions(String jobId) {
+        Job<PackagingSchedule> job = repository.find(jobId)
+                .orElseThrow(() -> new PackagingScheduleSolverException(jobId, Response.Status.NOT_FOUND,
+                        "No schedule found."));
+        if (job.exception() != null) {
+            throw new PackagingScheduleSolverException(jobId, job.exception());
+        }
+        return job.solution();
+    }
+
+    public record JobStatus(HardMediumSoftLongScore score, SolverStatus solverStatus) {
+    }
+}
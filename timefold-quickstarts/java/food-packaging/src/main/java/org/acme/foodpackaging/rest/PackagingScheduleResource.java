@@ -17,25 +17,35 @@ import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.api.solver.SolverManager;
 import ai.timefold.solver.core.api.solver.SolverStatus;
 
+import org.acme.foodpackaging.bootstrap.DemoDataGenerator;
 import org.acme.foodpackaging.domain.PackagingSchedule;
 import org.acme.foodpackaging.persistence.PackagingScheduleRepository;
+import org.acme.jobstore.Job;
 
+/**
+ * Plans the demo schedule shown in the UI.
+ *
+ * @see PackagingScheduleJobResource
+ */
 @Path("schedule")
 public class PackagingScheduleResource {
 
-    public static final String SINGLETON_SOLUTION_ID = "1";
+    public static final String SINGLETON_SOLUTION_ID = DemoDataGenerator.DEMO_JOB_ID;
 
     private PackagingScheduleRepository repository;
 
+    private DemoDataGenerator demoDataGenerator;
+
     private SolverManager<PackagingSchedule, String> solverManager;
 
     private SolutionManager<PackagingSchedule, HardMediumSoftLongScore> solutionManager;
 
     @Inject
-    public PackagingScheduleResource(PackagingScheduleRepository repository,
+    public PackagingScheduleResource(PackagingScheduleRepository repository, DemoDataGenerator demoDataGenerator,
             SolverManager<PackagingSchedule, String> solverManager,
             SolutionManager<PackagingSchedule, HardMediumSoftLongScore> solutionManager) {
         this.repository = repository;
+        this.demoDataGenerator = demoDataGenerator;
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
     }
@@ -45,7 +55,7 @@ public class PackagingScheduleResource {
         // Get the solver status before loading the solution
         // to avoid the race condition that the solver terminates between them
         SolverStatus solverStatus = solverManager.getSolverStatus(SINGLETON_SOLUTION_ID);
-        PackagingSchedule schedule = repository.read();
+        PackagingSchedule schedule = read();
         schedule.setSolverStatus(solverStatus);
         return schedule;
     }
@@ -55,8 +65,9 @@ public class PackagingScheduleResource {
     public void solve() {
         solverManager.solveBuilder()
                 .withProblemId(SINGLETON_SOLUTION_ID)
-                .withProblemFinder(id -> repository.read())
-                .withBestSolutionEventConsumer(event -> repository.write(event.solution()))
+                .withProblemFinder(id -> read())
+                .withBestSolutionEventConsumer(
+                        event -> repository.saveBestSolution(SINGLETON_SOLUTION_ID, event.solution()))
                 .run();
     }
 
@@ -65,7 +76,7 @@ public class PackagingScheduleResource {
     @Produces(MediaType.APPLICATION_JSON)
     @Path("analyze")
     public ScoreAnalysis<HardMediumSoftLongScore> analyze(@QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
-        PackagingSchedule problem = repository.read();
+        PackagingSchedule problem = read();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
@@ -75,4 +86,16 @@ public class PackagingScheduleResource {
         solverManager.terminateEarly(SINGLETON_SOLUTION_ID);
     }
 
+    private PackagingSchedule read() {
+        PackagingSchedule schedule = repository.find(SINGLETON_SOLUTION_ID)
+                .map(Job::solution)
+                .orElse(null);
+        if (schedule == null) {
+            // Evicted from the repository or failed, start over.
+            schedule = demoDataGenerator.generateDemoData();
+            repository.put(SINGLETON_SOLUTION_ID, schedule);
+        }
+        return schedule;
+    }
+
 }
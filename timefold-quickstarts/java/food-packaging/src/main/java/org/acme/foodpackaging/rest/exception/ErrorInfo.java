@@ -0,0 +1,4 @@
+package org.acme.foodpackaging.rest.exception;
+
+public record ErrorInfo(String jobId, String message) {
+}
@@ -0,0 +1,19 @@
+package org.acme.foodpackaging.rest.exception;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class PackagingScheduleSolverExceptionMapper implements ExceptionMapper<PackagingScheduleSolverException> {
+
+    @Override
+    public Response toResponse(PackagingScheduleSolverException exception) {
+        return Response
+                .status(exception.getStatus())
+                .type(MediaType.APPLICATION_JSON)
+                .entity(new ErrorInfo(exception.getJobId(), exception.getMessage()))
+                .build();
+    }
+}
@@ -1,13 +1,12 @@
 package org.acme.foodpackaging.solver;
 
-import java.time.Duration;
-
 import ai.timefold.solver.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.api.score.stream.Joiners;
 
+import org.acme.foodpackaging.domain.EpochMinutes;
 import org.acme.foodpackaging.domain.Job;
 
 public class FoodPackagingConstraintProvider implements ConstraintProvider {
@@ -31,9 +30,9 @@ public class FoodPackagingConstraintProvider implements ConstraintProvider {
 
     protected Constraint maxEndDateTime(ConstraintFactory factory) {
         return factory.forEach(Job.class)
-                .filter(job -> job.getEndDateTime() != null && job.getMaxEndTime().isBefore(job.getEndDateTime()))
+                .filter(job -> job.getEndMinute() != null && EpochMinutes.of(job.getMaxEndTime()) < job.getEndMinute())
                 .penalizeLong(HardMediumSoftLongScore.ONE_HARD,
-                        job -> Duration.between(job.getMaxEndTime(), job.getEndDateTime()).toMinutes())
+                        job -> job.getEndMinute() - EpochMinutes.of(job.getMaxEndTime()))
                 .asConstraint("Max end date time");
     }
 
@@ -43,9 +42,10 @@ public class FoodPackagingConstraintProvider implements ConstraintProvider {
 
     protected Constraint idealEndDateTime(ConstraintFactory factory) {
         return factory.forEach(Job.class)
-                .filter(job -> job.getEndDateTime() != null && job.getIdealEndTime().isBefore(job.getEndDateTime()))
+                .filter(job -> job.getEndMinute() != null
+                        && EpochMinutes.of(job.getIdealEndTime()) < job.getEndMinute())
                 .penalizeLong(HardMediumSoftLongScore.ONE_MEDIUM,
-                        job -> Duration.between(job.getIdealEndTime(), job.getEndDateTime()).toMinutes())
+                        job -> job.getEndMinute() - EpochMinutes.of(job.getIdealEndTime()))
                 .asConstraint("Ideal end date time");
     }
 
@@ -59,14 +59,11 @@ public class FoodPackagingConstraintProvider implements ConstraintProvider {
                 .filter(job ->job.getLine() != null)
                 .join(factory.forEach(Job.class).filter(job ->job.getLine() != null),
                         Joiners.equal(job -> job.getLine().getOperator()),
-                        Joiners.overlapping(Job::getStartCleaningDateTime, Job::getStartProductionDateTime),
+                        Joiners.overlapping(Job::getStartCleaningMinute, Job::getStartProductionMinute),
                         Joiners.lessThan(Job::getId))
-                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, (job1, job2) -> Duration.between(
-                        (job1.getStartCleaningDateTime().compareTo(job2.getStartCleaningDateTime()) > 0)
-                               ? job1.getStartCleaningDateTime() : job2.getStartCleaningDateTime(),
-                        (job1.getStartProductionDateTime().compareTo(job2.getStartProductionDateTime()) < 0)
-                                ? job1.getStartProductionDateTime() : job2.getStartProductionDateTime()
-                ).toMinutes())
+                .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, (job1, job2) ->
+                        Math.min(job1.getStartProductionMinute(), job2.getStartProductionMinute())
+                                - Math.max(job1.getStartCleaningMinute(), job2.getStartCleaningMinute()))
                 .asConstraint("Operator cleaning conflict");
     }
 
@@ -74,7 +71,7 @@ public class FoodPackagingConstraintProvider implements ConstraintProvider {
         return factory.forEach(Job.class)
                 .filter(job -> job.getLine() != null && job.getNextJob() == null)
                 .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, job -> {
-                    long minutes = Duration.between(job.getLine().getStartDateTime(), job.getEndDateTime()).toMinutes();
+                    long minutes = job.getEndMinute() - job.getLine().getStartMinute();
                     return minutes * minutes;
                 })
                 .asConstraint("Minimize make span");
@@ -83,9 +80,9 @@ public class FoodPackagingConstraintProvider implements ConstraintProvider {
     // TODO Currently dwarfed by minimizeAndLoadBalanceMakeSpan in the same score level, because that squares
     protected Constraint minimizeCleaningDuration(ConstraintFactory factory) {
         return factory.forEach(Job.class)
-                .filter(job -> job.getStartProductionDateTime() != null)
+                .filter(job -> job.getStartProductionMinute() != null)
                 .penalizeLong(HardMediumSoftLongScore.ONE_SOFT, job -> job.getPriority()
-                        * Duration.between(job.getStartCleaningDateTime(), job.getStartProductionDateTime()).toMinutes())
+                        * (job.getStartProductionMinute() - job.getStartCleaningMinute()))
                 .asConstraint("Minimize cleaning duration");
     }
 
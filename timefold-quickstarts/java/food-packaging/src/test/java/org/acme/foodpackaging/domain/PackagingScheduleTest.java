@@ -0,0 +1,59 @@
+package org.acme.foodpackaging.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+
+class PackagingScheduleTest {
+
+    // Configured like the ObjectMapper of Quarkus.
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Test
+    void jsonRoundTripKeepsReferences() throws Exception {
+        LocalDateTime start = LocalDate.of(2025, 1, 1).atTime(8, 0);
+        Product productA = new Product("1", "Product A");
+        Product productB = new Product("2", "Product B");
+        productA.setCleaningDurations(Map.of(productA, Duration.ZERO, productB, Duration.ofMinutes(30)));
+        productB.setCleaningDurations(Map.of(productA, Duration.ofMinutes(45), productB, Duration.ZERO));
+        Operator operator = new Operator("Amy");
+        Line line = new Line("1", "Line 1", operator, start);
+        Job pinnedJob = new Job("1", "Job 1", productA, Duration.ofHours(1), null, null, null, 1, true, start, start);
+        Job job = new Job("2", "Job 2", productB, Duration.ofHours(2), null, null, null, 1, false);
+        line.getJobs().add(pinnedJob);
+        PackagingSchedule schedule = new PackagingSchedule();
+        schedule.setWorkCalendar(new WorkCalendar(start.toLocalDate(), start.toLocalDate().plusDays(1)));
+        schedule.setProducts(List.of(productA, productB));
+        schedule.setOperators(List.of(operator));
+        schedule.setLines(List.of(line));
+        schedule.setJobs(List.of(pinnedJob, job));
+
+        String json = objectMapper.writeValueAsString(schedule);
+        PackagingSchedule deserialized = objectMapper.readValue(json, PackagingSchedule.class);
+
+        assertThat(objectMapper.writeValueAsString(deserialized)).isEqualTo(json);
+        List<Product> products = deserialized.getProducts();
+        List<Job> jobs = deserialized.getJobs();
+        assertThat(jobs.get(0).getProduct()).isSameAs(products.get(0));
+        assertThat(jobs.get(1).getProduct()).isSameAs(products.get(1));
+        assertThat(products.get(1).getCleanupMinutes(products.get(0))).isEqualTo(45);
+        Line deserializedLine = deserialized.getLines().get(0);
+        assertThat(deserializedLine.getOperator()).isSameAs(deserialized.getOperators().get(0));
+        assertThat(deserializedLine.getJobs()).containsExactly(jobs.get(0));
+        assertThat(deserializedLine.getJobs().get(0)).isSameAs(jobs.get(0));
+        assertThat(jobs.get(0).isPinned()).isTrue();
+    }
+
+}
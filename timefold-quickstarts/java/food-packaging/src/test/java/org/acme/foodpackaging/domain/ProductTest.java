@@ -0,0 +1,37 @@
+package org.acme.foodpackaging.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ProductTest {
+
+    @Test
+    void cleanupMatrixMatchesDurations() {
+        Product productA = new Product("1", "Product A");
+        Product productB = new Product("2", "Product B");
+        Product productC = new Product("3", "Product C");
+        productA.setCleaningDurations(Map.of(productA, Duration.ZERO, productB, Duration.ofMinutes(30)));
+        productB.setCleaningDurations(Map.of(productA, Duration.ofMinutes(45), productB, Duration.ZERO));
+        productC.setCleaningDurations(Map.of());
+        List<Product> products = List.of(productA, productB, productC);
+
+        // Without the matrix, the durations are converted on the fly.
+        assertThat(productA.getCleanupMinutes(productB)).isEqualTo(30);
+        new PackagingSchedule().setProducts(products);
+        for (Product product : List.of(productA, productB)) {
+            for (Product previousProduct : List.of(productA, productB)) {
+                assertThat(product.getCleanupMinutes(previousProduct))
+                        .isEqualTo(product.getCleanupDuration(previousProduct).toMinutes());
+            }
+        }
+        assertThatIllegalArgumentException().isThrownBy(() -> productA.getCleanupMinutes(productC));
+        assertThatIllegalArgumentException().isThrownBy(() -> productC.getCleanupMinutes(productA));
+    }
+
+}
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 
+import org.acme.foodpackaging.bootstrap.DemoDataGenerator;
 import org.acme.foodpackaging.domain.PackagingSchedule;
 import org.acme.foodpackaging.persistence.PackagingScheduleRepository;
 import org.junit.jupiter.api.Test;
@@ -39,7 +40,7 @@ class FoodPackingEnvironmentTest {
 
     void solve(EnvironmentMode environmentMode) {
         // Load the problem
-        PackagingSchedule problem = repository.read();
+        PackagingSchedule problem = repository.find(DemoDataGenerator.DEMO_JOB_ID).orElseThrow().solution();
 
         // Update the environment
         SolverConfig updatedConfig = solverConfig.copyConfig();
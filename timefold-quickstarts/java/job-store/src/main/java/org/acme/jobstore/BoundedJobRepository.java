@@ -0,0 +1,249 @@
+package org.acme.jobstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the latest state of every submitted solver job.
+ * Retains at most {@code maxSize} jobs, each for at most {@code timeToLive} since its last update.
+ * The least recently used job is evicted first.
+ * <p>
+ * Every evicted job is passed to the eviction listener, which should terminate its solver, e.g.
+ * {@code SolverManager::terminateEarly}. Later updates of an evicted job are ignored,
+ * so a solver that is still running can't add it back.
+ * <p>
+ * When a spill directory is configured, finished jobs are written to it as gzipped JSON
+ * and dropped from the heap; they are read back on demand.
+ *
+ * @param <Solution_> the planning solution class
+ */
+public class BoundedJobRepository<Solution_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BoundedJobRepository.class);
+
+    private final Class<Solution_> solutionClass;
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Consumer<String> evictionListener;
+    private final ObjectMapper objectMapper;
+    private final Path spillDirectory;
+    private final Clock clock;
+
+    // Access-ordered, so iteration starts at the least recently used job. Guarded by "this".
+    private final LinkedHashMap<String, Entry<Solution_>> jobIdToEntry = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param evictionListener called with the ID of every evicted job, outside the lock of this repository
+     * @param objectMapper null if spillDirectory is null
+     * @param spillDirectory null to keep finished jobs on the heap
+     */
+    public BoundedJobRepository(Class<Solution_> solutionClass, int maxSize, Duration timeToLive,
+            Consumer<String> evictionListener, ObjectMapper objectMapper, Path spillDirectory, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maxSize (" + maxSize + ") must be at least 1.");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("The timeToLive (" + timeToLive + ") must be positive.");
+        }
+        if (spillDirectory != null && objectMapper == null) {
+            throw new IllegalArgumentException("The spillDirectory (" + spillDirectory
+                    + ") requires an objectMapper.");
+        }
+        this.solutionClass = solutionClass;
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.evictionListener = evictionListener;
+        this.objectMapper = objectMapper;
+        this.spillDirectory = spillDirectory;
+        this.clock = clock;
+    }
+
+    public Collection<String> findAllJobIds() {
+        List<String> jobIds;
+        List<String> evictedJobIds = new ArrayList<>();
+        synchronized (this) {
+            evictExpired(evictedJobIds);
+            jobIds = new ArrayList<>(jobIdToEntry.keySet());
+        }
+        notifyEvicted(evictedJobIds);
+        return jobIds;
+    }
+
+    public Optional<Job<Solution_>> find(String jobId) {
+        Job<Solution_> job = null;
+        Path spillFile = null;
+        List<String> evictedJobIds = new ArrayList<>();
+        synchronized (this) {
+            evictExpired(evictedJobIds);
+            Entry<Solution_> entry = jobIdToEntry.get(jobId);
+            if (entry != null) {
+                job = entry.job;
+                spillFile = entry.spillFile;
+            }
+        }
+        notifyEvicted(evictedJobIds);
+        if (spillFile == null) {
+            return Optional.ofNullable(job);
+        }
+        // Read outside the lock; the file may be evicted in the meantime.
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(spillFile))) {
+            return Optional.of(Job.ofSolution(objectMapper.readValue(in, solutionClass)));
+        } catch (IOException e) {
+            LOGGER.warn("Failed reading spilled jobId ({}) from ({}).", jobId, spillFile, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds a new job, or replaces the job with the same ID.
+     */
+    public void put(String jobId, Solution_ problem) {
+        put(jobId, Job.ofSolution(problem), false);
+    }
+
+    /**
+     * Replaces the previous best solution of the job, only the latest one is retained.
+     * Ignored if the job was evicted.
+     */
+    public void saveBestSolution(String jobId, Solution_ solution) {
+        put(jobId, Job.ofSolution(solution), true);
+    }
+
+    /**
+     * Ignored if the job was evicted.
+     */
+    public void saveException(String jobId, Throwable exception) {
+        put(jobId, Job.ofException(exception), true);
+    }
+
+    /**
+     * Called once the solver no longer works on the job, with its final best solution.
+     * Ignored if the job was evicted.
+     */
+    public void saveFinalSolution(String jobId, Solution_ solution) {
+        Entry<Solution_> entry = put(jobId, Job.ofSolution(solution), true);
+        if (entry == null || spillDirectory == null) {
+            return;
+        }
+        Path spillFile = spillDirectory.resolve(jobId + ".json.gz");
+        try {
+            Files.createDirectories(spillDirectory);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(spillFile))) {
+                objectMapper.writeValue(out, solution);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed spilling jobId ({}) to ({}), keeping it on the heap.", jobId, spillFile, e);
+            return;
+        }
+        synchronized (this) {
+            if (jobIdToEntry.get(jobId) == entry) {
+                entry.job = null;
+                entry.spillFile = spillFile;
+                return;
+            }
+        }
+        // Replaced or evicted while writing.
+        deleteSpillFile(spillFile);
+    }
+
+    /**
+     * @return null if the job is not retained and onlyIfRetained is true
+     */
+    private Entry<Solution_> put(String jobId, Job<Solution_> job, boolean onlyIfRetained) {
+        Entry<Solution_> entry;
+        List<String> evictedJobIds = new ArrayList<>();
+        synchronized (this) {
+            evictExpired(evictedJobIds);
+            Entry<Solution_> previous = jobIdToEntry.get(jobId);
+            if (previous == null && onlyIfRetained) {
+                entry = null;
+            } else {
+                if (previous != null) {
+                    deleteSpillFile(previous.spillFile);
+                }
+                entry = new Entry<>(job, clock.instant());
+                jobIdToEntry.put(jobId, entry);
+                Iterator<Map.Entry<String, Entry<Solution_>>> iterator = jobIdToEntry.entrySet().iterator();
+                while (jobIdToEntry.size() > maxSize) {
+                    Map.Entry<String, Entry<Solution_>> evicted = iterator.next();
+                    deleteSpillFile(evicted.getValue().spillFile);
+                    evictedJobIds.add(evicted.getKey());
+                    iterator.remove();
+                }
+            }
+        }
+        notifyEvicted(evictedJobIds);
+        return entry;
+    }
+
+    private void evictExpired(List<String> evictedJobIds) {
+        Instant expiry = clock.instant().minus(timeToLive);
+        Iterator<Map.Entry<String, Entry<Solution_>>> iterator = jobIdToEntry.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry<Solution_>> entry = iterator.next();
+            if (entry.getValue().updatedAt.isBefore(expiry)) {
+                deleteSpillFile(entry.getValue().spillFile);
+                evictedJobIds.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void notifyEvicted(List<String> evictedJobIds) {
+        for (String jobId : evictedJobIds) {
+            evictionListener.accept(jobId);
+        }
+    }
+
+    private void deleteSpillFile(Path spillFile) {
+        if (spillFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            LOGGER.warn("Failed deleting spill file ({}).", spillFile, e);
+        }
+    }
+
+    /**
+     * Drops all jobs and their spill files, without calling the eviction listener.
+     */
+    public synchronized void clear() {
+        jobIdToEntry.values().forEach(entry -> deleteSpillFile(entry.spillFile));
+        jobIdToEntry.clear();
+    }
+
+    private static final class Entry<Solution_> {
+
+        private final Instant updatedAt;
+        private Job<Solution_> job;
+        private Path spillFile;
+
+        private Entry(Job<Solution_> job, Instant updatedAt) {
+            this.job = job;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
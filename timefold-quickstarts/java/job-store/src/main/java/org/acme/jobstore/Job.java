@@ -0,0 +1,17 @@
+package org.acme.jobstore;
+
+/**
+ * The latest state of a solver job: its best solution so far, or the exception that made it fail.
+ *
+ * @param <Solution_> the planning solution class
+ */
+public record Job<Solution_>(Solution_ solution, Throwable exception) {
+
+    public static <Solution_> Job<Solution_> ofSolution(Solution_ solution) {
+        return new Job<>(solution, null);
+    }
+
+    public static <Solution_> Job<Solution_> ofException(Throwable error) {
+        return new Job<>(null, error);
+    }
+}
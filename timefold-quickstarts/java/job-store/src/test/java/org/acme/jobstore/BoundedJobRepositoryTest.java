@@ -0,0 +1,117 @@
+package org.acme.jobstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BoundedJobRepositoryTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final List<String> evictedJobIds = new ArrayList<>();
+
+    private BoundedJobRepository<String> newRepository(int maxSize, Duration timeToLive, Path spillDirectory) {
+        return new BoundedJobRepository<>(String.class, maxSize, timeToLive, evictedJobIds::add, new ObjectMapper(),
+                spillDirectory, clock);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        var repository = newRepository(2, Duration.ofHours(1), null);
+        repository.put("1", "first");
+        repository.put("2", "second");
+        repository.find("1"); // Touch job 1, so job 2 becomes the least recently used.
+        repository.put("3", "third");
+
+        assertThat(repository.findAllJobIds()).containsExactlyInAnyOrder("1", "3");
+        assertThat(evictedJobIds).containsExactly("2");
+    }
+
+    @Test
+    void keepsOnlyLatestBestSolution() {
+        var repository = newRepository(2, Duration.ofHours(1), null);
+        repository.put("1", "first");
+        repository.saveBestSolution("1", "second");
+
+        assertThat(repository.findAllJobIds()).containsExactly("1");
+        assertThat(repository.find("1")).get().extracting(Job::solution).isEqualTo("second");
+    }
+
+    @Test
+    void evictsExpired() {
+        var repository = newRepository(10, Duration.ofMinutes(5), null);
+        repository.put("1", "first");
+        clock.advance(Duration.ofMinutes(3));
+        repository.put("2", "second");
+        repository.saveException("2", new IllegalStateException());
+        clock.advance(Duration.ofMinutes(3));
+
+        assertThat(repository.find("1")).isEmpty();
+        assertThat(repository.find("2")).get().extracting(Job::exception).isNotNull();
+        assertThat(repository.findAllJobIds()).containsExactly("2");
+        assertThat(evictedJobIds).containsExactly("1");
+    }
+
+    @Test
+    void ignoresUpdatesOfEvictedJob() {
+        var repository = newRepository(1, Duration.ofHours(1), null);
+        repository.put("1", "first");
+        repository.put("2", "second");
+        repository.saveBestSolution("1", "late best solution");
+        repository.saveException("1", new IllegalStateException());
+        repository.saveFinalSolution("1", "late final solution");
+        repository.saveBestSolution("3", "unknown job");
+
+        assertThat(repository.findAllJobIds()).containsExactly("2");
+        assertThat(evictedJobIds).containsExactly("1");
+    }
+
+    @Test
+    void spillsFinalSolution(@TempDir Path spillDirectory) {
+        var repository = newRepository(1, Duration.ofHours(1), spillDirectory);
+        repository.put("1", "first");
+        repository.saveFinalSolution("1", "spilled");
+
+        assertThat(spillDirectory.resolve("1.json.gz")).exists();
+        assertThat(repository.find("1")).get().extracting(Job::solution).isEqualTo("spilled");
+
+        repository.put("2", "second");
+        assertThat(spillDirectory.resolve("1.json.gz")).doesNotExist();
+        assertThat(evictedJobIds).containsExactly("1");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
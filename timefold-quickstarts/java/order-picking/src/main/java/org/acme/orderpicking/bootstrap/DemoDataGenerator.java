@@ -28,6 +28,8 @@ import org.acme.orderpicking.domain.Product;
 import org.acme.orderpicking.domain.Shelving;
 import org.acme.orderpicking.domain.Trolley;
 import org.acme.orderpicking.domain.TrolleyStep;
+import org.acme.orderpicking.domain.Warehouse;
+import org.acme.orderpicking.domain.WarehouseLayout;
 import org.acme.orderpicking.domain.WarehouseLocation;
 import org.acme.orderpicking.persistence.OrderPickingRepository;
 
@@ -39,6 +41,11 @@ import io.quarkus.runtime.StartupEvent;
 @ApplicationScoped
 public class DemoDataGenerator {
 
+    /**
+     * The job of the demo solution shown in the UI.
+     */
+    public static final String DEMO_JOB_ID = "1";
+
     private static final int ORDER_ITEMS_SIZE_MINIMUM = 1;
 
     /**
@@ -61,12 +68,6 @@ public class DemoDataGenerator {
      */
     private static final int ORDERS_COUNT = 8;
 
-    /**
-     * Start location for the trolleys.
-     */
-    private static final WarehouseLocation START_LOCATION =
-            new WarehouseLocation(Shelving.newShelvingId(COL_A, ROW_1), Shelving.Side.LEFT, 0);
-
     public enum ProductFamily {
         GENERAL_FOOD,
         FRESH_FOOD,
@@ -196,13 +197,24 @@ public class DemoDataGenerator {
     OrderPickingRepository orderPickingRepository;
 
     public void startup(@Observes StartupEvent startupEvent) {
+        orderPickingRepository.put(DEMO_JOB_ID, generateDemoData());
+    }
+
+    public OrderPickingSolution generateDemoData() {
+        return generateDemoData(TROLLEYS_COUNT, ORDERS_COUNT);
+    }
+
+    public OrderPickingSolution generateDemoData(int trolleyCount, int orderCount) {
         // Generate the random solution to work with.
         Random random = new Random(37);
         validateBucketCapacity(BUCKET_CAPACITY);
-        List<Trolley> trolleys = buildTrolleys(TROLLEYS_COUNT, BUCKET_COUNT, BUCKET_CAPACITY, START_LOCATION);
-        List<Order> orders = buildOrders(ORDERS_COUNT, random);
+        // Not shared between problems, as a location keeps the layout of its problem.
+        WarehouseLocation startLocation = new WarehouseLocation(newShelvingId(COL_A, ROW_1), Shelving.Side.LEFT, 0);
+        List<Trolley> trolleys = buildTrolleys(trolleyCount, BUCKET_COUNT, BUCKET_CAPACITY, startLocation);
+        List<Order> orders = buildOrders(orderCount, random);
         List<TrolleyStep> trolleySteps = buildTrolleySteps(orders);
-        orderPickingRepository.save(new OrderPickingSolution(trolleys, trolleySteps));
+        WarehouseLayout layout = WarehouseLayout.grid(Warehouse.Column.values().length, Warehouse.Row.values().length);
+        return new OrderPickingSolution(layout, trolleys, trolleySteps);
     }
 
     public List<Order> buildOrders(int size, Random random) {
@@ -1,5 +1,8 @@
 package org.acme.orderpicking.domain;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 /**
@@ -59,6 +62,15 @@ public class OrderItem {
         return order != null ? order.getId() : null;
     }
 
+    /**
+     * Helper method, facilitates JSON deserialization.
+     * The new order only holds this item, until {@link OrderPickingSolution#init()} shares one order
+     * between all items with the same order ID.
+     */
+    public void setOrderId(String orderId) {
+        this.order = orderId != null ? new Order(orderId, new ArrayList<>(List.of(this))) : null;
+    }
+
     @Override
     public String toString() {
         return "OrderItem{" +
@@ -1,24 +1,31 @@
 package org.acme.orderpicking.domain;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
 import ai.timefold.solver.core.api.domain.solution.PlanningScore;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
-import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactProperty;
 import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 
 @PlanningSolution
 public class OrderPickingSolution {
 
+    /**
+     * The shelvings of the warehouse, which define the distances between the locations of the problem.
+     */
+    @ProblemFactProperty
+    private WarehouseLayout layout;
+
     /**
      * Defines the available Trolleys.
      * 
      * @see TrolleyStep for more information about the model constructed by the Solver.
      */
-    @ValueRangeProvider
-    @ProblemFactCollectionProperty
+    @PlanningEntityCollectionProperty
     private List<Trolley> trolleys;
 
     /**
@@ -37,9 +44,41 @@ public class OrderPickingSolution {
         // Marshalling constructor
     }
 
-    public OrderPickingSolution(List<Trolley> trolleys, List<TrolleyStep> trolleySteps) {
+    public OrderPickingSolution(WarehouseLayout layout, List<Trolley> trolleys, List<TrolleyStep> trolleySteps) {
+        this.layout = layout;
         this.trolleys = trolleys;
         this.trolleySteps = trolleySteps;
+        init();
+    }
+
+    /**
+     * Set the layout on the locations of all trolleys and trolley steps,
+     * and share one order between all order items with the same order ID.
+     * Must be called before the solution is solved or its score is calculated,
+     * e.g. after JSON deserialization, which doesn't call it.
+     */
+    public void init() {
+        for (Trolley trolley : trolleys) {
+            trolley.getLocation().setLayout(layout);
+        }
+        Map<String, Order> orders = new HashMap<>();
+        for (TrolleyStep trolleyStep : trolleySteps) {
+            trolleyStep.getLocation().setLayout(layout);
+            OrderItem orderItem = trolleyStep.getOrderItem();
+            Order order = orders.computeIfAbsent(orderItem.getOrderId(), orderId -> orderItem.getOrder());
+            if (orderItem.getOrder() != order) {
+                orderItem.setOrder(order);
+                order.getItems().add(orderItem);
+            }
+        }
+    }
+
+    public WarehouseLayout getLayout() {
+        return layout;
+    }
+
+    public void setLayout(WarehouseLayout layout) {
+        this.layout = layout;
     }
 
     public List<Trolley> getTrolleys() {
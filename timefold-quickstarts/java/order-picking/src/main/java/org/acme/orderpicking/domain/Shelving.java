@@ -3,7 +3,7 @@ package org.acme.orderpicking.domain;
 /**
  * Represents the products container. In the order picking problem the warehouse is represented as a set of shelvings
  * that are organized into columns and rows. Each shelving has two sides where the products can be stored, and
- * a number of rows.
+ * a number of rows. The shelvings of a warehouse, and their positions, are defined by a {@link WarehouseLayout}.
  * 
  * @see Warehouse
  */
@@ -30,14 +30,22 @@ public class Shelving {
      */
     private int y;
 
-    Shelving(String id, int x, int y) {
+    public Shelving() {
+        //marshalling constructor
+    }
+
+    public Shelving(String id, int x, int y) {
         this.id = id;
         this.x = x;
         this.y = y;
     }
 
     public static String newShelvingId(Warehouse.Column column, Warehouse.Row row) {
-        return "(" + column.toString() + "," + row.toString() + ")";
+        return newShelvingId(column.toString(), row.toString());
+    }
+
+    static String newShelvingId(String columnId, String rowId) {
+        return "(" + columnId + "," + rowId + ")";
     }
 
     public String getId() {
@@ -1,13 +1,21 @@
 package org.acme.orderpicking.domain;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
 
 /**
  * Represents the trolley that will be filled with the order items.
  * 
  * @see TrolleyStep for more information about the model constructed by the Solver.
  */
-public class Trolley extends TrolleyOrTrolleyStep {
+@PlanningEntity
+public class Trolley {
 
     @PlanningId
     private String id;
@@ -15,6 +23,15 @@ public class Trolley extends TrolleyOrTrolleyStep {
     private int bucketCapacity;
     private WarehouseLocation location;
 
+    /**
+     * Planning variable: the steps of the trolley's path, in picking order.
+     * Changes during planning, between score calculations.
+     * The steps are taken from the value range provider {@link OrderPickingSolution#getTrolleySteps()}.
+     */
+    @JsonIdentityReference(alwaysAsId = true)
+    @PlanningListVariable
+    private List<TrolleyStep> steps = new ArrayList<>();
+
     public Trolley() {
         //marshalling constructor
     }
@@ -50,7 +67,6 @@ public class Trolley extends TrolleyOrTrolleyStep {
         this.bucketCapacity = bucketCapacity;
     }
 
-    @Override
     public WarehouseLocation getLocation() {
         return location;
     }
@@ -58,4 +74,12 @@ public class Trolley extends TrolleyOrTrolleyStep {
     public void setLocation(WarehouseLocation location) {
         this.location = location;
     }
+
+    public List<TrolleyStep> getSteps() {
+        return steps;
+    }
+
+    public void setSteps(List<TrolleyStep> steps) {
+        this.steps = steps;
+    }
 }
@@ -1,58 +1,68 @@
 package org.acme.orderpicking.domain;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
-import ai.timefold.solver.core.api.domain.variable.AnchorShadowVariable;
-import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
-import ai.timefold.solver.core.api.domain.variable.PlanningVariableGraphType;
+import ai.timefold.solver.core.api.domain.variable.InverseRelationShadowVariable;
+import ai.timefold.solver.core.api.domain.variable.NextElementShadowVariable;
+import ai.timefold.solver.core.api.domain.variable.PreviousElementShadowVariable;
+import ai.timefold.solver.core.api.domain.variable.ShadowSources;
+import ai.timefold.solver.core.api.domain.variable.ShadowVariable;
 
 /**
  * Represents a "stop" in a Trolley's path where an order item is to be picked.
  * <p>
- * The TrolleyStep is the only PlanningEntity entity that will be changed during the problem solving, and the
- * {@link TrolleyStep#previousElement} is the only PlanningVariable defined.
+ * The only PlanningVariable defined is the list of steps of each Trolley, {@link Trolley#getSteps()}.
+ * The Solver moves the TrolleySteps within and between those lists, and keeps the shadow variables of every
+ * assigned TrolleyStep up to date: the Trolley it belongs to, the previous and the next step in that Trolley's path,
+ * and the distance walked to it, from the previous step and since the Trolley left its location:
  * <p>
- * By using the CHAINED graph modelling strategy, combined with shadow variables {@link TrolleyStep#trolley} and
- * {@link TrolleyOrTrolleyStep#nextElement}, the Solver will create a structure like the following:
+ * Trolley1: [TrolleyStepA, TrolleyStepB, TrolleyStepC]
  * <p>
- * Trolley1 <-> TrolleyStepA <-> TrolleyStepB <-> TrolleyStepC -> null
+ * Trolley2: [TrolleyStepD, TrolleyStepE]
  * <p>
- * Trolley2 <-> TrolleyStepD <-> TrolleyStepE -> null
- * <p>
- * Where the initial element of each the chain, the Trolley, is known as the "anchor" and will always have a reference
- * to the next element, a TrolleyStep. (a null value, represents that this Trolley was not used yet or was left free).
- * <p>
- * The intermediary elements, the TrolleySteps, when assigned will always have a reference to "anchor", the previous
- * element and the next element. (a null value on the next element, indicates that current step is currently the last
- * element).
+ * Where TrolleyStepA has no previous step, as it's the first element of the Trolley1 path, and TrolleyStepC has no
+ * next step, as it's the last one. (an empty list, represents that this Trolley was not used yet or was left free).
  */
+@JsonIdentityInfo(scope = TrolleyStep.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @PlanningEntity
-public class TrolleyStep extends TrolleyOrTrolleyStep {
+public class TrolleyStep {
+
+    public static final String STEPS = "steps";
 
     @PlanningId
     private String id;
     private OrderItem orderItem;
 
     /**
-     * Planning variable: changes during planning, between score calculations.
-     * <p>
-     * The Trolleys for building the chains are taken from the value range provider
-     * {@link OrderPickingSolution#getTrolleys()}.
-     * The intermediary elements, the TrolleySteps, for building the chains are taken from the value range provider
-     * {@link OrderPickingSolution#getTrolleySteps()}.
+     * Shadow variable: Is automatically set by the Solver and facilitates that all the trolley steps can have a
+     * reference to the Trolley whose path they belong to.
      */
     @JsonIgnore
-    @PlanningVariable(graphType = PlanningVariableGraphType.CHAINED)
-    private TrolleyOrTrolleyStep previousElement;
+    @InverseRelationShadowVariable(sourceVariableName = STEPS)
+    private Trolley trolley;
+
+    @JsonIgnore
+    @PreviousElementShadowVariable(sourceVariableName = STEPS)
+    private TrolleyStep previousStep;
+
+    @JsonIgnore
+    @NextElementShadowVariable(sourceVariableName = STEPS)
+    private TrolleyStep nextStep;
 
     /**
-     * Shadow variable: Is automatically set by the Solver and facilitates that all the trolley steps can have a
-     * reference to the chain "anchor", the Trolley.
+     * Shadow variable: the distance in meters from the previous step, or from the Trolley location for the first step.
      */
-    @JsonIgnore
-    @AnchorShadowVariable(sourceVariableName = PREVIOUS_ELEMENT)
-    private Trolley trolley;
+    @ShadowVariable(supplierName = "distanceFromPreviousStepSupplier")
+    private Integer distanceFromPreviousStep;
+
+    /**
+     * Shadow variable: the distance in meters walked from the Trolley location to this step, along the path.
+     */
+    @ShadowVariable(supplierName = "cumulativeDistanceSupplier")
+    private Integer cumulativeDistance;
 
     public TrolleyStep() {
         //marshaling constructor.
@@ -79,19 +89,10 @@ public class TrolleyStep extends TrolleyOrTrolleyStep {
         this.orderItem = orderItem;
     }
 
-    @Override
     public WarehouseLocation getLocation() {
         return orderItem.getProduct().getLocation();
     }
 
-    public TrolleyOrTrolleyStep getPreviousElement() {
-        return previousElement;
-    }
-
-    public void setPreviousElement(TrolleyOrTrolleyStep previousElement) {
-        this.previousElement = previousElement;
-    }
-
     public Trolley getTrolley() {
         return trolley;
     }
@@ -100,8 +101,63 @@ public class TrolleyStep extends TrolleyOrTrolleyStep {
         this.trolley = trolley;
     }
 
+    public TrolleyStep getPreviousStep() {
+        return previousStep;
+    }
+
+    public void setPreviousStep(TrolleyStep previousStep) {
+        this.previousStep = previousStep;
+    }
+
+    public TrolleyStep getNextStep() {
+        return nextStep;
+    }
+
+    public void setNextStep(TrolleyStep nextStep) {
+        this.nextStep = nextStep;
+    }
+
+    public Integer getDistanceFromPreviousStep() {
+        return distanceFromPreviousStep;
+    }
+
+    public void setDistanceFromPreviousStep(Integer distanceFromPreviousStep) {
+        this.distanceFromPreviousStep = distanceFromPreviousStep;
+    }
+
+    public Integer getCumulativeDistance() {
+        return cumulativeDistance;
+    }
+
+    public void setCumulativeDistance(Integer cumulativeDistance) {
+        this.cumulativeDistance = cumulativeDistance;
+    }
+
+    @SuppressWarnings("unused")
+    @ShadowSources({ "trolley", "previousStep" })
+    private Integer distanceFromPreviousStepSupplier() {
+        if (trolley == null) {
+            return null;
+        }
+        WarehouseLocation previousLocation = previousStep == null ? trolley.getLocation() : previousStep.getLocation();
+        return Warehouse.calculateDistance(previousLocation, getLocation());
+    }
+
+    @SuppressWarnings("unused")
+    @ShadowSources({ "previousStep.cumulativeDistance", "distanceFromPreviousStep" })
+    private Integer cumulativeDistanceSupplier() {
+        if (distanceFromPreviousStep == null) {
+            return null;
+        }
+        if (previousStep == null) {
+            return distanceFromPreviousStep;
+        }
+        Integer previousCumulativeDistance = previousStep.getCumulativeDistance();
+        return previousCumulativeDistance == null ? null : previousCumulativeDistance + distanceFromPreviousStep;
+    }
+
     public boolean isLast() {
-        return nextElement == null;
+        return nextStep == null;
     }
 
     /**
@@ -1,10 +1,6 @@
 package org.acme.orderpicking.domain;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static java.lang.Math.abs;
-import static org.acme.orderpicking.domain.Shelving.newShelvingId;
+import java.util.List;
 
 /**
  * Models the warehouse where the order picking problem is formulated and is a static structure composed of shelvings
@@ -12,8 +8,9 @@ import static org.acme.orderpicking.domain.Shelving.newShelvingId;
  * The store products are located on the shelvings, each shelving can contain products on the LEFT and RIGHT sides, and
  * on a row on the particular shelving side.
  *
- * Note: This warehouse structure is completely static and aligned with the "Graphical Map" structure represented in
- * the order picking webapp UI, changes on this structure might require UI adjustments.
+ * Note: The demo warehouse structure is aligned with the "Graphical Map" structure represented in the order
+ * picking webapp UI, a different {@link WarehouseLayout} might require UI adjustments.
+ * Every problem brings its own layout, see {@link OrderPickingSolution#getLayout()}.
  *
  *  -----------------------------------------------------------------------------------> x
  *  |    |--------|   |--------|   |--------|   |--------|   |--------|
@@ -42,6 +39,7 @@ import static org.acme.orderpicking.domain.Shelving.newShelvingId;
  *  |
  *  y
  * @see Shelving
+ * @see WarehouseLayout
  */
 public class Warehouse {
 
@@ -87,127 +85,40 @@ public class Warehouse {
         }
     }
 
-    /**
-     * The shelving width in meters.
-     */
-    private static final int SHELVING_WIDTH = 2;
-    /**
-     * The shelving height in meters.
-     */
-    private static final int SHELVING_HEIGHT = 10;
-    /**
-     * Spacing between the shelving rows and columns in meters.
-     */
-    private static final int SHELVING_PADDING = 3;
-
-    private static final Map<String, Shelving> SHELVING_MAP = new HashMap<>();
-
-    private static final String SHELVING_NOT_FOUND_ERROR = "Shelving: %s was not found in current Warehouse structure.";
-
-    static {
-        int shelvingX = 0;
-        int shelvingY;
-        Shelving shelving;
-
-        for (Column col : Column.values()) {
-            shelvingY = 0;
-            for (Row row : Row.values()) {
-                shelving = new Shelving(newShelvingId(col, row), shelvingX, shelvingY);
-                SHELVING_MAP.put(shelving.getId(), shelving);
-                shelvingY = shelvingY + SHELVING_HEIGHT + SHELVING_PADDING;
-            }
-            shelvingX = shelvingX + SHELVING_WIDTH + SHELVING_PADDING;
-        }
-    }
-
     private Warehouse() {
     }
 
     /**
-     * Calculates the distance in meters between two locations considering the warehouse structure.
+     * Calculates the distance in meters between two locations of the same layout, considering the warehouse
+     * structure.
+     *
+     * @see WarehouseLocation#getDistanceTo(WarehouseLocation)
      */
     public static int calculateDistance(WarehouseLocation start, WarehouseLocation end) {
-        final Shelving startShelving = SHELVING_MAP.get(start.getShelvingId());
-        if (startShelving == null) {
-            throw new IndexOutOfBoundsException(String.format(SHELVING_NOT_FOUND_ERROR, start.getShelvingId()));
-        }
-        final Shelving endShelving = SHELVING_MAP.get(end.getShelvingId());
-        if (endShelving == null) {
-            throw new IndexOutOfBoundsException(String.format(SHELVING_NOT_FOUND_ERROR, end.getShelvingId()));
-        }
-        int deltaX = 0;
-        int deltaY;
-
-        final int startX = getAbsoluteX(startShelving, start);
-        final int startY = getAbsoluteY(startShelving, start);
-        final int endX = getAbsoluteX(endShelving, end);
-        final int endY = getAbsoluteY(endShelving, end);
-
-        if (startShelving == endShelving) {
-            //same shelving
-            if (start.getSide() == end.getSide()) {
-                //same side
-                deltaY = abs(startY - endY);
-            } else {
-                //different side, calculate shortest walk.
-                deltaX = SHELVING_WIDTH;
-                deltaY = calculateBestYDistanceInShelvingRow(start.getRow(), end.getRow());
-            }
-        } else if (startShelving.getY() == endShelving.getY()) {
-            //distinct shelvings but on the same warehouse row
-            if (abs(startX - endX) == SHELVING_PADDING) {
-                //neighbor shelvings, but also contiguous side
-                deltaX = SHELVING_PADDING;
-                deltaY = abs(startY - endY);
-            } else {
-                //any other combination of shelvings but in the same warehouse row
-                deltaX = abs(startX - endX);
-                deltaY = calculateBestYDistanceInShelvingRow(start.getRow(), end.getRow());
-            }
-        } else {
-            //shelvings on different warehouse rows
-            deltaX = abs(startX - endX);
-            deltaY = abs(startY - endY);
-        }
-        return deltaX + deltaY;
-    }
-
-    public static int calculateDistanceToTravel(Trolley trolley) {
-        int distance = 0;
-        WarehouseLocation previousLocation = trolley.getLocation();
-        TrolleyStep nextElement = trolley.getNextElement();
-        while (nextElement != null) {
-            distance += calculateDistance(previousLocation, nextElement.getLocation());
-            previousLocation = nextElement.getLocation();
-            nextElement = nextElement.getNextElement();
-        }
-        distance += calculateDistance(previousLocation, trolley.getLocation());
-        return distance;
-    }
-
-    private static int calculateBestYDistanceInShelvingRow(int startY, int endY) {
-        final int northDirectionDistance = startY + endY;
-        final int southDirectionDistance = (SHELVING_HEIGHT - startY) + (SHELVING_HEIGHT - endY);
-        return Math.min(northDirectionDistance, southDirectionDistance);
+        return start.getDistanceTo(end);
     }
 
     /**
-     * Calculates the absolute X position of a location considering the warehouse structure and the shelving where it's
-     * contained.
+     * Calculates the distance in meters of the trolley's path, from its location through all its steps and back.
      */
-    private static int getAbsoluteX(Shelving shelving, WarehouseLocation location) {
-        if (location.getSide() == Shelving.Side.LEFT) {
-            return shelving.getX();
+    public static int calculateDistanceToTravel(Trolley trolley) {
+        List<TrolleyStep> steps = trolley.getSteps();
+        if (steps.isEmpty()) {
+            return 0;
+        }
+        TrolleyStep lastStep = steps.get(steps.size() - 1);
+        int distance;
+        if (lastStep.getCumulativeDistance() != null) {
+            distance = lastStep.getCumulativeDistance();
         } else {
-            return shelving.getX() + SHELVING_WIDTH;
+            // The shadow variables were not calculated by the Solver yet.
+            distance = 0;
+            WarehouseLocation previousLocation = trolley.getLocation();
+            for (TrolleyStep step : steps) {
+                distance += calculateDistance(previousLocation, step.getLocation());
+                previousLocation = step.getLocation();
+            }
         }
+        return distance + calculateDistance(lastStep.getLocation(), trolley.getLocation());
     }
-
-    /**
-     * Calculates the absolute Y position of a location considering the warehouse structure and the shelving where it's
-     * contained.
-     */
-    private static int getAbsoluteY(Shelving shelving, WarehouseLocation location) {
-        return shelving.getY() + location.getRow();
-    }
-}
\ No newline at end of file
+}
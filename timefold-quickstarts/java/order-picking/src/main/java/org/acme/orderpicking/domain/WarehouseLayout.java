@@ -0,0 +1,245 @@
+package org.acme.orderpicking.domain;
+
+import static java.lang.Math.abs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The shelvings of a warehouse and their positions, e.g. read from JSON:
+ * <pre>
+ * {"shelvings": [{"id": "(A,1)", "x": 0, "y": 0}, {"id": "(B,1)", "x": 5, "y": 0}, ...]}
+ * </pre>
+ * All shelvings have the same size, {@link #SHELVING_WIDTH} by {@link #SHELVING_HEIGHT} meters.
+ * <p>
+ * Every location of the layout, every side and row of every shelving, has a compact location ID.
+ * The distances between all the locations of a layout of up to {@link #MAX_TABLE_LOCATION_COUNT} locations
+ * are precomputed in a dense table indexed by that ID, so the solver looks them up instead of calculating them.
+ * The table grows with {@code (22 * shelvingCount)^2}, so larger layouts calculate the distances by ID instead,
+ * without looking up the shelvings by id.
+ * Immutable, so it can be shared between solver threads.
+ *
+ * @see Warehouse
+ */
+public final class WarehouseLayout {
+
+    /**
+     * The shelving width in meters.
+     */
+    static final int SHELVING_WIDTH = 2;
+    /**
+     * The shelving height in meters.
+     */
+    static final int SHELVING_HEIGHT = 10;
+    /**
+     * Spacing between the shelving rows and columns in meters.
+     */
+    static final int SHELVING_PADDING = 3;
+
+    /**
+     * Rows 0, the shelving's edge where the trolleys start, to {@link Shelving#ROWS_SIZE}.
+     */
+    private static final int ROWS_PER_SIDE = Shelving.ROWS_SIZE + 1;
+    private static final int LOCATIONS_PER_SHELVING = Shelving.Side.values().length * ROWS_PER_SIDE;
+    /**
+     * The largest layout whose distances are precomputed: 2048 locations, 93 shelvings, take a 16 MB table.
+     */
+    static final int MAX_TABLE_LOCATION_COUNT = 2048;
+
+    private static final String SHELVING_NOT_FOUND_ERROR = "Shelving: %s was not found in current Warehouse structure.";
+
+    private final List<Shelving> shelvings;
+    private final Map<String, Integer> shelvingIndexes;
+    private final int locationCount;
+    /**
+     * The distance from location i to location j is at {@code i * locationCount + j},
+     * or null if the layout has more than {@link #MAX_TABLE_LOCATION_COUNT} locations.
+     */
+    private final int[] distances;
+
+    @JsonCreator
+    public WarehouseLayout(@JsonProperty("shelvings") List<Shelving> shelvings) {
+        this(shelvings, MAX_TABLE_LOCATION_COUNT);
+    }
+
+    WarehouseLayout(List<Shelving> shelvings, int maxTableLocationCount) {
+        this.shelvings = List.copyOf(shelvings);
+        this.shelvingIndexes = new HashMap<>(this.shelvings.size() * 2);
+        for (int i = 0; i < this.shelvings.size(); i++) {
+            if (shelvingIndexes.put(this.shelvings.get(i).getId(), i) != null) {
+                throw new IllegalArgumentException("The shelving id: " + this.shelvings.get(i).getId()
+                        + " is not unique in the warehouse layout.");
+            }
+        }
+        this.locationCount = Math.multiplyExact(this.shelvings.size(), LOCATIONS_PER_SHELVING);
+        if (locationCount > maxTableLocationCount) {
+            this.distances = null;
+            return;
+        }
+        this.distances = new int[locationCount * locationCount];
+        for (int start = 0; start < locationCount; start++) {
+            // The distance is symmetric, so calculate every pair once.
+            for (int end = start; end < locationCount; end++) {
+                int distance = calculateDistance(start, end);
+                distances[start * locationCount + end] = distance;
+                distances[end * locationCount + start] = distance;
+            }
+        }
+    }
+
+    /**
+     * Builds a layout of shelvings organized in columns and rows, as drawn in {@link Warehouse}.
+     * The columns are named A to Z, then AA, AB and so on, and the rows are numbered from 1.
+     */
+    public static WarehouseLayout grid(int columnCount, int rowCount) {
+        List<Shelving> shelvings = new ArrayList<>(columnCount * rowCount);
+        for (int column = 0; column < columnCount; column++) {
+            String columnId = getColumnId(column);
+            for (int row = 0; row < rowCount; row++) {
+                shelvings.add(new Shelving(Shelving.newShelvingId(columnId, Integer.toString(row + 1)),
+                        column * (SHELVING_WIDTH + SHELVING_PADDING),
+                        row * (SHELVING_HEIGHT + SHELVING_PADDING)));
+            }
+        }
+        return new WarehouseLayout(shelvings);
+    }
+
+    private static String getColumnId(int column) {
+        StringBuilder columnId = new StringBuilder();
+        for (int i = column + 1; i > 0; i = (i - 1) / 26) {
+            columnId.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+        return columnId.toString();
+    }
+
+    private static Shelving.Side getSide(int locationIndex) {
+        return (locationIndex / ROWS_PER_SIDE) % 2 == 0 ? Shelving.Side.LEFT : Shelving.Side.RIGHT;
+    }
+
+    public List<Shelving> getShelvings() {
+        return shelvings;
+    }
+
+    /**
+     * Looks up the distance in meters between two locations of this layout in the precomputed table,
+     * or calculates it by their compact location IDs if the layout is too large for a table.
+     * Locations on a row without an ID, beyond {@link Shelving#ROWS_SIZE}, are calculated by shelving id instead.
+     *
+     * @see WarehouseLocation#setLayout(WarehouseLayout)
+     */
+    int getDistance(WarehouseLocation start, WarehouseLocation end) {
+        int startIndex = start.getLayoutIndex();
+        int endIndex = end.getLayoutIndex();
+        if (startIndex < 0 || endIndex < 0) {
+            return calculateDistance(start, end);
+        }
+        if (distances == null) {
+            return calculateDistance(startIndex, endIndex);
+        }
+        return distances[startIndex * locationCount + endIndex];
+    }
+
+    /**
+     * @return the compact ID of the location, or -1 if its row is out of the table
+     */
+    int indexOf(WarehouseLocation location) {
+        int shelvingIndex = getShelvingIndex(location.getShelvingId());
+        if (location.getRow() < 0 || location.getRow() >= ROWS_PER_SIDE) {
+            return -1;
+        }
+        return (shelvingIndex * 2 + location.getSide().ordinal()) * ROWS_PER_SIDE + location.getRow();
+    }
+
+    private int getShelvingIndex(String shelvingId) {
+        Integer shelvingIndex = shelvingIndexes.get(shelvingId);
+        if (shelvingIndex == null) {
+            throw new IndexOutOfBoundsException(String.format(SHELVING_NOT_FOUND_ERROR, shelvingId));
+        }
+        return shelvingIndex;
+    }
+
+    /**
+     * Calculates the distance in meters between two locations considering the warehouse structure,
+     * by shelving id, without their compact location IDs.
+     */
+    public int calculateDistance(WarehouseLocation start, WarehouseLocation end) {
+        return calculateDistance(shelvings.get(getShelvingIndex(start.getShelvingId())), start.getSide(),
+                start.getRow(), shelvings.get(getShelvingIndex(end.getShelvingId())), end.getSide(), end.getRow());
+    }
+
+    private int calculateDistance(int startIndex, int endIndex) {
+        return calculateDistance(shelvings.get(startIndex / LOCATIONS_PER_SHELVING), getSide(startIndex),
+                startIndex % ROWS_PER_SIDE, shelvings.get(endIndex / LOCATIONS_PER_SHELVING), getSide(endIndex),
+                endIndex % ROWS_PER_SIDE);
+    }
+
+    private static int calculateDistance(Shelving startShelving, Shelving.Side startSide, int startRow,
+            Shelving endShelving, Shelving.Side endSide, int endRow) {
+        int deltaX = 0;
+        int deltaY;
+
+        final int startX = getAbsoluteX(startShelving, startSide);
+        final int startY = getAbsoluteY(startShelving, startRow);
+        final int endX = getAbsoluteX(endShelving, endSide);
+        final int endY = getAbsoluteY(endShelving, endRow);
+
+        if (startShelving == endShelving) {
+            //same shelving
+            if (startSide == endSide) {
+                //same side
+                deltaY = abs(startY - endY);
+            } else {
+                //different side, calculate shortest walk.
+                deltaX = SHELVING_WIDTH;
+                deltaY = calculateBestYDistanceInShelvingRow(startRow, endRow);
+            }
+        } else if (startShelving.getY() == endShelving.getY()) {
+            //distinct shelvings but on the same warehouse row
+            if (abs(startX - endX) == SHELVING_PADDING) {
+                //neighbor shelvings, but also contiguous side
+                deltaX = SHELVING_PADDING;
+                deltaY = abs(startY - endY);
+            } else {
+                //any other combination of shelvings but in the same warehouse row
+                deltaX = abs(startX - endX);
+                deltaY = calculateBestYDistanceInShelvingRow(startRow, endRow);
+            }
+        } else {
+            //shelvings on different warehouse rows
+            deltaX = abs(startX - endX);
+            deltaY = abs(startY - endY);
+        }
+        return deltaX + deltaY;
+    }
+
+    private static int calculateBestYDistanceInShelvingRow(int startY, int endY) {
+        final int northDirectionDistance = startY + endY;
+        final int southDirectionDistance = (SHELVING_HEIGHT - startY) + (SHELVING_HEIGHT - endY);
+        return Math.min(northDirectionDistance, southDirectionDistance);
+    }
+
+    /**
+     * Calculates the absolute X position of a location considering the warehouse structure and the shelving where it's
+     * contained.
+     */
+    private static int getAbsoluteX(Shelving shelving, Shelving.Side side) {
+        if (side == Shelving.Side.LEFT) {
+            return shelving.getX();
+        } else {
+            return shelving.getX() + SHELVING_WIDTH;
+        }
+    }
+
+    /**
+     * Calculates the absolute Y position of a location considering the warehouse structure and the shelving where it's
+     * contained.
+     */
+    private static int getAbsoluteY(Shelving shelving, int row) {
+        return shelving.getY() + row;
+    }
+}
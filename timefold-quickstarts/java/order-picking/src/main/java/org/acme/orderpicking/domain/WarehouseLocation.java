@@ -1,5 +1,7 @@
 package org.acme.orderpicking.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Represents a location in the warehouse where a product can be stored. In the context of the order picking problem
  * the warehouse is modeled as set of shelvings. For picking a particular product the employees walks to the indicated
@@ -14,6 +16,12 @@ public class WarehouseLocation {
     private Shelving.Side side;
     private int row;
 
+    // The layout of the problem and the compact ID of this location in it, set before solving.
+    @JsonIgnore
+    private WarehouseLayout layout;
+    @JsonIgnore
+    private int layoutIndex = -1;
+
     public WarehouseLocation() {
         //marshalling constructor
     }
@@ -48,6 +56,31 @@ public class WarehouseLocation {
         this.row = row;
     }
 
+    /**
+     * Set the layout of the warehouse, which defines the distances to the other locations of the problem.
+     *
+     * @param layout the layout containing the shelving of this location
+     * @throws IndexOutOfBoundsException if the layout has no shelving with the shelving id of this location
+     */
+    public void setLayout(WarehouseLayout layout) {
+        this.layoutIndex = layout.indexOf(this);
+        this.layout = layout;
+    }
+
+    int getLayoutIndex() {
+        return layoutIndex;
+    }
+
+    /**
+     * Distance to the given location in meters, which must be in the same layout.
+     *
+     * @param location other location
+     * @return distance in meters
+     */
+    public int getDistanceTo(WarehouseLocation location) {
+        return layout.getDistance(this, location);
+    }
+
     @Override
     public String toString() {
         return "WarehouseLocation{" +
@@ -1,18 +1,30 @@
 package org.acme.orderpicking.persistence;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.solver.SolverManager;
 
+import org.acme.jobstore.BoundedJobRepository;
 import org.acme.orderpicking.domain.OrderPickingSolution;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+/**
+ * Keeps the latest best solution of every order picking job, for example one job per warehouse,
+ * see {@link BoundedJobRepository}.
+ * Evicting a job terminates its solver.
+ */
 @ApplicationScoped
-public class OrderPickingRepository {
-    private OrderPickingSolution orderPickingSolution;
-
-    public OrderPickingSolution find() {
-        return orderPickingSolution;
-    }
+public class OrderPickingRepository extends BoundedJobRepository<OrderPickingSolution> {
 
-    public void save(OrderPickingSolution orderPickingSolution) {
-        this.orderPickingSolution = orderPickingSolution;
+    @Inject
+    public OrderPickingRepository(SolverManager<OrderPickingSolution, String> solverManager,
+            @ConfigProperty(name = "order-picking.job-store.max-size", defaultValue = "100") int maxSize,
+            @ConfigProperty(name = "order-picking.job-store.time-to-live", defaultValue = "24h") Duration timeToLive) {
+        super(OrderPickingSolution.class, maxSize, timeToLive, solverManager::terminateEarly, null, null,
+                Clock.systemUTC());
     }
 }
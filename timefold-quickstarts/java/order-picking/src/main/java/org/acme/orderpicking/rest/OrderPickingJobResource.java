@@ -0,0 +1,174 @@
+package org.acme.orderpicking.rest;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.api.solver.SolverStatus;
+
+import org.acme.jobstore.Job;
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
+import org.acme.orderpicking.domain.OrderPickingPlanning;
+import org.acme.orderpicking.domain.OrderPickingSolution;
+import org.acme.orderpicking.persistence.OrderPickingRepository;
+import org.acme.orderpicking.rest.exception.OrderPickingSolverException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Plans many warehouses at once, each under its own job ID.
+ * The {@link SolverManager} solves at most its parallel solver count of jobs at the same time
+ * and queues the others.
+ */
+@Path("orderPicking/jobs")
+public class OrderPickingJobResource {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderPickingJobResource.class);
+
+    private final OrderPickingRepository orderPickingRepository;
+    private final DemoDataGenerator demoDataGenerator;
+    private final SolverManager<OrderPickingSolution, String> solverManager;
+    private final int maxProblemSize;
+
+    @Inject
+    public OrderPickingJobResource(OrderPickingRepository orderPickingRepository, DemoDataGenerator demoDataGenerator,
+            SolverManager<OrderPickingSolution, String> solverManager,
+            @ConfigProperty(name = "order-picking.job-store.max-problem-size",
+                    defaultValue = "10000") int maxProblemSize) {
+        this.orderPickingRepository = orderPickingRepository;
+        this.demoDataGenerator = demoDataGenerator;
+        this.solverManager = solverManager;
+        this.maxProblemSize = maxProblemSize;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Collection<String> list() {
+        return orderPickingRepository.findAllJobIds();
+    }
+
+    /**
+     * Generates the orders of a warehouse to submit with {@link #solve(OrderPickingSolution)}.
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("demo-data")
+    public OrderPickingSolution generateDemoData(@QueryParam("trolleyCount") @DefaultValue("5") int trolleyCount,
+            @QueryParam("orderCount") @DefaultValue("8") int orderCount) {
+        if (trolleyCount < 1 || orderCount < 1) {
+            throw new OrderPickingSolverException(null, Response.Status.BAD_REQUEST,
+                    "The trolleyCount (" + trolleyCount + ") and orderCount (" + orderCount + ") must be at least 1.");
+        }
+        // Every order has at least 1 item, so fail fast before generating the problem.
+        checkProblemSize((long) trolleyCount + orderCount);
+        return demoDataGenerator.generateDemoData(trolleyCount, orderCount);
+    }
+
+    /**
+     * Submits the orders of a warehouse to start solving as soon as a solver is available.
+     *
+     * @return the job ID, to get the solution with the other methods
+     */
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.TEXT_PLAIN)
+    public String solve(OrderPickingSolution problem) {
+        if (problem == null || problem.getLayout() == null || problem.getTrolleys() == null
+                || problem.getTrolleySteps() == null) {
+            throw new OrderPickingSolverException(null, Response.Status.BAD_REQUEST,
+                    "The problem must have a layout, trolleys and trolley steps.");
+        }
+        // Trolleys and trolley steps are the planning entities, the memory of the solver grows with them.
+        checkProblemSize((long) problem.getTrolleys().size() + problem.getTrolleySteps().size());
+        try {
+            problem.init();
+        } catch (IndexOutOfBoundsException e) {
+            throw new OrderPickingSolverException(null, Response.Status.BAD_REQUEST,
+                    "A location of the problem is not in its layout: " + e.getMessage());
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        orderPickingRepository.put(jobId, problem);
+        solverManager.solveBuilder()
+                .withProblemId(jobId)
+                .withProblem(problem)
+                .withBestSolutionEventConsumer(
+                        event -> orderPickingRepository.saveBestSolution(jobId, event.solution()))
+                .withExceptionHandler((jobId_, exception) -> {
+                    orderPickingRepository.saveException(jobId, exception);
+                    LOGGER.error("Failed solving jobId ({}).", jobId, exception);
+                })
+                .run();
+        return jobId;
+    }
+
+    private void checkProblemSize(long problemSize) {
+        if (problemSize > maxProblemSize) {
+            throw new OrderPickingSolverException(null, Response.Status.REQUEST_ENTITY_TOO_LARGE,
+                    "The problem size (" + problemSize + ") exceeds the maximum problem size ("
+                            + maxProblemSize + ").");
+        }
+    }
+
+    /**
+     * @return the best solution so far, as the job might still be running or not even started
+     */
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}")
+    public OrderPickingPlanning getBestSolution(@PathParam("jobId") String jobId) {
+        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
+        OrderPickingSolution solution = getSolutionAndCheckForExceptions(jobId);
+        return new OrderPickingPlanning(solverStatus, solution, false);
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}/status")
+    public JobStatus getStatus(@PathParam("jobId") String jobId) {
+        SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
+        OrderPickingSolution solution = getSolutionAndCheckForExceptions(jobId);
+        return new JobStatus(solution.getScore(), solverStatus);
+    }
+
+    /**
+     * Terminates solving the job.
+     *
+     * @return the best solution so far
+     */
+    @DELETE
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("{jobId}")
+    public OrderPickingPlanning terminateSolving(@PathParam("jobId") String jobId) {
+        solverManager.terminateEarly(jobId);
+        return getBestSolution(jobId);
+    }
+
+    private OrderPickingSolution getSolutionAndCheckForExceptions(String jobId) {
+        Job<OrderPickingSolution> job = orderPickingRepository.find(jobId)
+                .orElseThrow(() -> new OrderPickingSolverException(jobId, Response.Status.NOT_FOUND,
+                        "No order picking solution found."));
+        if (job.exception() != null) {
+            throw new OrderPickingSolverException(jobId, job.exception());
+        }
+        return job.solution();
+    }
+
+    public record JobStatus(HardSoftLongScore score, SolverStatus solverStatus) {
+    }
+}
@@ -16,35 +16,44 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import org.acme.jobstore.Job;
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
 import org.acme.orderpicking.domain.OrderPickingPlanning;
 import org.acme.orderpicking.domain.OrderPickingSolution;
 import org.acme.orderpicking.persistence.OrderPickingRepository;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Plans the demo solution shown in the UI.
+ *
+ * @see OrderPickingJobResource
+ */
 @Path("orderPicking")
 @ApplicationScoped
 public class OrderPickingSolverResource {
 
-    private static final String PROBLEM_ID = "1";
+    private static final String PROBLEM_ID = DemoDataGenerator.DEMO_JOB_ID;
     private final AtomicBoolean solverWasNeverStarted = new AtomicBoolean(true);
 
     private SolverManager<OrderPickingSolution, String> solverManager;
     private SolutionManager<OrderPickingSolution, HardSoftLongScore> solutionManager;
     private OrderPickingRepository orderPickingRepository;
+    private DemoDataGenerator demoDataGenerator;
 
     @Inject
     public OrderPickingSolverResource(SolverManager<OrderPickingSolution, String> solverManager,
             SolutionManager<OrderPickingSolution, HardSoftLongScore> solutionManager,
-            OrderPickingRepository orderPickingRepository) {
+            OrderPickingRepository orderPickingRepository, DemoDataGenerator demoDataGenerator) {
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
         this.orderPickingRepository = orderPickingRepository;
+        this.demoDataGenerator = demoDataGenerator;
     }
 
     @GET
     public OrderPickingPlanning getBestSolution() {
-        OrderPickingSolution solution = orderPickingRepository.find();
+        OrderPickingSolution solution = find();
         SolverStatus solverStatus = solverManager.getSolverStatus(PROBLEM_ID);
         return new OrderPickingPlanning(solverStatus, solution, solverWasNeverStarted.get());
     }
@@ -55,8 +64,9 @@ public class OrderPickingSolverResource {
         solverWasNeverStarted.set(false);
         solverManager.solveBuilder()
                 .withProblemId(PROBLEM_ID)
-                .withProblemFinder((problemId) -> orderPickingRepository.find())
-                .withBestSolutionEventConsumer(event -> orderPickingRepository.save(event.solution()))
+                .withProblemFinder((problemId) -> find())
+                .withBestSolutionEventConsumer(
+                        event -> orderPickingRepository.saveBestSolution(PROBLEM_ID, event.solution()))
                 .run();
     }
 
@@ -65,7 +75,7 @@ public class OrderPickingSolverResource {
     @Produces(MediaType.APPLICATION_JSON)
     @Path("analyze")
     public ScoreAnalysis<HardSoftLongScore> analyze(@QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
-        OrderPickingSolution problem = orderPickingRepository.find();
+        OrderPickingSolution problem = find();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
@@ -74,4 +84,16 @@ public class OrderPickingSolverResource {
     public void stopSolving() {
         solverManager.terminateEarly(PROBLEM_ID);
     }
+
+    private OrderPickingSolution find() {
+        OrderPickingSolution solution = orderPickingRepository.find(PROBLEM_ID)
+                .map(Job::solution)
+                .orElse(null);
+        if (solution == null) {
+            // Evicted from the repository or failed, start over.
+            solution = demoDataGenerator.generateDemoData();
+            orderPickingRepository.put(PROBLEM_ID, solution);
+        }
+        return solution;
+    }
 }
\ No newline at end of file
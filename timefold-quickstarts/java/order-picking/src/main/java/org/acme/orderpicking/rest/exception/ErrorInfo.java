@@ -0,0 +1,4 @@
+package org.acme.orderpicking.rest.exception;
+
+public record ErrorInfo(String jobId, String message) {
+}
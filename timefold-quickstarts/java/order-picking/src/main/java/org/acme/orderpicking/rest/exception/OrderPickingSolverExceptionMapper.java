@@ -0,0 +1,19 @@
+package org.acme.orderpicking.rest.exception;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class OrderPickingSolverExceptionMapper implements ExceptionMapper<OrderPickingSolverException> {
+
+    @Override
+    public Response toResponse(OrderPickingSolverException exception) {
+        return Response
+                .status(exception.getStatus())
+                .type(MediaType.APPLICATION_JSON)
+                .entity(new ErrorInfo(exception.getJobId(), exception.getMessage()))
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package org.acme.orderpicking.solver;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.sum;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+
+import org.acme.orderpicking.domain.TrolleyStep;
+
+/**
+ * Scores exactly like {@link OrderPickingConstraintProvider},
+ * but counts the required buckets with three nested groupBys instead of the {@link RequiredBucketsCollector},
+ * as it did before, for comparison.
+ * Select it with {@code quarkus.timefold.solver-config-xml=nestedGroupBySolverConfig.xml}.
+ */
+public class NestedGroupByOrderPickingConstraintProvider extends OrderPickingConstraintProvider {
+
+    @Override
+    Constraint requiredNumberOfBuckets(ConstraintFactory constraintFactory) {
+        return constraintFactory
+                .forEach(TrolleyStep.class)
+                //raw total volume per order
+                .groupBy(TrolleyStep::getTrolley,
+                        trolleyStep -> trolleyStep.getOrderItem().getOrder(),
+                        sum(trolleyStep -> trolleyStep.getOrderItem().getVolume()))
+                //required buckets per order
+                .groupBy((trolley, order, orderTotalVolume) -> trolley,
+                        (trolley, order, orderTotalVolume) -> order,
+                        sum((trolley, order, orderTotalVolume) -> calculateOrderRequiredBuckets(orderTotalVolume,
+                                trolley.getBucketCapacity())))
+                //required buckets per trolley
+                .groupBy((trolley, order, orderTotalBuckets) -> trolley,
+                        sum((trolley, order, orderTotalBuckets) -> orderTotalBuckets))
+                //penalization if the trolley don't have enough buckets to hold the orders
+                .filter((trolley, trolleyTotalBuckets) -> trolley.getBucketCount() < trolleyTotalBuckets)
+                .penalize(HardSoftLongScore.ONE_HARD,
+                        (trolley, trolleyTotalBuckets) -> trolleyTotalBuckets - trolley.getBucketCount())
+                .asConstraint("Required number of buckets");
+    }
+}
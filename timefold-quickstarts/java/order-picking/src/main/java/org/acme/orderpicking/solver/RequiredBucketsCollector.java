@@ -0,0 +1,78 @@
+package org.acme.orderpicking.solver;
+
+import static org.acme.orderpicking.solver.OrderPickingConstraintProvider.calculateOrderRequiredBuckets;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+
+import org.acme.orderpicking.domain.Order;
+import org.acme.orderpicking.domain.TrolleyStep;
+
+/**
+ * Collects the number of buckets required by the trolley steps of one Trolley, considering that buckets are not
+ * shared between orders.
+ * <p>
+ * Keeps the volume of every order picked by the trolley, so adding or removing a trolley step only recalculates the
+ * buckets of the order of that step, instead of regrouping the volumes and the buckets of all the orders.
+ */
+final class RequiredBucketsCollector
+        implements UniConstraintCollector<TrolleyStep, RequiredBucketsCollector.BucketCounter, Integer> {
+
+    @Override
+    public Supplier<BucketCounter> supplier() {
+        return BucketCounter::new;
+    }
+
+    @Override
+    public BiFunction<BucketCounter, TrolleyStep, Runnable> accumulator() {
+        return BucketCounter::add;
+    }
+
+    @Override
+    public Function<BucketCounter, Integer> finisher() {
+        return BucketCounter::getRequiredBuckets;
+    }
+
+    static final class BucketCounter {
+
+        private final Map<Order, OrderVolume> orderVolumes = new HashMap<>();
+        private int requiredBuckets = 0;
+
+        private Runnable add(TrolleyStep trolleyStep) {
+            Order order = trolleyStep.getOrderItem().getOrder();
+            int volume = trolleyStep.getOrderItem().getVolume();
+            // The step may be on another trolley by the time it's removed, so keep the capacity of this one.
+            int bucketCapacity = trolleyStep.getTrolley().getBucketCapacity();
+            OrderVolume orderVolume = orderVolumes.computeIfAbsent(order, key -> new OrderVolume());
+            update(orderVolume, volume, 1, bucketCapacity);
+            return () -> {
+                update(orderVolume, -volume, -1, bucketCapacity);
+                if (orderVolume.itemCount == 0) {
+                    orderVolumes.remove(order);
+                }
+            };
+        }
+
+        private void update(OrderVolume orderVolume, int volumeDelta, int itemCountDelta, int bucketCapacity) {
+            requiredBuckets -= calculateOrderRequiredBuckets(orderVolume.volume, bucketCapacity);
+            orderVolume.volume += volumeDelta;
+            orderVolume.itemCount += itemCountDelta;
+            requiredBuckets += calculateOrderRequiredBuckets(orderVolume.volume, bucketCapacity);
+        }
+
+        private int getRequiredBuckets() {
+            return requiredBuckets;
+        }
+    }
+
+    private static final class OrderVolume {
+
+        private int volume = 0;
+        private int itemCount = 0;
+    }
+}
@@ -67,11 +67,12 @@ function printSolutionTable(orderPickingSolution) {
     const unassignedOrderItemsAndOrdersSpreading = findUnassignedOrderItemsAndOrdersSpreading(orderPickingSolution);
     const unassignedItemsByOrder = unassignedOrderItemsAndOrdersSpreading[0];
     const trolleysByOrder = unassignedOrderItemsAndOrdersSpreading[1];
+    const trolleyStepsById = new Map(orderPickingSolution.trolleySteps.map(trolleyStep => [trolleyStep.id, trolleyStep]));
     const unassignedTrolleys = [];
     for (const trolley of orderPickingSolution.trolleys) {
-        if (trolley.nextElement != null) {
+        if (trolley.steps.length > 0) {
             const travelDistance = TROLLEY_TRAVEL_DISTANCE.get(trolley.id);
-            printTrolley(tableBody, trolley, travelDistance, unassignedItemsByOrder, trolleysByOrder);
+            printTrolley(tableBody, trolley, trolleyStepsById, travelDistance, unassignedItemsByOrder, trolleysByOrder);
         } else {
             unassignedTrolleys.push(trolley);
         }
@@ -210,22 +211,17 @@ function findUnassignedOrderItemsAndOrdersSpreading(orderPickingSolution) {
 
 /**
  * @param trolley a trolley instance to get the steps from.
+ * @param trolleyStepsById a map with the trolley steps of the solution by id, as the trolley only refers to their ids.
  * @returns [TrolleyStep] an array with the trolley steps for the given trolley.
  */
-function extractTrolleySteps(trolley) {
-    const trolleySteps = [];
-    let next = trolley.nextElement;
-    while (next != null) {
-        trolleySteps.push(next);
-        next = next.nextElement;
-    }
-    return trolleySteps;
+function extractTrolleySteps(trolley, trolleyStepsById) {
+    return trolley.steps.map(trolleyStepId => trolleyStepsById.get(trolleyStepId));
 }
 
-function printTrolley(tableBody, trolley, travelDistance, unAssignedItemsByOrder, trolleysByOrder) {
+function printTrolley(tableBody, trolley, trolleyStepsById, travelDistance, unAssignedItemsByOrder, trolleysByOrder) {
     const trolleyId = 'Trolley_' + trolley.id;
     const trolleyIcon = 'fa-cart-plus';
-    const trolleySteps = extractTrolleySteps(trolley);
+    const trolleySteps = extractTrolleySteps(trolley, trolleyStepsById);
     const trolleyRow = $('<tr class="agent-row">').appendTo(tableBody);
     const trolleyTd = $('<td style="width:15%;">').appendTo(trolleyRow);
     const trolleyCard = $('<div class="card" style="background-color:#f7ecd5">').appendTo(trolleyTd);
@@ -413,17 +409,18 @@ function printTrolleysMap(orderPickingSolution) {
     const mapActionsContainer = $('#mapActionsContainer');
     mapActionsContainer.children().remove();
     const trolleyCheckBoxes = [];
+    const trolleyStepsById = new Map(orderPickingSolution.trolleySteps.map(trolleyStep => [trolleyStep.id, trolleyStep]));
     let trolleyIndex = 0;
     for (const trolley of orderPickingSolution.trolleys) {
-        if (trolley.nextElement != null) {
-            printTrolleyPath(trolley, trolleyIndex, orderPickingSolution.trolleys.length, false);
+        if (trolley.steps.length > 0) {
+            printTrolleyPath(trolley, trolleyStepsById, trolleyIndex, orderPickingSolution.trolleys.length, false);
             trolleyCheckBoxes.push(trolley.id);
         }
         trolleyIndex++;
     }
     for (const trolley of orderPickingSolution.trolleys) {
-        if (trolley.nextElement != null) {
-            printTrolleyPath(trolley, trolleyIndex, orderPickingSolution.trolleys.length, true);
+        if (trolley.steps.length > 0) {
+            printTrolleyPath(trolley, trolleyStepsById, trolleyIndex, orderPickingSolution.trolleys.length, true);
             trolleyCheckBoxes.push(trolley.id);
         }
         trolleyIndex++;
@@ -436,8 +433,8 @@ function printTrolleysMap(orderPickingSolution) {
     }
 }
 
-function printTrolleyPath(trolley, trolleyIndex, trolleyCount, writeText) {
-    const trolleySteps = extractTrolleySteps(trolley);
+function printTrolleyPath(trolley, trolleyStepsById, trolleyIndex, trolleyCount, writeText) {
+    const trolleySteps = extractTrolleySteps(trolley, trolleyStepsById);
     const trolleyPath = [];
     const trolleyLocation = trolley.location;
 
@@ -0,0 +1,50 @@
+package org.acme.orderpicking.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
+import org.junit.jupiter.api.Test;
+
+class OrderPickingSolutionTest {
+
+    // Configured like the ObjectMapper of Quarkus.
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Test
+    void jsonRoundTripKeepsReferences() throws Exception {
+        OrderPickingSolution solution = new DemoDataGenerator().generateDemoData(2, 3);
+        Trolley trolley = solution.getTrolleys().get(0);
+        trolley.getSteps().addAll(solution.getTrolleySteps().subList(0, 2));
+
+        String json = objectMapper.writeValueAsString(solution);
+        OrderPickingSolution deserialized = objectMapper.readValue(json, OrderPickingSolution.class);
+        deserialized.init();
+
+        assertThat(objectMapper.writeValueAsString(deserialized)).isEqualTo(json);
+        List<TrolleyStep> trolleySteps = deserialized.getTrolleySteps();
+        List<TrolleyStep> deserializedTrolleySteps = deserialized.getTrolleys().get(0).getSteps();
+        assertThat(deserializedTrolleySteps).hasSize(2);
+        assertThat(deserializedTrolleySteps.get(0)).isSameAs(trolleySteps.get(0));
+        assertThat(deserializedTrolleySteps.get(1)).isSameAs(trolleySteps.get(1));
+        for (int i = 0; i < trolleySteps.size(); i++) {
+            Order order = solution.getTrolleySteps().get(i).getOrderItem().getOrder();
+            Order deserializedOrder = trolleySteps.get(i).getOrderItem().getOrder();
+            assertThat(deserializedOrder.getId()).isEqualTo(order.getId());
+            assertThat(deserializedOrder.getItems()).hasSameSizeAs(order.getItems());
+            for (OrderItem orderItem : deserializedOrder.getItems()) {
+                assertThat(orderItem.getOrder()).isSameAs(deserializedOrder);
+            }
+            assertThat(deserialized.getTrolleys().get(0).getLocation().getDistanceTo(trolleySteps.get(i).getLocation()))
+                    .isEqualTo(trolley.getLocation().getDistanceTo(solution.getTrolleySteps().get(i).getLocation()));
+        }
+    }
+
+}
@@ -9,18 +9,28 @@ import static org.acme.orderpicking.domain.Warehouse.Row.ROW_1;
 import static org.acme.orderpicking.domain.Warehouse.Row.ROW_2;
 import static org.acme.orderpicking.domain.Warehouse.Row.ROW_3;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class WarehouseTest {
 
+    private static final WarehouseLayout LAYOUT =
+            WarehouseLayout.grid(Warehouse.Column.values().length, Warehouse.Row.values().length);
+
     @ParameterizedTest
     @MethodSource("calculateDistanceParams")
     void calculateDistance(WarehouseLocation start, WarehouseLocation end, int expectedDistance) {
+        start.setLayout(LAYOUT);
+        end.setLayout(LAYOUT);
         assertThat(Warehouse.calculateDistance(start, end))
                 .withFailMessage("Distance from %s to %s must be %s", start, end, expectedDistance)
                 .isEqualTo(expectedDistance);
@@ -183,4 +193,47 @@ class WarehouseTest {
                         new WarehouseLocation(newShelvingId(COL_B, ROW_3), Shelving.Side.RIGHT, 11),
                         12));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = { WarehouseLayout.MAX_TABLE_LOCATION_COUNT, 0 })
+    void distanceLookupMatchesCalculation(int maxTableLocationCount) {
+        // An irregular layout: 3 shelvings on the first row, 2 shelvings shifted on the second.
+        WarehouseLayout layout = new WarehouseLayout(List.of(
+                new Shelving("(A,1)", 0, 0),
+                new Shelving("(B,1)", 5, 0),
+                new Shelving("(C,1)", 12, 0),
+                new Shelving("(A,2)", 2, 14),
+                new Shelving("(B,2)", 9, 14)), maxTableLocationCount);
+        List<WarehouseLocation> locations = new ArrayList<>();
+        for (Shelving shelving : layout.getShelvings()) {
+            for (Shelving.Side side : Shelving.Side.values()) {
+                for (int row = 0; row <= Shelving.ROWS_SIZE + 1; row++) {
+                    WarehouseLocation location = new WarehouseLocation(shelving.getId(), side, row);
+                    location.setLayout(layout);
+                    locations.add(location);
+                }
+            }
+        }
+        for (WarehouseLocation start : locations) {
+            for (WarehouseLocation end : locations) {
+                assertThat(start.getDistanceTo(end))
+                        .withFailMessage("Distance from %s to %s must be %s", start, end,
+                                layout.calculateDistance(start, end))
+                        .isEqualTo(layout.calculateDistance(start, end));
+            }
+        }
+        WarehouseLocation unknownLocation = new WarehouseLocation("(C,2)", Shelving.Side.LEFT, 1);
+        assertThatThrownBy(() -> unknownLocation.setLayout(layout))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void gridShelvingIds() {
+        assertThat(LAYOUT.getShelvings())
+                .extracting(Shelving::getId)
+                .contains(newShelvingId(COL_B, ROW_3), newShelvingId(COL_E, ROW_1));
+        assertThat(WarehouseLayout.grid(28, 1).getShelvings())
+                .extracting(Shelving::getId)
+                .endsWith("(Z,1)", "(AA,1)", "(AB,1)");
+    }
+}
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.SolverConfig;
 
+import org.acme.orderpicking.bootstrap.DemoDataGenerator;
 import org.acme.orderpicking.domain.OrderPickingSolution;
 import org.acme.orderpicking.persistence.OrderPickingRepository;
 import org.junit.jupiter.api.Test;
@@ -40,7 +41,7 @@ class OrderPickingEnvironmentTest {
 
     void solve(EnvironmentMode environmentMode) {
         // Load the problem
-        OrderPickingSolution problem = orderPickingRepository.find();
+        OrderPickingSolution problem = orderPickingRepository.find(DemoDataGenerator.DEMO_JOB_ID).orElseThrow().solution();
 
         // Update the environment
         SolverConfig updatedConfig = solverConfig.copyConfig();
@@ -9,7 +9,7 @@ import static org.acme.orderpicking.domain.Warehouse.Row.ROW_1;
 import static org.acme.orderpicking.domain.Warehouse.Row.ROW_2;
 import static org.acme.orderpicking.domain.Warehouse.Row.ROW_3;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
@@ -24,9 +24,9 @@ import org.acme.orderpicking.domain.OrderPickingSolution;
 import org.acme.orderpicking.domain.Product;
 import org.acme.orderpicking.domain.Shelving;
 import org.acme.orderpicking.domain.Trolley;
-import org.acme.orderpicking.domain.TrolleyOrTrolleyStep;
 import org.acme.orderpicking.domain.TrolleyStep;
 import org.acme.orderpicking.domain.Warehouse;
+import org.acme.orderpicking.domain.WarehouseLayout;
 import org.acme.orderpicking.domain.WarehouseLocation;
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +38,9 @@ class OrderPickingConstraintProviderTest {
     @Inject
     ConstraintVerifier<OrderPickingConstraintProvider, OrderPickingSolution> constraintVerifier;
 
+    private static final WarehouseLayout LAYOUT =
+            WarehouseLayout.grid(Warehouse.Column.values().length, Warehouse.Row.values().length);
+
     @Test
     void requiredNumberOfBucketsWithPenalization() {
         Order order1 = mockOrder("order1",
@@ -115,9 +118,10 @@ class OrderPickingConstraintProviderTest {
                 mockTrolleyStep(new WarehouseLocation(newShelvingId(COL_C, ROW_3), Shelving.Side.RIGHT, 1));
         TrolleyStep previousTrolleyStep =
                 mockTrolleyStep(new WarehouseLocation(newShelvingId(COL_E, ROW_1), Shelving.Side.RIGHT, 3));
-        currentTrolleyStep.setPreviousElement(previousTrolleyStep);
+        mockTrolley(1, 1, previousTrolleyStep, currentTrolleyStep);
 
-        Warehouse.calculateDistance(currentTrolleyStep.getLocation(), previousTrolleyStep.getLocation());
+        currentTrolleyStep.setDistanceFromPreviousStep(
+                Warehouse.calculateDistance(previousTrolleyStep.getLocation(), currentTrolleyStep.getLocation()));
         constraintVerifier.verifyThat(OrderPickingConstraintProvider::minimizeDistanceFromPreviousTrolleyStep)
                 .given(currentTrolleyStep)
                 .penalizesBy(34);
@@ -137,6 +141,7 @@ class OrderPickingConstraintProviderTest {
                 lastTrolleyStep);
 
         WarehouseLocation pathOriginLocation = new WarehouseLocation(newShelvingId(COL_A, ROW_1), Shelving.Side.LEFT, 0);
+        pathOriginLocation.setLayout(LAYOUT);
         trolley.setLocation(pathOriginLocation);
         constraintVerifier.verifyThat(OrderPickingConstraintProvider::minimizeDistanceFromLastTrolleyStepToPathOrigin)
                 .given(intermediateTrolleyStep1,
@@ -209,6 +214,7 @@ class OrderPickingConstraintProviderTest {
     }
 
     private static TrolleyStep mockTrolleyStep(WarehouseLocation location) {
+        location.setLayout(LAYOUT);
         OrderItem item = new OrderItem();
         Product product = new Product();
         product.setLocation(location);
@@ -225,21 +231,18 @@ class OrderPickingConstraintProviderTest {
     }
 
     private static List<TrolleyStep> trolleySteps(Trolley trolley) {
-        ArrayList<TrolleyStep> result = new ArrayList<>();
-        TrolleyStep nextElement = trolley.getNextElement();
-        while (nextElement != null) {
-            result.add(nextElement);
-            nextElement = nextElement.getNextElement();
-        }
-        return result;
+        return trolley.getSteps();
     }
 
     private static void linkPathElements(Trolley trolley, TrolleyStep... trolleySteps) {
-        TrolleyOrTrolleyStep previousStep = trolley;
+        trolley.setSteps(Arrays.asList(trolleySteps));
+        TrolleyStep previousStep = null;
         for (TrolleyStep trolleyStep : trolleySteps) {
             trolleyStep.setTrolley(trolley);
-            trolleyStep.setPreviousElement(previousStep);
-            previousStep.setNextElement(trolleyStep);
+            trolleyStep.setPreviousStep(previousStep);
+            if (previousStep != null) {
+                previousStep.setNextStep(trolleyStep);
+            }
             previousStep = trolleyStep;
         }
     }
@@ -0,0 +1,51 @@
+package org.acme.orderpicking.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.acme.orderpicking.domain.Order;
+import org.acme.orderpicking.domain.OrderItem;
+import org.acme.orderpicking.domain.Product;
+import org.acme.orderpicking.domain.Trolley;
+import org.acme.orderpicking.domain.TrolleyStep;
+import org.junit.jupiter.api.Test;
+
+class RequiredBucketsCollectorTest {
+
+    private final RequiredBucketsCollector collector = new RequiredBucketsCollector();
+
+    @Test
+    void addAndRemoveTrolleySteps() {
+        Trolley trolley = new Trolley("1", 2, 5, null);
+        Order order1 = new Order();
+        Order order2 = new Order();
+        RequiredBucketsCollector.BucketCounter bucketCounter = collector.supplier().get();
+
+        Runnable undo1 = add(bucketCounter, mockTrolleyStep(trolley, order1, 4));
+        assertThat(collector.finisher().apply(bucketCounter)).isEqualTo(1);
+        Runnable undo2 = add(bucketCounter, mockTrolleyStep(trolley, order1, 5));
+        assertThat(collector.finisher().apply(bucketCounter)).isEqualTo(2);
+        Runnable undo3 = add(bucketCounter, mockTrolleyStep(trolley, order2, 1));
+        assertThat(collector.finisher().apply(bucketCounter)).isEqualTo(3);
+
+        // A step is removed with the bucket capacity it was added with, even if its trolley changed since.
+        trolley.setBucketCapacity(1);
+        undo1.run();
+        assertThat(collector.finisher().apply(bucketCounter)).isEqualTo(2);
+        undo3.run();
+        assertThat(collector.finisher().apply(bucketCounter)).isEqualTo(1);
+        undo2.run();
+        assertThat(collector.finisher().apply(bucketCounter)).isZero();
+    }
+
+    private Runnable add(RequiredBucketsCollector.BucketCounter bucketCounter, TrolleyStep trolleyStep) {
+        return collector.accumulator().apply(bucketCounter, trolleyStep);
+    }
+
+    private static TrolleyStep mockTrolleyStep(Trolley trolley, Order order, int volume) {
+        Product product = new Product();
+        product.setVolume(volume);
+        TrolleyStep trolleyStep = new TrolleyStep("", new OrderItem("", order, product));
+        trolleyStep.setTrolley(trolley);
+        return trolleyStep;
+    }
+}
@@ -3,6 +3,7 @@ package org.acme.projectjobschedule.domain;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.entity.PlanningPin;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
 import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
 import ai.timefold.solver.core.api.domain.variable.ShadowSources;
@@ -11,12 +12,9 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIdentityReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
-import org.acme.projectjobschedule.domain.solver.DelayStrengthComparator;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.IntStream;
 
 @PlanningEntity
 @JsonIdentityInfo(scope = Allocation.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
@@ -38,11 +36,17 @@ public class Allocation {
     private List<Allocation> predecessorAllocations;
     @JsonIdentityReference(alwaysAsId = true)
     private List<Allocation> successorAllocations;
+    /**
+     * Null until {@link ProjectJobSchedulePreprocessor} tightens it, then the range of the project applies.
+     */
+    @JsonIgnore
+    private CountableValueRange<Integer> delayRange;
 
     // Planning variables: changes during planning, between score calculations.
     @PlanningVariable
     private ExecutionMode executionMode;
-    @PlanningVariable(strengthComparatorClass = DelayStrengthComparator.class)
+    // The range is in increasing order already, so the values are never sorted into a list.
+    @PlanningVariable
     private Integer delay; // In days
 
     // Shadow variables
@@ -55,8 +59,6 @@ public class Allocation {
     private Integer startDate;
     @ShadowVariable(supplierName = "endDateSupplier")
     private Integer endDate;
-    @ShadowVariable(supplierName = "busyDatesSupplier")
-    private List<Integer> busyDates;
 
     public Allocation() {
     }
@@ -83,8 +85,12 @@ public class Allocation {
 
     @ValueRangeProvider
     @JsonIgnore
-    public List<Integer> getDelayRange() {
-        return IntStream.range(0, 500).boxed().toList();
+    public CountableValueRange<Integer> getDelayRange() {
+        return delayRange != null ? delayRange : job.getProject().getDelayRange();
+    }
+
+    public void setDelayRange(CountableValueRange<Integer> delayRange) {
+        this.delayRange = delayRange;
     }
 
     // ************************************************************************
@@ -199,11 +205,6 @@ public class Allocation {
         return endDate;
     }
 
-    @JsonIgnore
-    public List<Integer> getBusyDates() {
-        return busyDates;
-    }
-
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -234,22 +235,9 @@ public class Allocation {
         return getStartDate() + (executionMode == null ? 0 : executionMode.getDuration());
     }
 
-    @SuppressWarnings("unused")
-    @ShadowSources({"startDate", "endDate"})
-    public List<Integer> busyDatesSupplier() {
-        var start = getStartDate();
-        var end = getEndDate();
-        var dates = new Integer[end - start];
-        for (int i = 0; i < dates.length; i++) {
-            dates[i] = start + i;
-        }
-        return Arrays.asList(dates);
-    }
-
     public void updateShadowsAfterPredecessorDoneDate() {
         startDate = startDateSupplier();
         endDate = endDateSupplier();
-        busyDates = busyDatesSupplier();
     }
 
     @JsonIgnore
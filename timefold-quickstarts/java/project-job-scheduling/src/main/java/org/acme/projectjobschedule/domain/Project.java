@@ -2,6 +2,9 @@ package org.acme.projectjobschedule.domain;
 
 import java.util.Objects;
 
+import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeFactory;
+
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
@@ -9,9 +12,23 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 @JsonIdentityInfo(scope = Project.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Project {
 
+    public static final int DEFAULT_MAX_DELAY = 500;
+
     private String id;
     private int releaseDate;
+    /**
+     * 0 until {@link ProjectJobSchedulePreprocessor} calculates it, unless the project comes with it.
+     */
     private int criticalPathDuration;
+    /**
+     * The delay of every allocation of this project is lower than this, in days.
+     */
+    private int maxDelay = DEFAULT_MAX_DELAY;
+    /**
+     * Shared by all allocations of this project, rebuilt when {@link #maxDelay} changes.
+     */
+    @JsonIgnore
+    private CountableValueRange<Integer> delayRange = ValueRangeFactory.createIntValueRange(0, DEFAULT_MAX_DELAY);
 
     public Project() {
     }
@@ -50,10 +67,31 @@ public class Project {
         this.criticalPathDuration = criticalPathDuration;
     }
 
+    public int getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(int maxDelay) {
+        if (maxDelay < 1) {
+            throw new IllegalArgumentException("The maxDelay (" + maxDelay + ") of project (" + id
+                    + ") must be at least 1.");
+        }
+        this.maxDelay = maxDelay;
+        this.delayRange = ValueRangeFactory.createIntValueRange(0, maxDelay);
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
 
+    /**
+     * @return the delays from 0 to {@link #getMaxDelay()} (exclusive), without a list of boxed values
+     */
+    @JsonIgnore
+    public CountableValueRange<Integer> getDelayRange() {
+        return delayRange;
+    }
+
     @JsonIgnore
     public int getCriticalPathEndDate() {
         return releaseDate + criticalPathDuration;
@@ -0,0 +1,156 @@
+package org.acme.projectjobschedule.domain;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeFactory;
+
+/**
+ * Analyzes the precedence graph of the jobs of every project before solving, in parallel across projects:
+ * <ul>
+ * <li>fills in the {@link Project#getCriticalPathDuration() critical path duration} of the projects that have none,
+ * the longest path from the source to the sink job with the shortest execution mode of every job,</li>
+ * <li>tightens the delay range of every allocation to its window:
+ * a job can't start before its earliest start, the longest path from the source job,
+ * and no job needs to start so late that its project ends after all jobs of all projects
+ * would have ended one after another in their longest execution mode.</li>
+ * </ul>
+ */
+public final class ProjectJobSchedulePreprocessor {
+
+    private ProjectJobSchedulePreprocessor() {
+    }
+
+    public static void preprocess(ProjectJobSchedule schedule) {
+        Map<Project, List<Job>> projectToJobs = schedule.getJobs().stream()
+                .collect(Collectors.groupingBy(Job::getProject, LinkedHashMap::new, Collectors.toList()));
+        List<PrecedenceGraph> graphs = projectToJobs.entrySet().parallelStream()
+                .map(entry -> new PrecedenceGraph(entry.getKey(), entry.getValue()))
+                .toList();
+        long horizon = 0L;
+        for (PrecedenceGraph graph : graphs) {
+            if (graph.project.getCriticalPathDuration() == 0) {
+                graph.project.setCriticalPathDuration(graph.criticalPathDuration);
+            }
+            horizon += graph.serialDuration;
+        }
+        Map<Job, Integer> jobToMaxDelay = new HashMap<>(schedule.getJobs().size() * 2);
+        for (PrecedenceGraph graph : graphs) {
+            for (int i = 0; i < graph.jobs.size(); i++) {
+                long latestDelay = horizon - graph.earliestStarts[i] - graph.tails[i];
+                int maxDelay = (int) Math.max(1L, Math.min(latestDelay + 1L, graph.project.getMaxDelay()));
+                jobToMaxDelay.put(graph.jobs.get(i), maxDelay);
+            }
+        }
+        // Allocations with the same window share their delay range.
+        Map<Integer, CountableValueRange<Integer>> maxDelayToRange = new HashMap<>();
+        for (Allocation allocation : schedule.getAllocations()) {
+            Integer maxDelay = jobToMaxDelay.get(allocation.getJob());
+            if (maxDelay != null) {
+                allocation.setDelayRange(maxDelayToRange.computeIfAbsent(maxDelay,
+                        key -> ValueRangeFactory.createIntValueRange(0, key)));
+            }
+        }
+    }
+
+    private static final class PrecedenceGraph {
+
+        private final Project project;
+        private final List<Job> jobs;
+        /**
+         * The earliest start of every job, relative to the start of its project.
+         */
+        private final long[] earliestStarts;
+        /**
+         * The longest path from the start of every job to the end of its project.
+         */
+        private final long[] tails;
+        private final int criticalPathDuration;
+        /**
+         * The duration of all jobs one after another, in their longest execution mode.
+         */
+        private final long serialDuration;
+
+        private PrecedenceGraph(Project project, List<Job> jobs) {
+            this.project = project;
+            this.jobs = jobs;
+            int jobCount = jobs.size();
+            Map<Job, Integer> jobToIndex = new HashMap<>(jobCount * 2);
+            for (int i = 0; i < jobCount; i++) {
+                jobToIndex.put(jobs.get(i), i);
+            }
+            int[][] successors = new int[jobCount][];
+            int[] predecessorCounts = new int[jobCount];
+            int[] shortestDurations = new int[jobCount];
+            long serialDuration = 0L;
+            for (int i = 0; i < jobCount; i++) {
+                Job job = jobs.get(i);
+                List<Job> successorJobs = job.getSuccessorJobs() == null ? List.of() : job.getSuccessorJobs();
+                successors[i] = new int[successorJobs.size()];
+                for (int j = 0; j < successorJobs.size(); j++) {
+                    Integer successorIndex = jobToIndex.get(successorJobs.get(j));
+                    if (successorIndex == null) {
+                        throw new IllegalArgumentException("The successor job (" + successorJobs.get(j).getId()
+                                + ") of job (" + job.getId() + ") is not a job of project (" + project.getId() + ").");
+                    }
+                    successors[i][j] = successorIndex;
+                    predecessorCounts[successorIndex]++;
+                }
+                List<ExecutionMode> executionModes =
+                        job.getExecutionModes() == null ? List.of() : job.getExecutionModes();
+                shortestDurations[i] = executionModes.stream().mapToInt(ExecutionMode::getDuration).min().orElse(0);
+                serialDuration += executionModes.stream().mapToInt(ExecutionMode::getDuration).max().orElse(0);
+            }
+            this.serialDuration = serialDuration;
+
+            // Kahn's algorithm: a job comes after all its predecessors.
+            int[] order = new int[jobCount];
+            int orderSize = 0;
+            Queue<Integer> readyJobs = new ArrayDeque<>();
+            for (int i = 0; i < jobCount; i++) {
+                if (predecessorCounts[i] == 0) {
+                    readyJobs.add(i);
+                }
+            }
+            while (!readyJobs.isEmpty()) {
+                int i = readyJobs.remove();
+                order[orderSize++] = i;
+                for (int successor : successors[i]) {
+                    if (--predecessorCounts[successor] == 0) {
+                        readyJobs.add(successor);
+                    }
+                }
+            }
+            if (orderSize != jobCount) {
+                throw new IllegalArgumentException("The jobs of project (" + project.getId()
+                        + ") have a cycle in their successor jobs.");
+            }
+
+            earliestStarts = new long[jobCount];
+            long criticalPathDuration = 0L;
+            for (int i : order) {
+                long earliestEnd = earliestStarts[i] + shortestDurations[i];
+                criticalPathDuration = Math.max(criticalPathDuration, earliestEnd);
+                for (int successor : successors[i]) {
+                    earliestStarts[successor] = Math.max(earliestStarts[successor], earliestEnd);
+                }
+            }
+            this.criticalPathDuration = Math.toIntExact(criticalPathDuration);
+            tails = new long[jobCount];
+            for (int k = jobCount - 1; k >= 0; k--) {
+                int i = order[k];
+                long successorsTail = 0L;
+                for (int successor : successors[i]) {
+                    successorsTail = Math.max(successorsTail, tails[successor]);
+                }
+                tails[i] = shortestDurations[i] + successorsTail;
+            }
+        }
+    }
+}
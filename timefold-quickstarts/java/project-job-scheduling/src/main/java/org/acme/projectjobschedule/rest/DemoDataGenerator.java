@@ -19,6 +19,7 @@ import org.acme.projectjobschedule.domain.ExecutionMode;
 import org.acme.projectjobschedule.domain.Job;
 import org.acme.projectjobschedule.domain.Project;
 import org.acme.projectjobschedule.domain.ProjectJobSchedule;
+import org.acme.projectjobschedule.domain.ProjectJobSchedulePreprocessor;
 import org.acme.projectjobschedule.domain.ResourceRequirement;
 import org.acme.projectjobschedule.domain.resource.GlobalResource;
 import org.acme.projectjobschedule.domain.resource.LocalResource;
@@ -27,26 +28,47 @@ import org.acme.projectjobschedule.domain.resource.Resource;
 @ApplicationScoped
 public class DemoDataGenerator {
 
-    private static final Project FIRST_PROJECT = new Project("0", 0, 10);
-    private static final Project SECOND_PROJECT = new Project("1", 4, 19);
+    // The capacities of the local resources of the first and second project, repeated for more projects.
+    private static final int[][] LOCAL_RESOURCE_CAPACITIES = { { 13, 44, 39 }, { 24, 66, 56 } };
 
     public ProjectJobSchedule generateDemoData() {
+        return generateDemoData(2, 12);
+    }
+
+    /**
+     * Generates projects like the demo ones, for example to benchmark large multi-project instances.
+     * The first two projects are the demo ones, the other projects start 4 days after each other.
+     * The critical path durations and delay ranges come from {@link ProjectJobSchedulePreprocessor}.
+     *
+     * @param projectCount at least 1
+     * @param jobCountPerProject at least 5, including the source and sink job
+     */
+    public ProjectJobSchedule generateDemoData(int projectCount, int jobCountPerProject) {
+        if (projectCount < 1 || jobCountPerProject < 5) {
+            throw new IllegalArgumentException("The projectCount (" + projectCount + ") must be at least 1 and "
+                    + "the jobCountPerProject (" + jobCountPerProject + ") at least 5.");
+        }
         Random random = new Random(0);
         ProjectJobSchedule projectJobSchedule = new ProjectJobSchedule();
 
         // Projects
-        List<Project> projects = List.of(FIRST_PROJECT, SECOND_PROJECT);
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            Project project = new Project(String.valueOf(i));
+            project.setReleaseDate(4 * i);
+            projects.add(project);
+        }
         // Resources
-        List<Resource> resources = List.of(
-                new GlobalResource("0", 16),
-                new LocalResource("1", FIRST_PROJECT, 13, true),
-                new LocalResource("2", FIRST_PROJECT, 44, false),
-                new LocalResource("3", FIRST_PROJECT, 39, false),
-                new LocalResource("4", SECOND_PROJECT, 24, true),
-                new LocalResource("5", SECOND_PROJECT, 66, false),
-                new LocalResource("6", SECOND_PROJECT, 56, false));
+        List<Resource> resources = new ArrayList<>(1 + 3 * projectCount);
+        resources.add(new GlobalResource("0", 8 * projectCount));
+        for (Project project : projects) {
+            int[] capacities = LOCAL_RESOURCE_CAPACITIES[projects.indexOf(project) % 2];
+            for (int i = 0; i < capacities.length; i++) {
+                resources.add(new LocalResource(String.valueOf(resources.size()), project, capacities[i], i == 0));
+            }
+        }
         // Jobs
-        List<Job> jobs = generateJobs(24, projects, resources, random);
+        List<Job> jobs = generateJobs(jobCountPerProject, projects, resources, random);
         // Allocations
         List<Allocation> allocations = generateAllocations(jobs);
         // Update schedule
@@ -58,13 +80,15 @@ public class DemoDataGenerator {
         projectJobSchedule.setResourceRequirements(
                 projectJobSchedule.getExecutionModes().stream().flatMap(e -> e.getResourceRequirements().stream()).toList());
 
+        ProjectJobSchedulePreprocessor.preprocess(projectJobSchedule);
+
         SolutionManager.updateShadowVariables(projectJobSchedule);
         return projectJobSchedule;
     }
 
-    private List<Job> generateJobs(int jobsSize, List<Project> projects, List<Resource> resources, Random random) {
-        List<Job> jobs = new ArrayList<>(jobsSize);
-        int jobsCountPerProject = jobsSize / 2;
+    private List<Job> generateJobs(int jobsCountPerProject, List<Project> projects, List<Resource> resources,
+            Random random) {
+        List<Job> jobs = new ArrayList<>(jobsCountPerProject * projects.size());
         int countJob = 0;
         for (Project project : projects) {
             // Generate the job list
@@ -19,6 +19,7 @@ import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.acme.projectjobschedule.domain.ProjectJobSchedule;
+import org.acme.projectjobschedule.domain.ProjectJobSchedulePreprocessor;
 import org.acme.projectjobschedule.rest.exception.ErrorInfo;
 import org.acme.projectjobschedule.rest.exception.ScheduleSolverException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -86,6 +87,7 @@ public class ProjectJobSchedulingResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String solve(ProjectJobSchedule problem) {
         String jobId = UUID.randomUUID().toString();
+        ProjectJobSchedulePreprocessor.preprocess(problem);
         // Need to update the shadow variables since their default is not null
         SolutionManager.updateShadowVariables(problem);
         jobIdToJob.put(jobId, Job.ofSchedule(problem));
@@ -114,6 +116,7 @@ public class ProjectJobSchedulingResource {
     @Path("analyze")
     public ScoreAnalysis<HardSoftScore> analyze(ProjectJobSchedule problem,
             @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
+        ProjectJobSchedulePreprocessor.preprocess(problem);
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
@@ -0,0 +1,39 @@
+package org.acme.projectjobschedule.solver;
+
+import java.util.stream.IntStream;
+
+import ai.timefold.solver.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+
+import org.acme.projectjobschedule.domain.Allocation;
+import org.acme.projectjobschedule.domain.ResourceRequirement;
+
+/**
+ * Scores exactly like {@link ProjectJobSchedulingConstraintProvider},
+ * but checks the renewable resource capacity per busy day instead of with the {@link ResourceUsageProfileCollector},
+ * as it did before, for comparison.
+ * Select it with {@code quarkus.timefold.solver-config-xml=perDaySolverConfig.xml}.
+ */
+public class PerDayProjectJobSchedulingConstraintProvider extends ProjectJobSchedulingConstraintProvider {
+
+    @Override
+    protected Constraint renewableResourceCapacity(ConstraintFactory constraintFactory) {
+        return constraintFactory.forEach(ResourceRequirement.class)
+                .filter(ResourceRequirement::isResourceRenewable)
+                .join(Allocation.class,
+                        Joiners.equal(ResourceRequirement::getExecutionMode, Allocation::getExecutionMode))
+                .flattenLast(allocation -> IntStream.range(allocation.getStartDate(), allocation.getEndDate())
+                        .boxed()
+                        .toList())
+                .groupBy((resourceReq, date) -> resourceReq.getResource(),
+                        (resourceReq, date) -> date,
+                        ConstraintCollectors.sum((resourceReq, date) -> resourceReq.getRequirement()))
+                .filter((resourceReq, date, totalRequirement) -> totalRequirement > resourceReq.getCapacity())
+                .penalize(HardMediumSoftScore.ONE_HARD,
+                        (resourceReq, date, totalRequirement) -> totalRequirement - resourceReq.getCapacity())
+                .asConstraint("Renewable resource capacity");
+    }
+}
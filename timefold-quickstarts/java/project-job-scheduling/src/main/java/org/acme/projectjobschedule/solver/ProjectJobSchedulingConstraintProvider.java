@@ -41,13 +41,9 @@ public class ProjectJobSchedulingConstraintProvider implements ConstraintProvide
                 .filter(ResourceRequirement::isResourceRenewable)
                 .join(Allocation.class,
                         Joiners.equal(ResourceRequirement::getExecutionMode, Allocation::getExecutionMode))
-                .flattenLast(Allocation::getBusyDates)
-                .groupBy((resourceReq, date) -> resourceReq.getResource(),
-                        (resourceReq, date) -> date,
-                        ConstraintCollectors.sum((resourceReq, date) -> resourceReq.getRequirement()))
-                .filter((resourceReq, date, totalRequirement) -> totalRequirement > resourceReq.getCapacity())
-                .penalize(HardMediumSoftScore.ONE_HARD,
-                        (resourceReq, date, totalRequirement) -> totalRequirement - resourceReq.getCapacity())
+                .groupBy((requirement, allocation) -> requirement.getResource(), new ResourceUsageProfileCollector())
+                .filter((resource, overload) -> overload > 0)
+                .penalize(HardMediumSoftScore.ONE_HARD, (resource, overload) -> overload)
                 .asConstraint("Renewable resource capacity");
     }
 
@@ -0,0 +1,108 @@
+package org.acme.projectjobschedule.solver;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
+
+import org.acme.projectjobschedule.domain.Allocation;
+import org.acme.projectjobschedule.domain.ResourceRequirement;
+
+/**
+ * Collects the overload of one renewable resource: the sum over all days of the requirements beyond its capacity.
+ * <p>
+ * Keeps the usage of the resource as a step function over the [start, end) intervals of the allocations,
+ * so adding or removing an allocation only updates the steps it overlaps,
+ * instead of emitting one tuple per busy day of the allocation.
+ */
+final class ResourceUsageProfileCollector implements
+        BiConstraintCollector<ResourceRequirement, Allocation, ResourceUsageProfileCollector.UsageProfile, Integer> {
+
+    @Override
+    public Supplier<UsageProfile> supplier() {
+        return UsageProfile::new;
+    }
+
+    @Override
+    public TriFunction<UsageProfile, ResourceRequirement, Allocation, Runnable> accumulator() {
+        return UsageProfile::add;
+    }
+
+    @Override
+    public Function<UsageProfile, Integer> finisher() {
+        return UsageProfile::getOverload;
+    }
+
+    static final class UsageProfile {
+
+        /**
+         * The usage from a date (inclusive) until the next date in the map (exclusive).
+         * The usage before the first date and from the last date is 0.
+         */
+        private final TreeMap<Integer, Integer> dateToUsage = new TreeMap<>();
+        private int overload = 0;
+
+        private Runnable add(ResourceRequirement resourceRequirement, Allocation allocation) {
+            // The allocation may have moved by the time it's removed, so keep its interval.
+            Integer start = allocation.getStartDate();
+            Integer end = allocation.getEndDate();
+            if (start == null || end == null || start >= end) {
+                return () -> {
+                };
+            }
+            int requirement = resourceRequirement.getRequirement();
+            int capacity = resourceRequirement.getResource().getCapacity();
+            update(start, end, requirement, capacity);
+            return () -> update(start, end, -requirement, capacity);
+        }
+
+        private void update(int start, int end, int requirementDelta, int capacity) {
+            split(start);
+            split(end);
+            for (Map.Entry<Integer, Integer> entry : dateToUsage.subMap(start, end).entrySet()) {
+                int usage = entry.getValue();
+                // The end is a step too, so every step before it has a next one.
+                int days = dateToUsage.higherKey(entry.getKey()) - entry.getKey();
+                overload += days * (overload(usage + requirementDelta, capacity) - overload(usage, capacity));
+                entry.setValue(usage + requirementDelta);
+            }
+            merge(start);
+            merge(end);
+        }
+
+        private static int overload(int usage, int capacity) {
+            return Math.max(0, usage - capacity);
+        }
+
+        /**
+         * Makes the date a step of the profile, without changing the usage.
+         */
+        private void split(int date) {
+            if (!dateToUsage.containsKey(date)) {
+                Map.Entry<Integer, Integer> previous = dateToUsage.lowerEntry(date);
+                dateToUsage.put(date, previous == null ? 0 : previous.getValue());
+            }
+        }
+
+        /**
+         * Removes the step at the date if the usage doesn't change there, to keep the profile small.
+         */
+        private void merge(int date) {
+            Integer usage = dateToUsage.get(date);
+            if (usage == null) {
+                return;
+            }
+            Map.Entry<Integer, Integer> previous = dateToUsage.lowerEntry(date);
+            if (previous == null ? usage == 0 : usage.equals(previous.getValue())) {
+                dateToUsage.remove(date);
+            }
+        }
+
+        private int getOverload() {
+            return overload;
+        }
+    }
+}
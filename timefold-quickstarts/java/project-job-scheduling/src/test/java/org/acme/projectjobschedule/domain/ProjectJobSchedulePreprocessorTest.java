@@ -0,0 +1,93 @@
+package org.acme.projectjobschedule.domain;
+
+import static org.acme.projectjobschedule.domain.JobType.SINK;
+import static org.acme.projectjobschedule.domain.JobType.SOURCE;
+import static org.acme.projectjobschedule.domain.JobType.STANDARD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ProjectJobSchedulePreprocessorTest {
+
+    @Test
+    void criticalPathAndDelayRanges() {
+        Project project = new Project("1");
+        Job source = job("0", project, SOURCE, 0);
+        Job first = job("1", project, STANDARD, 2, 3);
+        Job second = job("2", project, STANDARD, 4);
+        Job sink = job("3", project, SINK, 0);
+        source.setSuccessorJobs(List.of(first, second));
+        first.setSuccessorJobs(List.of(sink));
+        second.setSuccessorJobs(List.of(sink));
+        sink.setSuccessorJobs(List.of());
+        ProjectJobSchedule schedule = schedule(source, first, second, sink);
+
+        ProjectJobSchedulePreprocessor.preprocess(schedule);
+
+        // The second job, with the shortest duration of the first job.
+        assertThat(project.getCriticalPathDuration()).isEqualTo(4);
+        // All jobs one after another take 3 + 4 days: no job needs to start after day 7 minus its tail.
+        List<Allocation> allocations = schedule.getAllocations();
+        assertThat(allocations.get(0).getDelayRange().getSize()).isEqualTo(4);
+        assertThat(allocations.get(1).getDelayRange().getSize()).isEqualTo(6);
+        assertThat(allocations.get(2).getDelayRange().getSize()).isEqualTo(4);
+        // The sink starts on day 4 at the earliest.
+        assertThat(allocations.get(3).getDelayRange().getSize()).isEqualTo(4);
+        assertThat(allocations.get(2).getDelayRange()).isSameAs(allocations.get(0).getDelayRange());
+    }
+
+    @Test
+    void keepSuppliedCriticalPathAndMaxDelay() {
+        Project project = new Project("1", 0, 10);
+        project.setMaxDelay(2);
+        Job source = job("0", project, SOURCE, 0);
+        Job standard = job("1", project, STANDARD, 5);
+        Job sink = job("2", project, SINK, 0);
+        source.setSuccessorJobs(List.of(standard));
+        standard.setSuccessorJobs(List.of(sink));
+        sink.setSuccessorJobs(List.of());
+        ProjectJobSchedule schedule = schedule(source, standard, sink);
+
+        ProjectJobSchedulePreprocessor.preprocess(schedule);
+
+        assertThat(project.getCriticalPathDuration()).isEqualTo(10);
+        assertThat(schedule.getAllocations())
+                .allSatisfy(allocation -> assertThat(allocation.getDelayRange().getSize()).isLessThanOrEqualTo(2));
+    }
+
+    @Test
+    void failOnCycle() {
+        Project project = new Project("1");
+        Job first = job("1", project, STANDARD, 1);
+        Job second = job("2", project, STANDARD, 1);
+        first.setSuccessorJobs(List.of(second));
+        second.setSuccessorJobs(List.of(first));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ProjectJobSchedulePreprocessor.preprocess(schedule(first, second)))
+                .withMessageContaining("cycle");
+    }
+
+    private static Job job(String id, Project project, JobType jobType, int... durations) {
+        Job job = new Job(id, project, jobType);
+        List<ExecutionMode> executionModes = new ArrayList<>(durations.length);
+        for (int duration : durations) {
+            executionModes.add(new ExecutionMode(id + "-" + executionModes.size(), job, duration, List.of()));
+        }
+        job.setExecutionModes(executionModes);
+        return job;
+    }
+
+    private static ProjectJobSchedule schedule(Job... jobs) {
+        ProjectJobSchedule schedule = new ProjectJobSchedule();
+        schedule.setJobs(List.of(jobs));
+        schedule.setAllocations(List.of(jobs).stream()
+                .map(job -> new Allocation(job.getId(), job))
+                .toList());
+        return schedule;
+    }
+}
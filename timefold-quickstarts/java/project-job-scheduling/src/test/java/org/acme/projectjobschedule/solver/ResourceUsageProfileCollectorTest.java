@@ -0,0 +1,71 @@
+package org.acme.projectjobschedule.solver;
+
+import static org.acme.projectjobschedule.domain.JobType.STANDARD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.acme.projectjobschedule.domain.Allocation;
+import org.acme.projectjobschedule.domain.ExecutionMode;
+import org.acme.projectjobschedule.domain.Job;
+import org.acme.projectjobschedule.domain.Project;
+import org.acme.projectjobschedule.domain.ResourceRequirement;
+import org.acme.projectjobschedule.domain.resource.LocalResource;
+import org.junit.jupiter.api.Test;
+
+class ResourceUsageProfileCollectorTest {
+
+    private final ResourceUsageProfileCollector collector = new ResourceUsageProfileCollector();
+
+    @Test
+    void addAndRemoveAllocations() {
+        Project project = new Project("1");
+        LocalResource resource = new LocalResource("1", project, 10, true);
+        ResourceUsageProfileCollector.UsageProfile profile = collector.supplier().get();
+
+        // Overloaded by 2 on days 5 to 9.
+        Allocation first = allocation(project, 0, 10);
+        Allocation second = allocation(project, 5, 10);
+        Runnable undo1 = add(profile, new ResourceRequirement("1", null, resource, 6), first);
+        assertThat(collector.finisher().apply(profile)).isZero();
+        Runnable undo2 = add(profile, new ResourceRequirement("2", null, resource, 6), second);
+        assertThat(collector.finisher().apply(profile)).isEqualTo(10);
+        // Still overloaded by 2 on days 5 to 7, now by 13 on days 8 and 9 and by 7 on days 10 to 12.
+        Runnable undo3 = add(profile, new ResourceRequirement("3", null, resource, 11), allocation(project, 8, 5));
+        assertThat(collector.finisher().apply(profile)).isEqualTo(3 * 2 + 2 * 13 + 3 * 7);
+
+        // An allocation is removed with the interval it was added with, even if it moved since.
+        second.setDelay(50);
+        second.updateShadowsAfterPredecessorDoneDate();
+        undo2.run();
+        assertThat(collector.finisher().apply(profile)).isEqualTo(2 * 7 + 3);
+        undo3.run();
+        assertThat(collector.finisher().apply(profile)).isZero();
+        undo1.run();
+        assertThat(collector.finisher().apply(profile)).isZero();
+    }
+
+    @Test
+    void ignoreEmptyInterval() {
+        Project project = new Project("1");
+        LocalResource resource = new LocalResource("1", project, 0, true);
+        ResourceUsageProfileCollector.UsageProfile profile = collector.supplier().get();
+
+        add(profile, new ResourceRequirement("1", null, resource, 1), allocation(project, 3, 0)).run();
+        assertThat(collector.finisher().apply(profile)).isZero();
+    }
+
+    private Runnable add(ResourceUsageProfileCollector.UsageProfile profile, ResourceRequirement resourceRequirement,
+            Allocation allocation) {
+        return collector.accumulator().apply(profile, resourceRequirement, allocation);
+    }
+
+    private static Allocation allocation(Project project, int startDate, int duration) {
+        Job job = new Job("1", project, STANDARD);
+        Allocation allocation = new Allocation("1", job);
+        allocation.setExecutionMode(new ExecutionMode("1", job, duration, List.of()));
+        allocation.setDelay(startDate);
+        allocation.updateShadowsAfterPredecessorDoneDate();
+        return allocation;
+    }
+}
@@ -1,6 +0,0 @@
-package org.acme.schooltimetabling.domain;
-
-public enum SolverStatus {
-    NOT_SOLVING,
-    SOLVING
-}
\ No newline at end of file
@@ -1,27 +1,141 @@
 package org.acme.schooltimetabling.domain;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+
+@JsonIdentityInfo(scope = Timeslot.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Timeslot {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Lessons separated by at most this gap count as sequential.
+    private static final int MAX_SEQUENTIAL_GAP_MINUTES = 30;
+
+    @PlanningId
     private String id;
+    // The UI calls it dayOfWeek.
+    @JsonAlias("dayOfWeek")
     private String day;
     private String startTime;
     private String endTime;
-    
+
+    // Normalized integer model, derived from the strings above, -1 while any of them is missing.
+    @JsonIgnore
+    private int dayIndex = -1;
+    @JsonIgnore
+    private int startMinuteOfWeek = -1;
+    @JsonIgnore
+    private int endMinuteOfWeek = -1;
+    // Position in the timetable and the positions of the timeslots that directly follow it, see indexTimeslots().
+    @JsonIgnore
+    private int index = -1;
+    @JsonIgnore
+    private BitSet followingTimeslotIndexes;
+
     public Timeslot() {}
-    
+
     public Timeslot(String id, String day, String startTime, String endTime) {
         this.id = id;
         this.day = day;
         this.startTime = startTime;
         this.endTime = endTime;
+        normalize();
+    }
+
+    public Timeslot(String id, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this(id, dayOfWeek.name(), startTime.toString(), endTime.toString());
+    }
+
+    public Timeslot(String id, DayOfWeek dayOfWeek, LocalTime startTime) {
+        this(id, dayOfWeek, startTime, startTime.plusMinutes(50));
+    }
+
+    /**
+     * Builds the adjacency table of the given timeslots.
+     * Called once when the problem is loaded, so that constraints never compare times themselves.
+     */
+    public static void indexTimeslots(List<Timeslot> timeslots) {
+        for (int i = 0; i < timeslots.size(); i++) {
+            timeslots.get(i).index = i;
+        }
+        for (Timeslot timeslot : timeslots) {
+            BitSet followingTimeslotIndexes = new BitSet(timeslots.size());
+            for (Timeslot other : timeslots) {
+                if (timeslot.isFollowedByTime(other)) {
+                    followingTimeslotIndexes.set(other.index);
+                }
+            }
+            timeslot.followingTimeslotIndexes = followingTimeslotIndexes;
+        }
     }
-    
+
+    private void normalize() {
+        dayIndex = -1;
+        startMinuteOfWeek = -1;
+        endMinuteOfWeek = -1;
+        if (day == null || startTime == null || endTime == null) {
+            return;
+        }
+        int normalizedDayIndex = DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).ordinal();
+        startMinuteOfWeek = normalizedDayIndex * MINUTES_PER_DAY + minuteOfDay(startTime);
+        endMinuteOfWeek = normalizedDayIndex * MINUTES_PER_DAY + minuteOfDay(endTime);
+        dayIndex = normalizedDayIndex;
+    }
+
+    private static int minuteOfDay(String time) {
+        LocalTime localTime = LocalTime.parse(time.trim());
+        return localTime.getHour() * 60 + localTime.getMinute();
+    }
+
+    /**
+     * Looks the other timeslot up in the adjacency table if both are indexed,
+     * and otherwise compares their times, for example in tests that skip {@link #indexTimeslots(List)}.
+     *
+     * @return true if the other timeslot starts on the same day, at most 30 minutes after this one ends,
+     *         false if either of them misses its day, start time or end time
+     */
+    public boolean isFollowedBy(Timeslot other) {
+        if (followingTimeslotIndexes != null && other.index >= 0) {
+            return followingTimeslotIndexes.get(other.index);
+        }
+        return isFollowedByTime(other);
+    }
+
+    private boolean isFollowedByTime(Timeslot other) {
+        if (dayIndex < 0 || other.dayIndex != dayIndex) {
+            return false;
+        }
+        int gap = other.startMinuteOfWeek - endMinuteOfWeek;
+        return gap >= 0 && gap <= MAX_SEQUENTIAL_GAP_MINUTES;
+    }
+
+    @Override
+    public String toString() {
+        return day + " " + startTime;
+    }
+
     // Getters and setters
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
     public String getDay() { return day; }
-    public void setDay(String day) { this.day = day; }
+    public void setDay(String day) { this.day = day; normalize(); }
     public String getStartTime() { return startTime; }
-    public void setStartTime(String startTime) { this.startTime = startTime; }
+    public void setStartTime(String startTime) { this.startTime = startTime; normalize(); }
     public String getEndTime() { return endTime; }
-    public void setEndTime(String endTime) { this.endTime = endTime; }
-}
\ No newline at end of file
+    public void setEndTime(String endTime) { this.endTime = endTime; normalize(); }
+
+    @JsonIgnore
+    public int getDayIndex() { return dayIndex; }
+    @JsonIgnore
+    public int getStartMinuteOfWeek() { return startMinuteOfWeek; }
+    @JsonIgnore
+    public int getEndMinuteOfWeek() { return endMinuteOfWeek; }
+}
@@ -6,6 +6,7 @@ import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
 import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.solver.SolverStatus;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.util.List;
@@ -32,7 +33,7 @@ public class Timetable {
     public Timetable(String name, List<Timeslot> timeslots, List<Room> rooms,
                      List<TeacherAvailability> teacherAvailabilities, List<Lesson> lessons) {
         this.name = name;
-        this.timeslots = timeslots;
+        setTimeslots(timeslots);
         this.rooms = rooms;
         this.teacherAvailabilities = teacherAvailabilities;
         this.lessons = lessons;
@@ -61,6 +62,9 @@ public class Timetable {
 
     public void setTimeslots(List<Timeslot> timeslots) {
         this.timeslots = timeslots;
+        if (timeslots != null) {
+            Timeslot.indexTimeslots(timeslots);
+        }
     }
 
     @ValueRangeProvider
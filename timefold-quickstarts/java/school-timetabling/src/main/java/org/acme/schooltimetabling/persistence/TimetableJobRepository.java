@@ -0,0 +1,40 @@
+package org.acme.schooltimetabling.persistence;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import ai.timefold.solver.core.api.solver.SolverManager;
+
+import org.acme.jobstore.BoundedJobRepository;
+import org.acme.schooltimetabling.domain.Timetable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Keeps the latest state of every submitted timetable job, see {@link BoundedJobRepository}.
+ * Evicting a job terminates its solver.
+ */
+@ApplicationScoped
+public class TimetableJobRepository extends BoundedJobRepository<Timetable> {
+
+    @Inject
+    public TimetableJobRepository(SolverManager<Timetable, String> solverManager, ObjectMapper objectMapper,
+            @ConfigProperty(name = "timetable.job-store.max-size", defaultValue = "1000") int maxSize,
+            @ConfigProperty(name = "timetable.job-store.time-to-live", defaultValue = "1h") Duration timeToLive,
+            @ConfigProperty(name = "timetable.job-store.spill-directory") Optional<String> spillDirectory) {
+        super(Timetable.class, maxSize, timeToLive, solverManager::terminateEarly, objectMapper,
+                spillDirectory.map(Path::of).orElse(null), Clock.systemUTC());
+    }
+
+    @PreDestroy
+    void deleteSpillFiles() {
+        clear();
+    }
+}
@@ -53,6 +53,10 @@ public class TimetableDemoResource {
     @Path("/{demoDataId}")
     public Response generate(@Parameter(description = "Unique identifier of the demo data.",
             required = true) @PathParam("demoDataId") DemoData demoData) {
+        return Response.ok(generateDemoData(demoData)).build();
+    }
+
+    public Timetable generateDemoData(DemoData demoData) {
         List<Timeslot> timeslots = new ArrayList<>(10);
         long nextTimeslotId = 0L;
         timeslots.add(new Timeslot(Long.toString(nextTimeslotId++), DayOfWeek.MONDAY, LocalTime.of(8, 30), LocalTime.of(9, 30)));
@@ -206,7 +210,7 @@ public class TimetableDemoResource {
         }
         // Provide an empty teacher availability list for demo data to satisfy constructor
         List<TeacherAvailability> teacherAvailabilities = new ArrayList<>();
-        return Response.ok(new Timetable(demoData.name(), timeslots, rooms, teacherAvailabilities, lessons)).build();
+        return new Timetable(demoData.name(), timeslots, rooms, teacherAvailabilities, lessons);
     }
 
 }
@@ -18,7 +18,9 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.acme.jobstore.Job;
 import org.acme.schooltimetabling.domain.Timetable;
+import org.acme.schooltimetabling.persistence.TimetableJobRepository;
 import org.acme.schooltimetabling.rest.exception.ErrorInfo;
 import org.acme.schooltimetabling.rest.exception.TimetableSolverException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
@@ -34,8 +36,6 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 @Tag(name = "School Timetables", description = "School timetable service assigning lessons to rooms and timeslots.")
 @Path("timetables")
@@ -45,21 +45,21 @@ public class TimetableResource {
 
     private final SolverManager<Timetable, String> solverManager;
     private final SolutionManager<Timetable, HardSoftScore> solutionManager;
-
-    // TODO: Without any "time to live", the map may eventually grow out of memory.
-    private final ConcurrentMap<String, Job> jobIdToJob = new ConcurrentHashMap<>();
+    private final TimetableJobRepository jobRepository;
 
     // Workaround to make Quarkus CDI happy. Do not use.
     public TimetableResource() {
         this.solverManager = null;
         this.solutionManager = null;
+        this.jobRepository = null;
     }
 
     @Inject
     public TimetableResource(SolverManager<Timetable, String> solverManager,
-            SolutionManager<Timetable, HardSoftScore> solutionManager) {
+            SolutionManager<Timetable, HardSoftScore> solutionManager, TimetableJobRepository jobRepository) {
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
+        this.jobRepository = jobRepository;
     }
 
     @Operation(summary = "List the job IDs of all submitted timetables.")
@@ -70,7 +70,7 @@ public class TimetableResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Collection<String> list() {
-        return jobIdToJob.keySet();
+        return jobRepository.findAllJobIds();
     }
 
     @Operation(summary = "Submit a timetable to start solving as soon as CPU resources are available.")
@@ -83,13 +83,14 @@ public class TimetableResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String solve(Timetable problem) {
         String jobId = UUID.randomUUID().toString();
-        jobIdToJob.put(jobId, Job.ofTimetable(problem));
+        jobRepository.put(jobId, problem);
         solverManager.solveBuilder()
                 .withProblemId(jobId)
-                .withProblemFinder(jobId_ -> jobIdToJob.get(jobId).timetable)
-                .withBestSolutionEventConsumer(event -> jobIdToJob.put(jobId, Job.ofTimetable(event.solution())))
+                .withProblem(problem)
+                .withBestSolutionEventConsumer(event -> jobRepository.saveBestSolution(jobId, event.solution()))
+                .withFinalBestSolutionEventConsumer(event -> jobRepository.saveFinalSolution(jobId, event.solution()))
                 .withExceptionHandler((jobId_, exception) -> {
-                    jobIdToJob.put(jobId, Job.ofException(exception));
+                    jobRepository.saveException(jobId, exception);
                     LOGGER.error("Failed solving jobId ({}).", jobId, exception);
                 })
                 .run();
@@ -159,14 +160,12 @@ public class TimetableResource {
     }
 
     private Timetable getTimetableAndCheckForExceptions(String jobId) {
-        Job job = jobIdToJob.get(jobId);
-        if (job == null) {
-            throw new TimetableSolverException(jobId, Response.Status.NOT_FOUND, "No timetable found.");
-        }
-        if (job.exception != null) {
-            throw new TimetableSolverException(jobId, job.exception);
+        Job<Timetable> job = jobRepository.find(jobId)
+                .orElseThrow(() -> new TimetableSolverException(jobId, Response.Status.NOT_FOUND, "No timetable found."));
+        if (job.exception() != null) {
+            throw new TimetableSolverException(jobId, job.exception());
         }
-        return job.timetable;
+        return job.solution();
     }
 
     @Operation(
@@ -191,15 +190,4 @@ public class TimetableResource {
         solverManager.terminateEarly(jobId);
         return getTimeTable(jobId);
     }
-
-    private record Job(Timetable timetable, Throwable exception) {
-
-        static Job ofTimetable(Timetable timetable) {
-            return new Job(timetable, null);
-        }
-
-        static Job ofException(Throwable error) {
-            return new Job(null, error);
-        }
-    }
 }
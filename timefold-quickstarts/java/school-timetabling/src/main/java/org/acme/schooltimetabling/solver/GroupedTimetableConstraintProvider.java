@@ -0,0 +1,71 @@
+package org.acme.schooltimetabling.solver;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+
+import org.acme.schooltimetabling.domain.Lesson;
+
+/**
+ * Scores exactly like {@link TimetableConstraintProvider},
+ * but counts conflicting lessons per group instead of joining every pair of them.
+ * Each group of n conflicting lessons is penalized by its n * (n - 1) / 2 pairs.
+ * Select it with {@code quarkus.timefold.solver-config-xml=groupedSolverConfig.xml}.
+ */
+public class GroupedTimetableConstraintProvider extends TimetableConstraintProvider {
+
+    @Override
+    Constraint roomConflict(ConstraintFactory constraintFactory) {
+        // A room can accommodate at most one lesson at the same time.
+        return constraintFactory
+                .forEach(Lesson.class)
+                .groupBy(Lesson::getTimeslot, Lesson::getRoom, ConstraintCollectors.count())
+                .filter((timeslot, room, lessonCount) -> lessonCount > 1)
+                .penalize(HardSoftScore.ONE_HARD, (timeslot, room, lessonCount) -> pairCount(lessonCount))
+                .asConstraint("Room conflict");
+    }
+
+    @Override
+    Constraint teacherConflict(ConstraintFactory constraintFactory) {
+        // A teacher can teach at most one lesson at the same time.
+        return constraintFactory
+                .forEach(Lesson.class)
+                .groupBy(Lesson::getTimeslot, Lesson::getTeacher, ConstraintCollectors.count())
+                .filter((timeslot, teacher, lessonCount) -> lessonCount > 1)
+                .penalize(HardSoftScore.ONE_HARD, (timeslot, teacher, lessonCount) -> pairCount(lessonCount))
+                .asConstraint("Teacher conflict");
+    }
+
+    @Override
+    Constraint studentGroupConflict(ConstraintFactory constraintFactory) {
+        // A student can attend at most one lesson at the same time.
+        return constraintFactory
+                .forEach(Lesson.class)
+                .groupBy(Lesson::getTimeslot, Lesson::getStudentGroup, ConstraintCollectors.count())
+                .filter((timeslot, studentGroup, lessonCount) -> lessonCount > 1)
+                .penalize(HardSoftScore.ONE_HARD, (timeslot, studentGroup, lessonCount) -> pairCount(lessonCount))
+                .asConstraint("Student group conflict");
+    }
+
+    @Override
+    Constraint teacherRoomStability(ConstraintFactory constraintFactory) {
+        // A teacher prefers to teach in a single room.
+        // Pairs of the teacher's lessons in different rooms are all pairs minus the pairs within each room.
+        return constraintFactory
+                .forEach(Lesson.class)
+                .groupBy(Lesson::getTeacher, Lesson::getRoom, ConstraintCollectors.count())
+                .groupBy((teacher, room, lessonCount) -> teacher,
+                        ConstraintCollectors.sum((teacher, room, lessonCount) -> lessonCount),
+                        ConstraintCollectors.sum((teacher, room, lessonCount) -> pairCount(lessonCount)))
+                .filter((teacher, lessonCount, sameRoomPairCount) -> pairCount(lessonCount) > sameRoomPairCount)
+                .penalize(HardSoftScore.ONE_SOFT,
+                        (teacher, lessonCount, sameRoomPairCount) -> pairCount(lessonCount) - sameRoomPairCount)
+                .asConstraint("Teacher room stability");
+    }
+
+    private static int pairCount(int lessonCount) {
+        return lessonCount * (lessonCount - 1) / 2;
+    }
+
+}
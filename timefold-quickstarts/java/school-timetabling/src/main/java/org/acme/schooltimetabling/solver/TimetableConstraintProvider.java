@@ -1,7 +1,5 @@
 package org.acme.schooltimetabling.solver;
 
-import java.time.Duration;
-
 import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
@@ -75,15 +73,10 @@ public class TimetableConstraintProvider implements ConstraintProvider {
         // A teacher prefers to teach sequential lessons and dislikes gaps between lessons.
         return constraintFactory
                 .forEach(Lesson.class)
-                .join(Lesson.class, 
+                .join(Lesson.class,
                     Joiners.equal(Lesson::getTeacher),
-                    Joiners.equal((lesson) -> lesson.getTimeslot().getDayOfWeek()))
-                .filter((lesson1, lesson2) -> {
-                    Duration between = Duration.between(
-                        lesson1.getTimeslot().getEndTime(),
-                        lesson2.getTimeslot().getStartTime());
-                    return !between.isNegative() && between.compareTo(Duration.ofMinutes(30)) <= 0;
-                })
+                    Joiners.equal((lesson) -> lesson.getTimeslot().getDayIndex()))
+                .filter((lesson1, lesson2) -> lesson1.getTimeslot().isFollowedBy(lesson2.getTimeslot()))
                 .reward(HardSoftScore.ONE_SOFT)
                 .asConstraint("Teacher time efficiency");
     }
@@ -95,13 +88,8 @@ public class TimetableConstraintProvider implements ConstraintProvider {
                 .join(Lesson.class,
                     Joiners.equal(Lesson::getSubject),
                     Joiners.equal(Lesson::getStudentGroup),
-                    Joiners.equal((lesson) -> lesson.getTimeslot().getDayOfWeek()))
-                .filter((lesson1, lesson2) -> {
-                    Duration between = Duration.between(
-                        lesson1.getTimeslot().getEndTime(),
-                        lesson2.getTimeslot().getStartTime());
-                    return !between.isNegative() && between.compareTo(Duration.ofMinutes(30)) <= 0;
-                })
+                    Joiners.equal((lesson) -> lesson.getTimeslot().getDayIndex()))
+                .filter((lesson1, lesson2) -> lesson1.getTimeslot().isFollowedBy(lesson2.getTimeslot()))
                 .penalize(HardSoftScore.ONE_SOFT)
                 .asConstraint("Student group subject variety");
     }
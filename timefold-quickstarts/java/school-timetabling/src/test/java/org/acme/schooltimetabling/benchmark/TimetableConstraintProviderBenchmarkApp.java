@@ -0,0 +1,26 @@
+package org.acme.schooltimetabling.benchmark;
+
+import ai.timefold.solver.benchmark.api.PlannerBenchmark;
+import ai.timefold.solver.benchmark.api.PlannerBenchmarkFactory;
+
+/**
+ * Compares the score calculation speed and memory use of the pairwise and the grouped constraint providers
+ * on generated timetables of 1k, 5k and 20k lessons.
+ * <p>
+ * Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.acme.schooltimetabling.benchmark.TimetableConstraintProviderBenchmarkApp}.
+ * The report is written to {@code target/benchmarks}.
+ */
+public class TimetableConstraintProviderBenchmarkApp {
+
+    public static void main(String[] args) {
+        PlannerBenchmarkFactory benchmarkFactory =
+                PlannerBenchmarkFactory.createFromXmlResource("timetableConstraintProviderBenchmarkConfig.xml");
+        PlannerBenchmark benchmark = benchmarkFactory.buildPlannerBenchmark(
+                TimetableGenerator.generate(1_000),
+                TimetableGenerator.generate(5_000),
+                TimetableGenerator.generate(20_000));
+        benchmark.benchmarkAndShowReportInBrowser();
+    }
+
+}
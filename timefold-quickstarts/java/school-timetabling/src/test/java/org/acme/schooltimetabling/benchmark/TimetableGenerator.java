@@ -0,0 +1,60 @@
+package org.acme.schooltimetabling.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.acme.schooltimetabling.domain.Lesson;
+import org.acme.schooltimetabling.domain.Room;
+import org.acme.schooltimetabling.domain.TeacherAvailability;
+import org.acme.schooltimetabling.domain.Timeslot;
+import org.acme.schooltimetabling.domain.Timetable;
+
+/**
+ * Generates a feasible-sized timetable of any number of lessons, for benchmarking.
+ */
+public final class TimetableGenerator {
+
+    private static final int PERIODS_PER_DAY = 10;
+    private static final int LESSONS_PER_ROOM = 40;
+    private static final int LESSONS_PER_TEACHER = 20;
+    private static final int LESSONS_PER_STUDENT_GROUP = 25;
+    private static final String[] SUBJECTS = { "Math", "Physics", "Chemistry", "Biology", "History", "English",
+            "Spanish", "French", "Geography", "Art" };
+
+    private TimetableGenerator() {
+    }
+
+    public static Timetable generate(int lessonCount) {
+        Random random = new Random(37);
+
+        List<Timeslot> timeslots = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            for (int period = 0; period < PERIODS_PER_DAY; period++) {
+                timeslots.add(new Timeslot(Integer.toString(timeslots.size()), dayOfWeek,
+                        LocalTime.of(8 + period, 0)));
+            }
+        }
+
+        int roomCount = Math.max(1, lessonCount / LESSONS_PER_ROOM);
+        List<Room> rooms = new ArrayList<>(roomCount);
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(new Room(Integer.toString(i), "Room " + i));
+        }
+
+        int teacherCount = Math.max(1, lessonCount / LESSONS_PER_TEACHER);
+        int studentGroupCount = Math.max(1, lessonCount / LESSONS_PER_STUDENT_GROUP);
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            // Every teacher and every student group gets an even share of the lessons.
+            lessons.add(new Lesson(Integer.toString(i), SUBJECTS[random.nextInt(SUBJECTS.length)],
+                    "Teacher " + (i % teacherCount), "Group " + (i % studentGroupCount)));
+        }
+
+        List<TeacherAvailability> teacherAvailabilities = new ArrayList<>();
+        return new Timetable(lessonCount + " lessons", timeslots, rooms, teacherAvailabilities, lessons);
+    }
+}
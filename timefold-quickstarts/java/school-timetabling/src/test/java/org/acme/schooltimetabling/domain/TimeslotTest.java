@@ -0,0 +1,116 @@
+package org.acme.schooltimetabling.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TimeslotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void isFollowedByWithAndWithoutIndex() {
+        List<Timeslot> timeslots = timeslots();
+        Timeslot monday0830 = timeslots.get(0);
+        Timeslot monday0930 = timeslots.get(1);
+        Timeslot monday1100 = timeslots.get(2);
+        Timeslot tuesday0830 = timeslots.get(3);
+
+        for (boolean indexed : new boolean[] { false, true }) {
+            if (indexed) {
+                Timeslot.indexTimeslots(timeslots);
+            }
+            // 10 minutes after the first one ends.
+            assertThat(monday0830.isFollowedBy(monday0930)).isTrue();
+            // 40 minutes after the second one ends.
+            assertThat(monday0930.isFollowedBy(monday1100)).isFalse();
+            assertThat(monday0930.isFollowedBy(monday0830)).isFalse();
+            assertThat(monday0830.isFollowedBy(tuesday0830)).isFalse();
+        }
+    }
+
+    @Test
+    void partiallyPopulatedTimeslotsFollowNothing() {
+        Timeslot monday0830 = new Timeslot("1", DayOfWeek.MONDAY, LocalTime.of(8, 30));
+        Timeslot withoutDay = new Timeslot("2", null, "09:30", "10:20");
+        Timeslot withoutEndTime = new Timeslot("3", "MONDAY", "10:30", null);
+        List<Timeslot> timeslots = List.of(monday0830, withoutDay, withoutEndTime);
+
+        for (boolean indexed : new boolean[] { false, true }) {
+            if (indexed) {
+                Timeslot.indexTimeslots(timeslots);
+            }
+            for (Timeslot timeslot : timeslots) {
+                for (Timeslot other : timeslots) {
+                    assertThat(timeslot.isFollowedBy(other)).as(timeslot + " followed by " + other).isFalse();
+                }
+            }
+        }
+        // Clearing the day of a complete timeslot clears its normalized times too.
+        Timeslot monday0930 = new Timeslot("4", DayOfWeek.MONDAY, LocalTime.of(9, 30));
+        assertThat(monday0830.isFollowedBy(monday0930)).isTrue();
+        monday0930.setDay(null);
+        assertThat(monday0830.isFollowedBy(monday0930)).isFalse();
+    }
+
+    @Test
+    void readDayOfWeek() throws Exception {
+        Timeslot timeslot = objectMapper.readValue("""
+                {"id": "1", "dayOfWeek": "MONDAY", "startTime": "08:30", "endTime": "09:20"}
+                """, Timeslot.class);
+
+        assertThat(timeslot.getDay()).isEqualTo("MONDAY");
+        assertThat(timeslot.getDayIndex()).isEqualTo(DayOfWeek.MONDAY.ordinal());
+    }
+
+    @Test
+    void lessonsReferenceTimeslotsById() throws Exception {
+        List<Timeslot> timeslots = timeslots();
+        Lesson lesson = new Lesson("1", "Math", "A. Turing", "9th grade", timeslots.get(1), new Room("1", "Room A"));
+        Timetable timetable = new Timetable("Test", timeslots, List.of(new Room("1", "Room A")), List.of(),
+                List.of(lesson));
+
+        JsonNode json = objectMapper.valueToTree(timetable);
+        assertThat(json.get("timeslots").get(1).get("day").asText()).isEqualTo("MONDAY");
+        assertThat(json.get("lessons").get(0).get("timeslot").isTextual()).isTrue();
+        assertThat(json.get("lessons").get(0).get("timeslot").asText()).isEqualTo("2");
+
+        Timetable deserialized = objectMapper.treeToValue(json, Timetable.class);
+        Timeslot timeslot = deserialized.getLessons().get(0).getTimeslot();
+        assertThat(timeslot).isSameAs(deserialized.getTimeslots().get(1));
+        assertThat(timeslot.isFollowedBy(deserialized.getTimeslots().get(0))).isFalse();
+    }
+
+    @Test
+    void rejectLessonRepeatingTimeslot() {
+        // Before timeslots had an identity, a lesson repeated the whole timeslot.
+        String json = """
+                {"name": "Test",
+                 "timeslots": [{"id": "1", "day": "MONDAY", "startTime": "08:30", "endTime": "09:20"}],
+                 "rooms": [],
+                 "teacherAvailabilities": [],
+                 "lessons": [{"id": "1", "subject": "Math", "teacher": "A. Turing", "studentGroup": "9th grade",
+                              "timeslot": {"id": "1", "day": "MONDAY", "startTime": "08:30", "endTime": "09:20"}}]}
+                """;
+
+        assertThatExceptionOfType(JsonMappingException.class)
+                .isThrownBy(() -> objectMapper.readValue(json, Timetable.class));
+    }
+
+    private static List<Timeslot> timeslots() {
+        return List.of(
+                new Timeslot("1", DayOfWeek.MONDAY, LocalTime.of(8, 30)),
+                new Timeslot("2", DayOfWeek.MONDAY, LocalTime.of(9, 30)),
+                new Timeslot("3", DayOfWeek.MONDAY, LocalTime.of(11, 0)),
+                new Timeslot("4", DayOfWeek.TUESDAY, LocalTime.of(8, 30)));
+    }
+}
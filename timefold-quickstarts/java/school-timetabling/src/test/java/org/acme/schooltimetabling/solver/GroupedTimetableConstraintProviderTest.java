@@ -0,0 +1,78 @@
+package org.acme.schooltimetabling.solver;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import ai.timefold.solver.test.api.score.stream.ConstraintVerifier;
+
+import org.acme.schooltimetabling.domain.Lesson;
+import org.acme.schooltimetabling.domain.Room;
+import org.acme.schooltimetabling.domain.Timeslot;
+import org.acme.schooltimetabling.domain.Timetable;
+import org.junit.jupiter.api.Test;
+
+class GroupedTimetableConstraintProviderTest {
+
+    private static final Room ROOM1 = new Room("1", "Room1");
+    private static final Room ROOM2 = new Room("2", "Room2");
+    private static final Timeslot TIMESLOT1 = new Timeslot("1", DayOfWeek.MONDAY, LocalTime.NOON);
+    private static final Timeslot TIMESLOT2 = new Timeslot("2", DayOfWeek.TUESDAY, LocalTime.NOON);
+
+    static {
+        Timeslot.indexTimeslots(List.of(TIMESLOT1, TIMESLOT2));
+    }
+
+    private final ConstraintVerifier<GroupedTimetableConstraintProvider, Timetable> constraintVerifier =
+            ConstraintVerifier.build(new GroupedTimetableConstraintProvider(), Timetable.class, Lesson.class);
+
+    @Test
+    void roomConflict() {
+        Lesson firstLesson = new Lesson("1", "Subject1", "Teacher1", "Group1", TIMESLOT1, ROOM1);
+        Lesson conflictingLesson = new Lesson("2", "Subject2", "Teacher2", "Group2", TIMESLOT1, ROOM1);
+        Lesson nonConflictingLesson = new Lesson("3", "Subject3", "Teacher3", "Group3", TIMESLOT2, ROOM1);
+        constraintVerifier.verifyThat(GroupedTimetableConstraintProvider::roomConflict)
+                .given(firstLesson, conflictingLesson, nonConflictingLesson)
+                .penalizesBy(1);
+
+        // Three lessons in the same room and timeslot form three conflicting pairs, like the pairwise provider.
+        Lesson secondConflictingLesson = new Lesson("4", "Subject4", "Teacher4", "Group4", TIMESLOT1, ROOM1);
+        constraintVerifier.verifyThat(GroupedTimetableConstraintProvider::roomConflict)
+                .given(firstLesson, conflictingLesson, secondConflictingLesson, nonConflictingLesson)
+                .penalizesBy(3);
+    }
+
+    @Test
+    void teacherConflict() {
+        String conflictingTeacher = "Teacher1";
+        Lesson firstLesson = new Lesson("1", "Subject1", conflictingTeacher, "Group1", TIMESLOT1, ROOM1);
+        Lesson conflictingLesson = new Lesson("2", "Subject2", conflictingTeacher, "Group2", TIMESLOT1, ROOM2);
+        Lesson nonConflictingLesson = new Lesson("3", "Subject3", "Teacher2", "Group3", TIMESLOT2, ROOM1);
+        constraintVerifier.verifyThat(GroupedTimetableConstraintProvider::teacherConflict)
+                .given(firstLesson, conflictingLesson, nonConflictingLesson)
+                .penalizesBy(1);
+    }
+
+    @Test
+    void studentGroupConflict() {
+        String conflictingGroup = "Group1";
+        Lesson firstLesson = new Lesson("1", "Subject1", "Teacher1", conflictingGroup, TIMESLOT1, ROOM1);
+        Lesson conflictingLesson = new Lesson("2", "Subject2", "Teacher2", conflictingGroup, TIMESLOT1, ROOM2);
+        Lesson nonConflictingLesson = new Lesson("3", "Subject3", "Teacher3", "Group3", TIMESLOT2, ROOM1);
+        constraintVerifier.verifyThat(GroupedTimetableConstraintProvider::studentGroupConflict)
+                .given(firstLesson, conflictingLesson, nonConflictingLesson)
+                .penalizesBy(1);
+    }
+
+    @Test
+    void teacherRoomStability() {
+        String teacher = "Teacher1";
+        Lesson lessonInFirstRoom = new Lesson("1", "Subject1", teacher, "Group1", TIMESLOT1, ROOM1);
+        Lesson lessonInSameRoom = new Lesson("2", "Subject2", teacher, "Group2", TIMESLOT1, ROOM1);
+        Lesson lessonInDifferentRoom = new Lesson("3", "Subject3", teacher, "Group3", TIMESLOT1, ROOM2);
+        constraintVerifier.verifyThat(GroupedTimetableConstraintProvider::teacherRoomStability)
+                .given(lessonInFirstRoom, lessonInDifferentRoom, lessonInSameRoom)
+                .penalizesBy(2);
+    }
+
+}
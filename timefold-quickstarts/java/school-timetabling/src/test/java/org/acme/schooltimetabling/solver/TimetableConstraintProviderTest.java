@@ -2,6 +2,7 @@ package org.acme.schooltimetabling.solver;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.List;
 
 import jakarta.inject.Inject;
 
@@ -25,6 +26,10 @@ class TimetableConstraintProviderTest {
     private static final Timeslot TIMESLOT3 = new Timeslot("3", DayOfWeek.TUESDAY, LocalTime.NOON.plusHours(1));
     private static final Timeslot TIMESLOT4 = new Timeslot("4", DayOfWeek.TUESDAY, LocalTime.NOON.plusHours(3));
 
+    static {
+        Timeslot.indexTimeslots(List.of(TIMESLOT1, TIMESLOT2, TIMESLOT3, TIMESLOT4));
+    }
+
     @Inject
     ConstraintVerifier<TimetableConstraintProvider, Timetable> constraintVerifier;
 
@@ -3,6 +3,7 @@ package org.acme.taskassigning.domain;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 @JsonIdentityInfo(scope = Customer.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
@@ -10,6 +11,11 @@ public class Customer {
 
     private String id;
     private String name;
+    /**
+     * The index of this customer in {@link TaskAssigningSolution#getCustomers()}, -1 until it's indexed.
+     */
+    @JsonIgnore
+    private int index = -1;
 
     public Customer() {
     }
@@ -39,6 +45,14 @@ public class Customer {
         this.name = name;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -17,12 +17,26 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 @JsonIdentityInfo(scope = Employee.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 public class Employee {
 
+    private static final Affinity[] AFFINITIES = Affinity.values();
+
     @PlanningId
     private String id;
     private String fullName;
 
     private List<String> skills;
     private Map<Customer, Affinity> customerToAffinity;
+    /**
+     * The {@link #skills} as a bitmask, null until they're indexed.
+     *
+     * @see TaskAssigningSolution#indexSkillsAndCustomers()
+     */
+    @JsonIgnore
+    private long[] skillMask;
+    /**
+     * The {@link Affinity#ordinal()} with every customer by {@link Customer#getIndex()}, null until it's indexed.
+     */
+    @JsonIgnore
+    private byte[] affinityOrdinals;
 
     @PlanningListVariable(allowsUnassignedValues = true)
     private List<Task> tasks;
@@ -70,6 +84,7 @@ public class Employee {
 
     public void setSkills(List<String> skills) {
         this.skills = skills;
+        this.skillMask = null;
     }
 
     public Map<Customer, Affinity> getCustomerToAffinity() {
@@ -78,6 +93,23 @@ public class Employee {
 
     public void setCustomerToAffinity(Map<Customer, Affinity> customerToAffinity) {
         this.customerToAffinity = customerToAffinity;
+        this.affinityOrdinals = null;
+    }
+
+    public long[] getSkillMask() {
+        return skillMask;
+    }
+
+    public void setSkillMask(long[] skillMask) {
+        this.skillMask = skillMask;
+    }
+
+    public byte[] getAffinityOrdinals() {
+        return affinityOrdinals;
+    }
+
+    public void setAffinityOrdinals(byte[] affinityOrdinals) {
+        this.affinityOrdinals = affinityOrdinals;
     }
 
     public List<Task> getTasks() {
@@ -98,11 +130,41 @@ public class Employee {
      */
     @JsonIgnore
     public Affinity getAffinity(Customer customer) {
+        int customerIndex = customer.getIndex();
+        if (affinityOrdinals != null && customerIndex >= 0 && customerIndex < affinityOrdinals.length) {
+            return AFFINITIES[affinityOrdinals[customerIndex]];
+        }
         return customerToAffinity.getOrDefault(customer, Affinity.NONE);
     }
 
+    /**
+     * @param taskType never null
+     * @return the number of required skills of the task type that this employee lacks
+     */
+    @JsonIgnore
+    public int getMissingSkillCount(TaskType taskType) {
+        long[] requiredSkillMask = taskType.getRequiredSkillMask();
+        if (skillMask != null && requiredSkillMask != null && skillMask.length == requiredSkillMask.length) {
+            int count = 0;
+            for (int i = 0; i < skillMask.length; i++) {
+                count += Long.bitCount(requiredSkillMask[i] & ~skillMask[i]);
+            }
+            return count;
+        }
+        int count = 0;
+        for (String skill : taskType.getRequiredSkills()) {
+            if (!skills.contains(skill)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the end time of the last task, a shadow variable, or 0 without tasks
+     */
     @JsonIgnore
-    public Integer getEndTime() {
+    public int getEndTime() {
         return tasks.isEmpty() ? 0 : tasks.get(tasks.size() - 1).getEndTime();
     }
 
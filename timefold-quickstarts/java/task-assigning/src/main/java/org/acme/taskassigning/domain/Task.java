@@ -34,6 +34,10 @@ public class Task {
     // Not ignored, used in the UI.
     @ShadowVariable(supplierName = "startTimeSupplier")
     private Integer startTime; // In minutes
+    // Read by the start time of the next task and most constraints, so the duration isn't recalculated every time.
+    @JsonIgnore
+    @ShadowVariable(supplierName = "endTimeSupplier")
+    private Integer endTime; // In minutes
 
     public Task() {
     }
@@ -129,12 +133,20 @@ public class Task {
         this.startTime = startTime;
     }
 
+    public Integer getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(Integer endTime) {
+        this.endTime = endTime;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
 
     @SuppressWarnings("unused")
-    @ShadowSources({"employee", "previousTask.startTime"})
+    @ShadowSources({"employee", "previousTask.endTime"})
     private Integer startTimeSupplier() {
         if (employee == null) {
             return null;
@@ -146,18 +158,21 @@ public class Task {
         }
     }
 
+    @SuppressWarnings("unused")
+    @ShadowSources({"employee", "startTime"})
+    private Integer endTimeSupplier() {
+        if (startTime == null) {
+            return null;
+        }
+        return startTime + getDuration();
+    }
+
     @JsonIgnore
     public int getMissingSkillCount() {
         if (employee == null) {
             return 0;
         }
-        int count = 0;
-        for (String skill : taskType.getRequiredSkills()) {
-            if (!employee.getSkills().contains(skill)) {
-                count++;
-            }
-        }
-        return count;
+        return employee.getMissingSkillCount(taskType);
     }
 
     @JsonIgnore
@@ -171,14 +186,6 @@ public class Task {
         return (employee == null) ? Affinity.NONE : employee.getAffinity(customer);
     }
 
-    @JsonIgnore
-    public Integer getEndTime() {
-        if (startTime == null) {
-            return null;
-        }
-        return startTime + getDuration();
-    }
-
     @JsonIgnore
     public String getCode() {
         return taskType + "-" + indexInTaskType;
@@ -1,6 +1,8 @@
 package org.acme.taskassigning.domain;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
 import ai.timefold.solver.core.api.domain.solution.PlanningScore;
@@ -85,4 +87,50 @@ public class TaskAssigningSolution {
     public void setSolverStatus(SolverStatus solverStatus) {
         this.solverStatus = solverStatus;
     }
+
+    // ************************************************************************
+    // Complex methods
+    // ************************************************************************
+
+    /**
+     * Numbers the skills and customers, so the skills of the task types and employees become bitmasks
+     * and the affinities of every employee an array by customer.
+     * Then {@link Task#getMissingSkillCount()} and {@link Task#getDuration()}, called on every move,
+     * no longer search lists or hash maps.
+     * Call it after setting all the problem facts, before solving.
+     */
+    public void indexSkillsAndCustomers() {
+        Map<String, Integer> skillToIndex = new HashMap<>();
+        for (TaskType taskType : taskTypes) {
+            taskType.getRequiredSkills().forEach(skill -> skillToIndex.putIfAbsent(skill, skillToIndex.size()));
+        }
+        for (Employee employee : employees) {
+            employee.getSkills().forEach(skill -> skillToIndex.putIfAbsent(skill, skillToIndex.size()));
+        }
+        int skillMaskLength = Math.max(1, (skillToIndex.size() + Long.SIZE - 1) / Long.SIZE);
+        for (TaskType taskType : taskTypes) {
+            taskType.setRequiredSkillMask(toSkillMask(taskType.getRequiredSkills(), skillToIndex, skillMaskLength));
+        }
+        for (int i = 0; i < customers.size(); i++) {
+            customers.get(i).setIndex(i);
+        }
+        for (Employee employee : employees) {
+            employee.setSkillMask(toSkillMask(employee.getSkills(), skillToIndex, skillMaskLength));
+            byte[] affinityOrdinals = new byte[customers.size()];
+            for (int i = 0; i < customers.size(); i++) {
+                affinityOrdinals[i] = (byte) employee.getCustomerToAffinity()
+                        .getOrDefault(customers.get(i), Affinity.NONE).ordinal();
+            }
+            employee.setAffinityOrdinals(affinityOrdinals);
+        }
+    }
+
+    private static long[] toSkillMask(List<String> skills, Map<String, Integer> skillToIndex, int skillMaskLength) {
+        long[] skillMask = new long[skillMaskLength];
+        for (String skill : skills) {
+            int index = skillToIndex.get(skill);
+            skillMask[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+        }
+        return skillMask;
+    }
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 
 @JsonIdentityInfo(scope = TaskType.class, generator = ObjectIdGenerators.PropertyGenerator.class, property = "code")
@@ -13,6 +14,13 @@ public class TaskType {
     private String title;
     private int baseDuration; // In minutes
     private List<String> requiredSkills;
+    /**
+     * The {@link #requiredSkills} as a bitmask, null until they're indexed.
+     *
+     * @see TaskAssigningSolution#indexSkillsAndCustomers()
+     */
+    @JsonIgnore
+    private long[] requiredSkillMask;
 
     public TaskType() {
     }
@@ -61,6 +69,15 @@ public class TaskType {
 
     public void setRequiredSkills(List<String> requiredSkills) {
         this.requiredSkills = requiredSkills;
+        this.requiredSkillMask = null;
+    }
+
+    public long[] getRequiredSkillMask() {
+        return requiredSkillMask;
+    }
+
+    public void setRequiredSkillMask(long[] requiredSkillMask) {
+        this.requiredSkillMask = requiredSkillMask;
     }
 
     // ************************************************************************
@@ -8,13 +8,19 @@ import static org.acme.taskassigning.domain.Priority.CRITICAL;
 import static org.acme.taskassigning.domain.Priority.MAJOR;
 import static org.acme.taskassigning.domain.Priority.MINOR;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.acme.taskassigning.domain.Affinity;
 import org.acme.taskassigning.domain.Customer;
 import org.acme.taskassigning.domain.Employee;
+import org.acme.taskassigning.domain.Priority;
 import org.acme.taskassigning.domain.Task;
 import org.acme.taskassigning.domain.TaskAssigningSolution;
 import org.acme.taskassigning.domain.TaskType;
@@ -61,6 +67,48 @@ public class DemoDataGenerator {
         return plan;
     }
 
+    /**
+     * Generates employees and tasks like the demo ones, with random skills, affinities and priorities,
+     * for example to benchmark large instances.
+     */
+    public TaskAssigningSolution generateDemoData(int employeeCount, int taskCount) {
+        Random random = new Random(0);
+        List<String> skills = List.of(PROBLEM_SOLVING_SKILL, TEAM_BUILDING_SKILL, BUSINESS_STORYTELLING_SKILL,
+                RISK_MANAGEMENT_SKILL, CREATIVE_THINKING_SKILL, STRATEGIC_PLANNING_SKILL);
+        List<TaskType> taskTypes =
+                List.of(IMPROVE_SALES_TASK_TYPE, EXPAND_TAX_TASK_TYPE, SHRINK_VAT_TASK_TYPE, APPROVE_LEGAL_TASK_TYPE);
+        List<Customer> customers =
+                List.of(STEEL_INC_CUSTOMER, PAPER_CORP_CUSTOMER, STONE_LIMITED_CUSTOMER, WOOD_EXPRESS_CUSTOMER);
+
+        List<Employee> employees = new ArrayList<>(employeeCount);
+        for (int i = 0; i < employeeCount; i++) {
+            // 2 or 3 skills
+            List<String> employeeSkills = new ArrayList<>(skills);
+            Collections.shuffle(employeeSkills, random);
+            Map<Customer, Affinity> customerToAffinity = new LinkedHashMap<>(customers.size() * 2);
+            for (Customer customer : customers) {
+                customerToAffinity.put(customer, Affinity.values()[random.nextInt(Affinity.values().length)]);
+            }
+            employees.add(new Employee(String.valueOf(i + 1), "Employee " + (i + 1),
+                    List.copyOf(employeeSkills.subList(0, random.nextInt(2, 4))), customerToAffinity));
+        }
+        List<Task> tasks = new ArrayList<>(taskCount);
+        int[] taskTypeCounts = new int[taskTypes.size()];
+        for (int i = 0; i < taskCount; i++) {
+            int taskTypeIndex = random.nextInt(taskTypes.size());
+            tasks.add(new Task(String.valueOf(i + 1), taskTypes.get(taskTypeIndex), ++taskTypeCounts[taskTypeIndex],
+                    customers.get(random.nextInt(customers.size())),
+                    Priority.values()[random.nextInt(Priority.values().length)]));
+        }
+
+        TaskAssigningSolution plan = new TaskAssigningSolution();
+        plan.setTaskTypes(taskTypes);
+        plan.setCustomers(customers);
+        plan.setEmployees(employees);
+        plan.setTasks(tasks);
+        return plan;
+    }
+
     private List<Task> generateTasks() {
         return List.of(
                 new Task("1", SHRINK_VAT_TASK_TYPE, 1, PAPER_CORP_CUSTOMER, MINOR),
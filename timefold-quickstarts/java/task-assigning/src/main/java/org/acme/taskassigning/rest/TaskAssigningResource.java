@@ -85,6 +85,7 @@ public class TaskAssigningResource {
     @Produces(MediaType.TEXT_PLAIN)
     public String solve(TaskAssigningSolution problem) {
         String jobId = UUID.randomUUID().toString();
+        problem.indexSkillsAndCustomers();
         jobIdToJob.put(jobId, Job.ofSchedule(problem));
         solverManager.solveBuilder()
                 .withProblemId(jobId)
@@ -111,6 +112,7 @@ public class TaskAssigningResource {
     @Path("analyze")
     public ScoreAnalysis<HardSoftScore> analyze(TaskAssigningSolution problem,
             @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
+        problem.indexSkillsAndCustomers();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
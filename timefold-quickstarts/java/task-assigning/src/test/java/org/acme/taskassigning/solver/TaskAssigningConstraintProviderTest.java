@@ -1,5 +1,7 @@
 package org.acme.taskassigning.solver;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +49,28 @@ class TaskAssigningConstraintProviderTest {
                 .penalizesBy(3); // two invalid tasks
     }
 
+    @Test
+    void noMissingSkillsIndexed() {
+        Customer customer = new Customer("1");
+        Employee employee = new Employee("1", "1", List.of("3"), Map.of());
+        TaskType invalidType = new TaskType("1", "1", 1, List.of("1", "2"));
+        Task taskInvalid = new Task("1", invalidType, 1, customer, employee, 1, Priority.CRITICAL);
+        TaskType validType = new TaskType("2", "2", 1, List.of("3"));
+        Task taskValid = new Task("2", validType, 1, customer, employee, 1, Priority.CRITICAL);
+        TaskAssigningSolution solution = new TaskAssigningSolution();
+        solution.setTaskTypes(List.of(invalidType, validType));
+        solution.setCustomers(List.of(customer));
+        solution.setEmployees(List.of(employee));
+        solution.setTasks(List.of(taskInvalid, taskValid));
+        solution.indexSkillsAndCustomers();
+
+        constraintVerifier.verifyThat(TaskAssigningConstraintProvider::noMissingSkills)
+                .given(taskInvalid, taskValid)
+                .penalizesBy(2);
+        // No affinity with the customer, indexed as such.
+        assertThat(taskValid.getAffinity()).isEqualTo(Affinity.NONE);
+    }
+
     @Test
     void minimizeUnassignedTasks() {
         Employee employee = new Employee();
@@ -71,6 +95,7 @@ class TaskAssigningConstraintProviderTest {
         TaskType type1 = new TaskType("1", "1", 10);
         Task task1 = new Task("1", type1, 1, customer, employee, 1, Priority.CRITICAL);
         task1.setStartTime(1);
+        task1.setEndTime(11);
         // Task 2
         TaskType type2 = new TaskType("1", "1", 20);
         Task task2 = new Task("2", type2, 1, customer, employee, 2, Priority.MINOR);
@@ -91,14 +116,17 @@ class TaskAssigningConstraintProviderTest {
         TaskType type1 = new TaskType("1", "1", 10);
         Task task1 = new Task("1", type1, 1, customer, employee1, 1, Priority.CRITICAL);
         task1.setStartTime(1);
+        task1.setEndTime(21);
         // Task 2
         TaskType type2 = new TaskType("2", "1", 20);
         Task task2 = new Task("2", type2, 1, customer, employee1, 2, Priority.MINOR);
         task2.setStartTime(2);
+        task2.setEndTime(42);
         // Task 3
         TaskType invalidType2 = new TaskType("3", "3", 1);
         Task task3 = new Task("3", invalidType2, 1, customer, employee2, 1, Priority.CRITICAL);
         task3.setStartTime(3);
+        task3.setEndTime(4);
 
         employee1.setTasks(List.of(task1, task2));
         employee2.setTasks(List.of(task3));
@@ -117,6 +145,7 @@ class TaskAssigningConstraintProviderTest {
         TaskType type1 = new TaskType("1", "1", 10);
         Task task1 = new Task("1", type1, 1, customer, employee, 1, Priority.MAJOR);
         task1.setStartTime(1);
+        task1.setEndTime(11);
         // Task 2
         TaskType type2 = new TaskType("1", "1", 20);
         Task task2 = new Task("2", type2, 1, customer, employee, 2, Priority.MINOR);
@@ -135,6 +164,7 @@ class TaskAssigningConstraintProviderTest {
         TaskType type1 = new TaskType("1", "1", 10);
         Task task1 = new Task("1", type1, 1, customer, employee, 1, Priority.MINOR);
         task1.setStartTime(1);
+        task1.setEndTime(11);
         // Task 2
         TaskType type2 = new TaskType("1", "1", 20);
         Task task2 = new Task("2", type2, 1, customer, employee, 2, Priority.MAJOR);
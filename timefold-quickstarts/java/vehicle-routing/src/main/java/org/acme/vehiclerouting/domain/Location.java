@@ -1,6 +1,6 @@
 package org.acme.vehiclerouting.domain;
 
-import java.util.Map;
+import org.acme.vehiclerouting.domain.geo.DrivingTimeMatrix;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -13,8 +13,11 @@ public class Location {
     private double latitude;
     private double longitude;
 
+    // Index of this location in the driving time matrix shared by all locations of the plan.
     @JsonIgnore
-    private Map<Location, Long> drivingTimeSeconds;
+    private int index = -1;
+    @JsonIgnore
+    private DrivingTimeMatrix drivingTimeMatrix;
 
     @JsonCreator
     public Location(@JsonProperty("latitude") double latitude, @JsonProperty("longitude") double longitude) {
@@ -30,17 +33,25 @@ public class Location {
         return longitude;
     }
 
-    public Map<Location, Long> getDrivingTimeSeconds() {
-        return drivingTimeSeconds;
+    @JsonIgnore
+    public int getIndex() {
+        return index;
+    }
+
+    @JsonIgnore
+    public DrivingTimeMatrix getDrivingTimeMatrix() {
+        return drivingTimeMatrix;
     }
 
     /**
-     * Set the driving time map (in seconds).
+     * Set the driving time matrix (in seconds).
      *
-     * @param drivingTimeSeconds a map containing driving time from here to other locations
+     * @param drivingTimeMatrix matrix containing the driving time between all locations of the plan
+     * @param index row and column of this location in the matrix
      */
-    public void setDrivingTimeSeconds(Map<Location, Long> drivingTimeSeconds) {
-        this.drivingTimeSeconds = drivingTimeSeconds;
+    public void setDrivingTimeMatrix(DrivingTimeMatrix drivingTimeMatrix, int index) {
+        this.drivingTimeMatrix = drivingTimeMatrix;
+        this.index = index;
     }
 
     /**
@@ -50,7 +61,7 @@ public class Location {
      * @return driving time in seconds
      */
     public long getDrivingTimeTo(Location location) {
-        return drivingTimeSeconds.get(location);
+        return drivingTimeMatrix.getDrivingTime(index, location.index);
     }
 
     @Override
@@ -1,5 +1,9 @@
 package org.acme.vehiclerouting.domain;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Stream;
@@ -13,9 +17,11 @@ import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import ai.timefold.solver.core.api.solver.SolverStatus;
 
 import org.acme.vehiclerouting.domain.geo.DrivingTimeCalculator;
+import org.acme.vehiclerouting.domain.geo.DrivingTimeMatrix;
 import org.acme.vehiclerouting.domain.geo.HaversineDrivingTimeCalculator;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -56,6 +62,9 @@ public class VehicleRoutePlan {
 
     private SolverStatus solverStatus;
 
+    @JsonIgnore
+    private DrivingTimeMatrix drivingTimeMatrix;
+
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     private String scoreExplanation;
 
@@ -83,12 +92,40 @@ public class VehicleRoutePlan {
         this.endDateTime = endDateTime;
         this.vehicles = vehicles;
         this.visits = visits;
+    }
+
+    /**
+     * Calculate the driving time matrix between all vehicle home locations and visit locations, unless already done.
+     * Must be called before the plan is solved or its score is calculated.
+     * Intentionally not called during JSON deserialization, because it takes O(n²) time.
+     */
+    public synchronized void initDrivingTimeMatrix() {
+        if (drivingTimeMatrix != null) {
+            return;
+        }
+        // Location has no equals(), so a location shared by several vehicles or visits is counted once,
+        // like the driving time calculator indexes it.
         List<Location> locations = Stream.concat(
                 vehicles.stream().map(Vehicle::getHomeLocation),
-                visits.stream().map(Visit::getLocation)).toList();
+                visits.stream().map(Visit::getLocation))
+                .distinct()
+                .toList();
 
         DrivingTimeCalculator drivingTimeCalculator = HaversineDrivingTimeCalculator.getInstance();
-        drivingTimeCalculator.initDrivingTimeMaps(locations);
+        drivingTimeMatrix = drivingTimeCalculator.initDrivingTimeMatrix(locations,
+                createBackingFileIfTooLargeForHeap(locations.size()));
+    }
+
+    private static Path createBackingFileIfTooLargeForHeap(int locationCount) {
+        if (DrivingTimeMatrix.fitsOnHeap(locationCount)) {
+            return null;
+        }
+        try {
+            // Deleted as soon as it is mapped, see MappedDrivingTimeMatrix.
+            return Files.createTempFile("driving-time-matrix-", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed creating a backing file for the driving time matrix.", e);
+        }
     }
 
     public String getName() {
@@ -7,6 +7,7 @@ import java.time.temporal.ChronoUnit;
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.lookup.PlanningId;
 import ai.timefold.solver.core.api.domain.variable.InverseRelationShadowVariable;
+import ai.timefold.solver.core.api.domain.variable.NextElementShadowVariable;
 import ai.timefold.solver.core.api.domain.variable.PreviousElementShadowVariable;
 import ai.timefold.solver.core.api.domain.variable.ShadowSources;
 import ai.timefold.solver.core.api.domain.variable.ShadowVariable;
@@ -37,6 +38,14 @@ public class Visit implements LocationAware {
     @JsonIdentityReference(alwaysAsId = true)
     @PreviousElementShadowVariable(sourceVariableName = "visits")
     private Visit previousVisit;
+    @JsonIgnore
+    @NextElementShadowVariable(sourceVariableName = "visits")
+    private Visit nextVisit;
+    @ShadowVariable(supplierName = "drivingTimeSecondsFromPreviousStandstillSupplier")
+    private Long drivingTimeSecondsFromPreviousStandstill;
+    // Demand of this visit and all visits before it on the same vehicle.
+    @ShadowVariable(supplierName = "cumulativeDemandSupplier")
+    private Integer cumulativeDemand;
     @ShadowVariable(supplierName = "arrivalTimeSupplier")
     private LocalDateTime arrivalTime;
 
@@ -111,6 +120,28 @@ public class Visit implements LocationAware {
         this.previousVisit = previousVisit;
     }
 
+    @JsonIgnore
+    public Visit getNextVisit() {
+        return nextVisit;
+    }
+
+    public void setNextVisit(Visit nextVisit) {
+        this.nextVisit = nextVisit;
+    }
+
+    public void setDrivingTimeSecondsFromPreviousStandstill(Long drivingTimeSecondsFromPreviousStandstill) {
+        this.drivingTimeSecondsFromPreviousStandstill = drivingTimeSecondsFromPreviousStandstill;
+    }
+
+    @JsonIgnore
+    public Integer getCumulativeDemand() {
+        return cumulativeDemand;
+    }
+
+    public void setCumulativeDemand(Integer cumulativeDemand) {
+        this.cumulativeDemand = cumulativeDemand;
+    }
+
     public LocalDateTime getArrivalTime() {
         return arrivalTime;
     }
@@ -124,13 +155,38 @@ public class Visit implements LocationAware {
     // ************************************************************************
 
     @SuppressWarnings("unused")
-    @ShadowSources({"vehicle", "previousVisit.arrivalTime"})
+    @ShadowSources({"vehicle", "previousVisit"})
+    private Long drivingTimeSecondsFromPreviousStandstillSupplier() {
+        if (vehicle == null) {
+            return null;
+        }
+        Location previousLocation = previousVisit == null ? vehicle.getHomeLocation() : previousVisit.getLocation();
+        return previousLocation.getDrivingTimeTo(location);
+    }
+
+    @SuppressWarnings("unused")
+    @ShadowSources({"vehicle", "previousVisit.cumulativeDemand"})
+    private Integer cumulativeDemandSupplier() {
+        if (vehicle == null) {
+            return null;
+        }
+        if (previousVisit == null) {
+            return demand;
+        }
+        Integer previousCumulativeDemand = previousVisit.getCumulativeDemand();
+        return previousCumulativeDemand == null ? null : previousCumulativeDemand + demand;
+    }
+
+    @SuppressWarnings("unused")
+    @ShadowSources({"vehicle", "previousVisit.arrivalTime", "drivingTimeSecondsFromPreviousStandstill"})
     private LocalDateTime arrivalTimeSupplier() {
         if (previousVisit == null && vehicle == null) {
             return null;
         }
         LocalDateTime departureTime = previousVisit == null ? vehicle.getDepartureTime() : previousVisit.getDepartureTime();
-        return departureTime != null ? departureTime.plusSeconds(getDrivingTimeSecondsFromPreviousStandstill()) : null;
+        return departureTime != null && drivingTimeSecondsFromPreviousStandstill != null
+                ? departureTime.plusSeconds(drivingTimeSecondsFromPreviousStandstill)
+                : null;
     }
 
     @JsonProperty(access = JsonProperty.Access.READ_ONLY)
@@ -174,23 +230,37 @@ public class Visit implements LocationAware {
 
     @JsonIgnore
     public long getDrivingTimeSecondsFromPreviousStandstill() {
-        if (vehicle == null) {
+        if (drivingTimeSecondsFromPreviousStandstill == null) {
             throw new IllegalStateException(
                     "This method must not be called when the shadow variables are not initialized yet.");
         }
-        if (previousVisit == null) {
-            return vehicle.getHomeLocation().getDrivingTimeTo(location);
-        }
-        return previousVisit.getLocation().getDrivingTimeTo(location);
+        return drivingTimeSecondsFromPreviousStandstill;
     }
 
     // Required by the web UI even before the solution has been initialized.
     @JsonProperty(value = "drivingTimeSecondsFromPreviousStandstill", access = JsonProperty.Access.READ_ONLY)
     public Long getDrivingTimeSecondsFromPreviousStandstillOrNull() {
-        if (vehicle == null) {
-            return null;
+        return drivingTimeSecondsFromPreviousStandstill;
+    }
+
+    /**
+     * @return true if this visit is the last one of its vehicle, so the vehicle drives back home after it
+     */
+    @JsonIgnore
+    public boolean isLastVisit() {
+        return vehicle != null && nextVisit == null;
+    }
+
+    /**
+     * @return driving time of this visit's leg, plus the drive back home if it is the last visit
+     */
+    @JsonIgnore
+    public long getDrivingTimeSecondsIncludingReturnHome() {
+        long drivingTime = getDrivingTimeSecondsFromPreviousStandstill();
+        if (isLastVisit()) {
+            drivingTime += location.getDrivingTimeTo(vehicle.getHomeLocation());
         }
-        return getDrivingTimeSecondsFromPreviousStandstill();
+        return drivingTime;
     }
 
     @Override
@@ -0,0 +1,38 @@
+package org.acme.vehiclerouting.domain.geo;
+
+/**
+ * Keeps the driving times in a single row-major {@code int[]}, 4 bytes per pair.
+ * Limited to roughly 46 000 locations, use {@link MappedDrivingTimeMatrix} beyond that.
+ */
+final class ArrayDrivingTimeMatrix implements DrivingTimeMatrix {
+
+    static final long MAX_CELL_COUNT = Integer.MAX_VALUE - 8;
+
+    private final int size;
+    private final int[] drivingTimeSeconds;
+
+    ArrayDrivingTimeMatrix(int size) {
+        long cellCount = (long) size * size;
+        if (cellCount > MAX_CELL_COUNT) {
+            throw new IllegalArgumentException("The size (" + size
+                    + ") is too large for an on-heap driving time matrix, use a backing file instead.");
+        }
+        this.size = size;
+        this.drivingTimeSeconds = new int[(int) cellCount];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getDrivingTime(int fromIndex, int toIndex) {
+        return drivingTimeSeconds[fromIndex * size + toIndex];
+    }
+
+    @Override
+    public void setDrivingTime(int fromIndex, int toIndex, long drivingTimeSeconds) {
+        this.drivingTimeSeconds[fromIndex * size + toIndex] = Math.toIntExact(drivingTimeSeconds);
+    }
+}
@@ -1,7 +1,13 @@
 package org.acme.vehiclerouting.domain.geo;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -18,6 +24,13 @@ public interface DrivingTimeCalculator {
      */
     long calculateDrivingTime(Location from, Location to);
 
+    /**
+     * @return true if the driving time from A to B always equals the driving time from B to A
+     */
+    default boolean isSymmetric() {
+        return false;
+    }
+
     /**
      * Bulk calculation of driving time.
      * Typically, much more scalable than {@link #calculateDrivingTime(Location, Location)} iteratively.
@@ -37,12 +50,36 @@ public interface DrivingTimeCalculator {
     }
 
     /**
-     * Calculate driving time matrix for the given list of locations and assign driving time maps accordingly.
+     * Calculate driving time matrix for the given list of locations and assign it to them, on the heap.
      *
      * @param locations locations list
      */
     default void initDrivingTimeMaps(Collection<Location> locations) {
-        Map<Location, Map<Location, Long>> drivingTimeMatrix = calculateBulkDrivingTime(locations, locations);
-        locations.forEach(location -> location.setDrivingTimeSeconds(drivingTimeMatrix.get(location)));
+        initDrivingTimeMatrix(locations, null);
+    }
+
+    /**
+     * Calculate driving time matrix for the given list of locations, index the locations and assign it to them.
+     * The rows are calculated in parallel on the common fork join pool.
+     *
+     * @param locations locations list, a location that occurs more than once gets a single index
+     * @param backingFile null to keep the matrix on the heap, otherwise the file to memory-map it to,
+     *        which is deleted once mapped
+     * @return never null
+     */
+    default DrivingTimeMatrix initDrivingTimeMatrix(Collection<Location> locations, Path backingFile) {
+        Set<Location> distinctLocations = Collections.newSetFromMap(new IdentityHashMap<>(locations.size()));
+        List<Location> indexedLocations = new ArrayList<>(locations.size());
+        for (Location location : locations) {
+            if (distinctLocations.add(location)) {
+                indexedLocations.add(location);
+            }
+        }
+        DrivingTimeMatrix drivingTimeMatrix = DrivingTimeMatrix.create(indexedLocations.size(), backingFile);
+        new DrivingTimeMatrixTask(this, indexedLocations, drivingTimeMatrix, 0, indexedLocations.size()).invoke();
+        for (int index = 0; index < indexedLocations.size(); index++) {
+            indexedLocations.get(index).setDrivingTimeMatrix(drivingTimeMatrix, index);
+        }
+        return drivingTimeMatrix;
     }
 }
@@ -0,0 +1,59 @@
+package org.acme.vehiclerouting.domain.geo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Dense matrix of driving times (in seconds) between indexed locations.
+ * The row is the index of the from location, the column the index of the to location.
+ */
+public interface DrivingTimeMatrix {
+
+    /**
+     * @param size number of locations
+     * @param backingFile null to keep the matrix on the heap, otherwise the file to memory-map it to,
+     *        which is deleted once mapped
+     * @return never null
+     */
+    static DrivingTimeMatrix create(int size, Path backingFile) {
+        if (backingFile == null) {
+            return new ArrayDrivingTimeMatrix(size);
+        }
+        try {
+            return new MappedDrivingTimeMatrix(size, backingFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed mapping the driving time matrix to (" + backingFile + ").", e);
+        }
+    }
+
+    /**
+     * @param size number of locations
+     * @return true if the matrix takes at most a quarter of the max heap
+     */
+    static boolean fitsOnHeap(int size) {
+        long cellCount = (long) size * size;
+        return cellCount <= ArrayDrivingTimeMatrix.MAX_CELL_COUNT
+                && cellCount * Integer.BYTES <= Runtime.getRuntime().maxMemory() / 4;
+    }
+
+    /**
+     * @return number of locations
+     */
+    int size();
+
+    /**
+     * @param fromIndex index of the starting location
+     * @param toIndex index of the target location
+     * @return driving time in seconds
+     */
+    long getDrivingTime(int fromIndex, int toIndex);
+
+    /**
+     * @param fromIndex index of the starting location
+     * @param toIndex index of the target location
+     * @param drivingTimeSeconds driving time in seconds, at most {@link Integer#MAX_VALUE}
+     */
+    void setDrivingTime(int fromIndex, int toIndex, long drivingTimeSeconds);
+
+}
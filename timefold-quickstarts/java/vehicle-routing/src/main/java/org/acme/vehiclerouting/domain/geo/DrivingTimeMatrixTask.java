@@ -0,0 +1,60 @@
+package org.acme.vehiclerouting.domain.geo;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import org.acme.vehiclerouting.domain.Location;
+
+/**
+ * Fills the rows {@code [fromRow, toRow)} of a driving time matrix, splitting them into blocks calculated in parallel.
+ * For a symmetric calculator, every row only calculates the cells right of the diagonal and mirrors them,
+ * which halves the number of driving time calculations.
+ * Every cell is written by exactly one task.
+ */
+final class DrivingTimeMatrixTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_ROWS_PER_TASK = 32;
+
+    private final DrivingTimeCalculator drivingTimeCalculator;
+    private final List<Location> locations;
+    private final DrivingTimeMatrix drivingTimeMatrix;
+    private final int fromRow;
+    private final int toRow;
+
+    DrivingTimeMatrixTask(DrivingTimeCalculator drivingTimeCalculator, List<Location> locations,
+            DrivingTimeMatrix drivingTimeMatrix, int fromRow, int toRow) {
+        this.drivingTimeCalculator = drivingTimeCalculator;
+        this.locations = locations;
+        this.drivingTimeMatrix = drivingTimeMatrix;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    @Override
+    protected void compute() {
+        if (toRow - fromRow > MAX_ROWS_PER_TASK) {
+            int middleRow = (fromRow + toRow) >>> 1;
+            invokeAll(new DrivingTimeMatrixTask(drivingTimeCalculator, locations, drivingTimeMatrix, fromRow, middleRow),
+                    new DrivingTimeMatrixTask(drivingTimeCalculator, locations, drivingTimeMatrix, middleRow, toRow));
+            return;
+        }
+        boolean symmetric = drivingTimeCalculator.isSymmetric();
+        for (int fromIndex = fromRow; fromIndex < toRow; fromIndex++) {
+            Location from = locations.get(fromIndex);
+            if (symmetric) {
+                drivingTimeMatrix.setDrivingTime(fromIndex, fromIndex, drivingTimeCalculator.calculateDrivingTime(from, from));
+                for (int toIndex = fromIndex + 1; toIndex < locations.size(); toIndex++) {
+                    long drivingTime = drivingTimeCalculator.calculateDrivingTime(from, locations.get(toIndex));
+                    drivingTimeMatrix.setDrivingTime(fromIndex, toIndex, drivingTime);
+                    drivingTimeMatrix.setDrivingTime(toIndex, fromIndex, drivingTime);
+                }
+            } else {
+                for (int toIndex = 0; toIndex < locations.size(); toIndex++) {
+                    drivingTimeMatrix.setDrivingTime(fromIndex, toIndex,
+                            drivingTimeCalculator.calculateDrivingTime(from, locations.get(toIndex)));
+                }
+            }
+        }
+    }
+}
@@ -37,6 +37,11 @@ public final class HaversineDrivingTimeCalculator implements DrivingTimeCalculat
         return metersToDrivingSeconds(calculateDistance(fromCartesian, toCartesian));
     }
 
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
     private long calculateDistance(CartesianCoordinate from, CartesianCoordinate to) {
         if (from.equals(to)) {
             return 0L;
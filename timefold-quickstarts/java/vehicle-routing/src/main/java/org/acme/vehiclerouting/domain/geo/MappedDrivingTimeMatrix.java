@@ -0,0 +1,62 @@
+package org.acme.vehiclerouting.domain.geo;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Keeps the driving times in a memory-mapped file, 4 bytes per pair, so they do not count against the heap.
+ * A single mapping is limited to 2 GB, so the rows are spread over as many mappings as needed.
+ * <p>
+ * The backing file is deleted as soon as it is mapped.
+ * Its disk space is released once the matrix is garbage collected, so it never outlives the plan.
+ */
+final class MappedDrivingTimeMatrix implements DrivingTimeMatrix {
+
+    private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+    private final int size;
+    private final int rowsPerSegment;
+    private final IntBuffer[] segments;
+
+    MappedDrivingTimeMatrix(int size, Path backingFile) throws IOException {
+        this(size, backingFile, MAX_SEGMENT_BYTES);
+    }
+
+    MappedDrivingTimeMatrix(int size, Path backingFile, long maxSegmentBytes) throws IOException {
+        long rowBytes = (long) size * Integer.BYTES;
+        if (rowBytes > maxSegmentBytes) {
+            throw new IllegalArgumentException("The size (" + size + ") is too large, a row does not fit in a segment.");
+        }
+        this.size = size;
+        this.rowsPerSegment = size == 0 ? 1 : (int) (maxSegmentBytes / rowBytes);
+        this.segments = new IntBuffer[(size + rowsPerSegment - 1) / rowsPerSegment];
+        try (FileChannel channel = FileChannel.open(backingFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            // The mappings stay valid after the channel is closed and the file is unlinked.
+            for (int i = 0; i < segments.length; i++) {
+                int rowCount = Math.min(rowsPerSegment, size - i * rowsPerSegment);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * rowsPerSegment * rowBytes,
+                        rowCount * rowBytes).asIntBuffer();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getDrivingTime(int fromIndex, int toIndex) {
+        return segments[fromIndex / rowsPerSegment].get((fromIndex % rowsPerSegment) * size + toIndex);
+    }
+
+    @Override
+    public void setDrivingTime(int fromIndex, int toIndex, long drivingTimeSeconds) {
+        segments[fromIndex / rowsPerSegment].put((fromIndex % rowsPerSegment) * size + toIndex,
+                Math.toIntExact(drivingTimeSeconds));
+    }
+}
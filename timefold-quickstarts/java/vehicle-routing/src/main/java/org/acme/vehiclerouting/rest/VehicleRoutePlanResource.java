@@ -27,6 +27,7 @@ import org.acme.vehiclerouting.domain.dto.RecommendationRequest;
 import org.acme.vehiclerouting.domain.dto.VehicleRecommendation;
 import org.acme.vehiclerouting.rest.exception.ErrorInfo;
 import org.acme.vehiclerouting.rest.exception.VehicleRoutingSolverException;
+import org.eclipse.microprofile.context.ManagedExecutor;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
@@ -56,6 +57,8 @@ public class VehicleRoutePlanResource {
 
     private final SolutionManager<VehicleRoutePlan, HardSoftLongScore> solutionManager;
 
+    private final ManagedExecutor managedExecutor;
+
     // TODO: Without any "time to live", the map may eventually grow out of memory.
     private final ConcurrentMap<String, Job> jobIdToJob = new ConcurrentHashMap<>();
 
@@ -63,13 +66,16 @@ public class VehicleRoutePlanResource {
     public VehicleRoutePlanResource() {
         this.solverManager = null;
         this.solutionManager = null;
+        this.managedExecutor = null;
     }
 
     @Inject
     public VehicleRoutePlanResource(SolverManager<VehicleRoutePlan, String> solverManager,
-                                    SolutionManager<VehicleRoutePlan, HardSoftLongScore> solutionManager) {
+                                    SolutionManager<VehicleRoutePlan, HardSoftLongScore> solutionManager,
+                                    ManagedExecutor managedExecutor) {
         this.solverManager = solverManager;
         this.solutionManager = solutionManager;
+        this.managedExecutor = managedExecutor;
     }
 
     @Operation(summary = "List the job IDs of all submitted route plans.")
@@ -94,9 +100,22 @@ public class VehicleRoutePlanResource {
     public String solve(VehicleRoutePlan problem) {
         String jobId = UUID.randomUUID().toString();
         jobIdToJob.put(jobId, Job.ofRoutePlan(problem));
+        // The driving time matrix takes O(n²) to calculate, so return the job ID without waiting for it.
+        managedExecutor.runAsync(problem::initDrivingTimeMatrix)
+                .exceptionally(exception -> {
+                    // The matrix stays uninitialized, so the solver calculates it again and reports a repeated failure.
+                    LOGGER.warn("Failed calculating the driving time matrix of jobId ({}) in the background.",
+                            jobId, exception);
+                    return null;
+                });
         solverManager.solveBuilder()
                 .withProblemId(jobId)
-                .withProblemFinder(jobId_ -> jobIdToJob.get(jobId).routePlan)
+                .withProblemFinder(jobId_ -> {
+                    VehicleRoutePlan routePlan = jobIdToJob.get(jobId).routePlan;
+                    // Waits for the background calculation, or takes over if it failed.
+                    routePlan.initDrivingTimeMatrix();
+                    return routePlan;
+                })
                 .withBestSolutionEventConsumer(event -> jobIdToJob.put(jobId, Job.ofRoutePlan(event.solution())))
                 .withExceptionHandler((jobId_, exception) -> {
                     jobIdToJob.put(jobId, Job.ofException(exception));
@@ -117,6 +136,7 @@ public class VehicleRoutePlanResource {
     @Produces(MediaType.APPLICATION_JSON)
     @Path("recommendation")
     public List<RecommendedAssignment<VehicleRecommendation, HardSoftLongScore>> recommendedAssignment(RecommendationRequest request) {
+        request.solution().initDrivingTimeMatrix();
         Visit visit = request.solution().getVisits().stream()
                 .filter(v -> v.getId().equals(request.visitId()))
                 .findFirst()
@@ -142,6 +162,7 @@ public class VehicleRoutePlanResource {
     @Path("recommendation/apply")
     public VehicleRoutePlan applyRecommendation(ApplyRecommendationRequest request) {
         VehicleRoutePlan updatedSolution = request.solution();
+        updatedSolution.initDrivingTimeMatrix();
         String vehicleId = request.vehicleId();
         Vehicle vehicleTarget = updatedSolution.getVehicles().stream()
                 .filter(v -> v.getId().equals(vehicleId))
@@ -175,6 +196,8 @@ public class VehicleRoutePlanResource {
     public VehicleRoutePlan getRoutePlan(
             @Parameter(description = "The job ID returned by the POST method.") @PathParam("jobId") String jobId) {
         VehicleRoutePlan routePlan = getRoutePlanAndCheckForExceptions(jobId);
+        // Only waits if the driving time matrix of a just submitted plan is still being calculated.
+        routePlan.initDrivingTimeMatrix();
         SolverStatus solverStatus = solverManager.getSolverStatus(jobId);
         String scoreExplanation = solutionManager.explain(routePlan).getSummary();
         routePlan.setSolverStatus(solverStatus);
@@ -251,6 +274,7 @@ public class VehicleRoutePlanResource {
     @Path("analyze")
     public ScoreAnalysis<HardSoftLongScore> analyze(VehicleRoutePlan problem,
                                                     @QueryParam("fetchPolicy") ScoreAnalysisFetchPolicy fetchPolicy) {
+        problem.initDrivingTimeMatrix();
         return fetchPolicy == null ? solutionManager.analyze(problem) : solutionManager.analyze(problem, fetchPolicy);
     }
 
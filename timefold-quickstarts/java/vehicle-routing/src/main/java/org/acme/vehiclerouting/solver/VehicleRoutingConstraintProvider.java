@@ -6,7 +6,6 @@ import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 
 import org.acme.vehiclerouting.domain.Visit;
-import org.acme.vehiclerouting.domain.Vehicle;
 
 public class VehicleRoutingConstraintProvider implements ConstraintProvider {
 
@@ -28,10 +27,11 @@ public class VehicleRoutingConstraintProvider implements ConstraintProvider {
     // ************************************************************************
 
     protected Constraint vehicleCapacity(ConstraintFactory factory) {
-        return factory.forEach(Vehicle.class)
-                .filter(vehicle -> vehicle.getTotalDemand() > vehicle.getCapacity())
+        // The last visit of a route carries the total demand of its vehicle.
+        return factory.forEach(Visit.class)
+                .filter(visit -> visit.isLastVisit() && visit.getCumulativeDemand() > visit.getVehicle().getCapacity())
                 .penalizeLong(HardSoftLongScore.ONE_HARD,
-                        vehicle -> vehicle.getTotalDemand() - vehicle.getCapacity())
+                        visit -> visit.getCumulativeDemand() - visit.getVehicle().getCapacity())
                 .asConstraint(VEHICLE_CAPACITY);
     }
 
@@ -48,9 +48,10 @@ public class VehicleRoutingConstraintProvider implements ConstraintProvider {
     // ************************************************************************
 
     protected Constraint minimizeTravelTime(ConstraintFactory factory) {
-        return factory.forEach(Vehicle.class)
+        // Penalized per leg, so a move only rescores the visits whose previous or next stop changed.
+        return factory.forEach(Visit.class)
                 .penalizeLong(HardSoftLongScore.ONE_SOFT,
-                        Vehicle::getTotalDrivingTimeSeconds)
+                        Visit::getDrivingTimeSecondsIncludingReturnHome)
                 .asConstraint(MINIMIZE_TRAVEL_TIME);
     }
 }
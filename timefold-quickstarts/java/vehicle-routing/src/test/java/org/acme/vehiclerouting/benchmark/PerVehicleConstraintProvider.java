@@ -0,0 +1,32 @@
+package org.acme.vehiclerouting.benchmark;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+
+import org.acme.vehiclerouting.domain.Vehicle;
+import org.acme.vehiclerouting.solver.VehicleRoutingConstraintProvider;
+
+/**
+ * The former capacity and travel time constraints, which loop over the whole route of a vehicle on every change.
+ * Only kept as the baseline of {@link VehicleRoutingConstraintProviderBenchmarkApp}.
+ */
+public class PerVehicleConstraintProvider extends VehicleRoutingConstraintProvider {
+
+    @Override
+    protected Constraint vehicleCapacity(ConstraintFactory factory) {
+        return factory.forEach(Vehicle.class)
+                .filter(vehicle -> vehicle.getTotalDemand() > vehicle.getCapacity())
+                .penalizeLong(HardSoftLongScore.ONE_HARD,
+                        vehicle -> vehicle.getTotalDemand() - vehicle.getCapacity())
+                .asConstraint(VEHICLE_CAPACITY);
+    }
+
+    @Override
+    protected Constraint minimizeTravelTime(ConstraintFactory factory) {
+        return factory.forEach(Vehicle.class)
+                .penalizeLong(HardSoftLongScore.ONE_SOFT,
+                        Vehicle::getTotalDrivingTimeSeconds)
+                .asConstraint(MINIMIZE_TRAVEL_TIME);
+    }
+}
@@ -0,0 +1,62 @@
+package org.acme.vehiclerouting.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.acme.vehiclerouting.domain.Location;
+import org.acme.vehiclerouting.domain.Vehicle;
+import org.acme.vehiclerouting.domain.VehicleRoutePlan;
+import org.acme.vehiclerouting.domain.Visit;
+
+/**
+ * Generates route plans of any size in the area of the Philadelphia demo data,
+ * with enough capacity in total for all visits.
+ */
+public final class VehicleRoutePlanGenerator {
+
+    private static final Location SOUTH_WEST_CORNER = new Location(39.7656099067391, -76.83782328143754);
+    private static final Location NORTH_EAST_CORNER = new Location(40.77636644354855, -74.9300739430771);
+
+    public static VehicleRoutePlan generate(int visitCount, int vehicleCount) {
+        Random random = new Random(37);
+        LocalDate tomorrow = LocalDate.now().plusDays(1L);
+        LocalDateTime startDateTime = LocalDateTime.of(tomorrow, LocalTime.of(7, 30));
+        int averageCapacity = (int) Math.ceil(visitCount * 2.0 / vehicleCount);
+
+        List<Vehicle> vehicles = new ArrayList<>(vehicleCount);
+        for (int i = 0; i < vehicleCount; i++) {
+            vehicles.add(new Vehicle(String.valueOf(i), averageCapacity + random.nextInt(averageCapacity / 2 + 1),
+                    randomLocation(random), startDateTime));
+        }
+        List<Visit> visits = new ArrayList<>(visitCount);
+        for (int i = 0; i < visitCount; i++) {
+            boolean morningTimeWindow = random.nextBoolean();
+            LocalDateTime minStartTime =
+                    LocalDateTime.of(tomorrow, morningTimeWindow ? LocalTime.of(8, 0) : LocalTime.of(13, 0));
+            LocalDateTime maxEndTime =
+                    LocalDateTime.of(tomorrow, morningTimeWindow ? LocalTime.of(12, 0) : LocalTime.of(18, 0));
+            visits.add(new Visit(String.valueOf(vehicleCount + i), "Visit " + i, randomLocation(random),
+                    1 + random.nextInt(3), minStartTime, maxEndTime, Duration.ofMinutes(10L + 10L * random.nextInt(4))));
+        }
+        VehicleRoutePlan plan = new VehicleRoutePlan(visitCount + " visits", SOUTH_WEST_CORNER, NORTH_EAST_CORNER,
+                startDateTime, LocalDateTime.of(tomorrow.plusDays(1L), LocalTime.MIDNIGHT), vehicles, visits);
+        plan.initDrivingTimeMatrix();
+        return plan;
+    }
+
+    private static Location randomLocation(Random random) {
+        double latitude = SOUTH_WEST_CORNER.getLatitude()
+                + random.nextDouble() * (NORTH_EAST_CORNER.getLatitude() - SOUTH_WEST_CORNER.getLatitude());
+        double longitude = SOUTH_WEST_CORNER.getLongitude()
+                + random.nextDouble() * (NORTH_EAST_CORNER.getLongitude() - SOUTH_WEST_CORNER.getLongitude());
+        return new Location(latitude, longitude);
+    }
+
+    private VehicleRoutePlanGenerator() {
+    }
+}
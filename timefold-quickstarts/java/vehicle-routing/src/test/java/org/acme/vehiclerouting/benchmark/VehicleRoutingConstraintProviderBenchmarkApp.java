@@ -0,0 +1,25 @@
+package org.acme.vehiclerouting.benchmark;
+
+import ai.timefold.solver.benchmark.api.PlannerBenchmark;
+import ai.timefold.solver.benchmark.api.PlannerBenchmarkFactory;
+
+/**
+ * Compares the score calculation speed of the per vehicle constraints, which loop over the whole route,
+ * and the per visit constraints based on cumulative shadow variables, on generated plans of 2k visits and 50 vehicles.
+ * <p>
+ * Run it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.acme.vehiclerouting.benchmark.VehicleRoutingConstraintProviderBenchmarkApp}.
+ * The report is written to {@code target/benchmarks}.
+ */
+public class VehicleRoutingConstraintProviderBenchmarkApp {
+
+    public static void main(String[] args) {
+        PlannerBenchmarkFactory benchmarkFactory =
+                PlannerBenchmarkFactory.createFromXmlResource("vehicleRoutingConstraintProviderBenchmarkConfig.xml");
+        PlannerBenchmark benchmark = benchmarkFactory.buildPlannerBenchmark(
+                VehicleRoutePlanGenerator.generate(500, 20),
+                VehicleRoutePlanGenerator.generate(2_000, 50));
+        benchmark.benchmarkAndShowReportInBrowser();
+    }
+
+}
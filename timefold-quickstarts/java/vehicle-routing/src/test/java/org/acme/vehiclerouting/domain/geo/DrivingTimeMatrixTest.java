@@ -0,0 +1,72 @@
+package org.acme.vehiclerouting.domain.geo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.acme.vehiclerouting.domain.Location;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DrivingTimeMatrixTest {
+
+    private final DrivingTimeCalculator drivingTimeCalculator = HaversineDrivingTimeCalculator.getInstance();
+
+    @Test
+    void initDrivingTimeMatrixOnHeap() {
+        Location gent = new Location(51.0441461, 3.7336349);
+        Location brno = new Location(49.1913945, 16.6122723);
+        Location lulea = new Location(65.5887708, 22.1518707);
+        // A location shared by several vehicles or visits is indexed once.
+        DrivingTimeMatrix matrix = drivingTimeCalculator.initDrivingTimeMatrix(List.of(gent, brno, gent, lulea), null);
+
+        Assertions.assertThat(matrix.size()).isEqualTo(3);
+        Assertions.assertThat(gent.getDrivingTimeTo(brno))
+                .isEqualTo(drivingTimeCalculator.calculateDrivingTime(gent, brno));
+        Assertions.assertThat(lulea.getDrivingTimeTo(gent))
+                .isEqualTo(drivingTimeCalculator.calculateDrivingTime(lulea, gent));
+        Assertions.assertThat(brno.getDrivingTimeTo(brno)).isZero();
+    }
+
+    @Test
+    void initDrivingTimeMatrixInParallel() {
+        Random random = new Random(0);
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            locations.add(new Location(49.0 + random.nextDouble(), 16.0 + random.nextDouble()));
+        }
+        drivingTimeCalculator.initDrivingTimeMatrix(locations, null);
+
+        for (Location from : locations) {
+            for (Location to : locations) {
+                Assertions.assertThat(from.getDrivingTimeTo(to))
+                        .isEqualTo(drivingTimeCalculator.calculateDrivingTime(from, to));
+            }
+        }
+    }
+
+    @Test
+    void mappedMatrixSpansSegments(@TempDir Path tempDir) throws IOException {
+        int size = 7;
+        // 3 rows of 7 ints per segment, so 3 segments.
+        Path backingFile = tempDir.resolve("matrix.bin");
+        DrivingTimeMatrix mapped = new MappedDrivingTimeMatrix(size, backingFile, 3 * size * Integer.BYTES);
+        // The mappings outlive the file.
+        Assertions.assertThat(backingFile).doesNotExist();
+        DrivingTimeMatrix array = new ArrayDrivingTimeMatrix(size);
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                mapped.setDrivingTime(from, to, from * 100L + to);
+                array.setDrivingTime(from, to, from * 100L + to);
+            }
+        }
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                Assertions.assertThat(mapped.getDrivingTime(from, to)).isEqualTo(array.getDrivingTime(from, to));
+            }
+        }
+    }
+}
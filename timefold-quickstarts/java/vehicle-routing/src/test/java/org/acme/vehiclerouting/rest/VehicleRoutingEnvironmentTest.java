@@ -43,6 +43,7 @@ class VehicleRoutingEnvironmentTest {
                 .statusCode(200)
                 .extract()
                 .as(VehicleRoutePlan.class);
+        problem.initDrivingTimeMatrix();
 
         // Update the environment
         SolverConfig updatedConfig = solverConfig.copyConfig();
@@ -48,7 +48,7 @@ class VehicleRoutingConstraintProviderTest {
         LocalDateTime tomorrow_10_00 = LocalDateTime.of(TOMORROW, LocalTime.of(10, 0));
         Vehicle vehicleA = new Vehicle("1", 100, LOCATION_1, tomorrow_07_00);
         Visit visit1 = new Visit("2", "John", LOCATION_2, 80, tomorrow_08_00, tomorrow_10_00, Duration.ofMinutes(30L));
-        vehicleA.getVisits().add(visit1);
+        connect(vehicleA, visit1);
 
         constraintVerifier.verifyThat(VehicleRoutingConstraintProvider::vehicleCapacity)
                 .given(vehicleA, visit1)
@@ -62,9 +62,8 @@ class VehicleRoutingConstraintProviderTest {
         LocalDateTime tomorrow_10_00 = LocalDateTime.of(TOMORROW, LocalTime.of(10, 0));
         Vehicle vehicleA = new Vehicle("1", 100, LOCATION_1, tomorrow_07_00);
         Visit visit1 = new Visit("2", "John", LOCATION_2, 80, tomorrow_08_00, tomorrow_10_00, Duration.ofMinutes(30L));
-        vehicleA.getVisits().add(visit1);
         Visit visit2 = new Visit("3", "Paul", LOCATION_3, 40, tomorrow_08_00, tomorrow_10_00, Duration.ofMinutes(30L));
-        vehicleA.getVisits().add(visit2);
+        connect(vehicleA, visit1, visit2);
 
         constraintVerifier.verifyThat(VehicleRoutingConstraintProvider::vehicleCapacity)
                 .given(vehicleA, visit1, visit2)
@@ -78,9 +77,8 @@ class VehicleRoutingConstraintProviderTest {
         LocalDateTime tomorrow_10_00 = LocalDateTime.of(TOMORROW, LocalTime.of(10, 0));
         Vehicle vehicleA = new Vehicle("1", 100, LOCATION_1, tomorrow_07_00);
         Visit visit1 = new Visit("2", "John", LOCATION_2, 80, tomorrow_08_00, tomorrow_10_00, Duration.ofMinutes(30L));
-        vehicleA.getVisits().add(visit1);
         Visit visit2 = new Visit("3", "Paul", LOCATION_3, 40, tomorrow_08_00, tomorrow_10_00, Duration.ofMinutes(30L));
-        vehicleA.getVisits().add(visit2);
+        connect(vehicleA, visit1, visit2);
 
         constraintVerifier.verifyThat(VehicleRoutingConstraintProvider::minimizeTravelTime)
                 .given(vehicleA, visit1, visit2)
@@ -118,12 +116,21 @@ class VehicleRoutingConstraintProviderTest {
 
     static void connect(Vehicle vehicle, Visit... visits) {
         vehicle.setVisits(Arrays.asList(visits));
+        Location previousLocation = vehicle.getHomeLocation();
+        int cumulativeDemand = 0;
         for (int i = 0; i < visits.length; i++) {
             Visit visit = visits[i];
             visit.setVehicle(vehicle);
             if (i > 0) {
                 visit.setPreviousVisit(visits[i - 1]);
             }
+            if (i < visits.length - 1) {
+                visit.setNextVisit(visits[i + 1]);
+            }
+            visit.setDrivingTimeSecondsFromPreviousStandstill(previousLocation.getDrivingTimeTo(visit.getLocation()));
+            cumulativeDemand += visit.getDemand();
+            visit.setCumulativeDemand(cumulativeDemand);
+            previousLocation = visit.getLocation();
         }
     }
 }